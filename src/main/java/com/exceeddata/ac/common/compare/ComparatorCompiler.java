@@ -0,0 +1,205 @@
+package com.exceeddata.ac.common.compare;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+import com.exceeddata.ac.common.data.record.FieldAccessor;
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DataCompare;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+
+/**
+ * Compiles record comparators from a <code>Template</code> and sort keys.
+ *
+ * Each key reads its field with a <code>FieldAccessor</code> and compares by the template type of the field:
+ * when both values are non-null and of that type they are compared as primitives, otherwise the comparison
+ * falls back to <code>DataCompare.compare</code>, so the order is the same as comparing with <code>compareTo</code>.
+ */
+public final class ComparatorCompiler {
+    private ComparatorCompiler() {}
+
+    /**
+     * Compile an ascending comparator.
+     *
+     * @param template the template of the records
+     * @param names the sort key names
+     * @return Comparator
+     */
+    public static Comparator<Record> compile(final Template template, final String... names) {
+        return compile(template, names, null, ComparatorEnum.ASCENDING);
+    }
+
+    /**
+     * Compile a comparator.
+     *
+     * @param template the template of the records, null to compare all keys generally
+     * @param names the sort key names
+     * @param orders the orders of the keys, may be null or shorter than the names
+     * @param defaultOrder the order of keys without an order
+     * @return Comparator
+     */
+    public static Comparator<Record> compile(final Template template, final String[] names, final ComparatorEnum[] orders, final ComparatorEnum defaultOrder) {
+        final Key[] keys = new Key[names.length];
+        for (int i = 0; i < names.length; ++i) {
+            final boolean descending = (orders != null && i < orders.length ? orders[i] : defaultOrder) == ComparatorEnum.DESCENDING;
+            final byte type = template != null && template.contains(names[i]) ? template.get(names[i]).getDescType().getType() : Types.ANY;
+            keys[i] = key(names[i], type, descending);
+        }
+        return new CompiledComparator(keys);
+    }
+
+    private static Key key(final String name, final byte type, final boolean descending) {
+        switch (type) {
+            case Types.INT:
+            case Types.LONG:
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return new LongKey(name, type, descending);
+            case Types.FLOAT:
+                return new FloatKey(name, type, descending);
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+                return new DoubleKey(name, type, descending);
+            case Types.BOOLEAN:
+                return new BooleanKey(name, type, descending);
+            case Types.STRING:
+                return new StringKey(name, type, descending);
+            default:
+                return new Key(name, type, descending);
+        }
+    }
+
+    private static final class CompiledComparator implements Comparator<Record>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Key[] keys;
+
+        private CompiledComparator(final Key[] keys) {
+            this.keys = keys;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int compare(final Record r1, final Record r2) {
+            if (r2 == null) {
+                return r1 == null ? 0 : keys.length == 0 || !keys[0].descending ? 1 : -1;
+            } else if (r1 == null) {
+                return keys.length == 0 || !keys[0].descending ? -1 : 1;
+            }
+            for (final Key key : keys) {
+                final int c = key.compare(r1, r2);
+                if (c != 0) {
+                    return c;
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        protected final FieldAccessor accessor;
+        protected final byte type;
+        protected final boolean descending;
+
+        private Key(final String name, final byte type, final boolean descending) {
+            this.accessor = new FieldAccessor(name);
+            this.type = type;
+            this.descending = descending;
+        }
+
+        protected final int compare(final Record r1, final Record r2) {
+            final TypeData a = accessor.get(r1), b = accessor.get(r2);
+            int c;
+            if (a.getType() == type && b.getType() == type && !a.isNull() && !b.isNull()) {
+                try {
+                    c = compareValues(a, b);
+                } catch (EngineDataException e) {
+                    c = DataCompare.compare(a, b);
+                }
+            } else {
+                c = DataCompare.compare(a, b);
+            }
+            return descending ? -c : c;
+        }
+
+        protected int compareValues(final TypeData a, final TypeData b) throws EngineDataException {
+            return DataCompare.compare(a, b);
+        }
+    }
+
+    private static final class LongKey extends Key {
+        private static final long serialVersionUID = 1L;
+
+        private LongKey(final String name, final byte type, final boolean descending) {
+            super(name, type, descending);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int compareValues(final TypeData a, final TypeData b) throws EngineDataException {
+            return Long.compare(a.longValue(), b.longValue());
+        }
+    }
+
+    private static final class FloatKey extends Key {
+        private static final long serialVersionUID = 1L;
+
+        private FloatKey(final String name, final byte type, final boolean descending) {
+            super(name, type, descending);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int compareValues(final TypeData a, final TypeData b) throws EngineDataException {
+            return Float.compare(a.floatValue(), b.floatValue());
+        }
+    }
+
+    private static final class DoubleKey extends Key {
+        private static final long serialVersionUID = 1L;
+
+        private DoubleKey(final String name, final byte type, final boolean descending) {
+            super(name, type, descending);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int compareValues(final TypeData a, final TypeData b) throws EngineDataException {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+    }
+
+    private static final class BooleanKey extends Key {
+        private static final long serialVersionUID = 1L;
+
+        private BooleanKey(final String name, final byte type, final boolean descending) {
+            super(name, type, descending);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int compareValues(final TypeData a, final TypeData b) throws EngineDataException {
+            return Boolean.compare(a.booleanValue(), b.booleanValue());
+        }
+    }
+
+    private static final class StringKey extends Key {
+        private static final long serialVersionUID = 1L;
+
+        private StringKey(final String name, final byte type, final boolean descending) {
+            super(name, type, descending);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int compareValues(final TypeData a, final TypeData b) {
+            return a.toString().compareTo(b.toString());
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.util.Comparator;
 
 import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.typedata.DataCompare;
 
 /**
  * Comparator for record by field array.
@@ -14,6 +16,7 @@ public final class RecordFieldArrayComparator implements Comparator<Record>, Ser
     
     private final String[] names;
     private final ComparatorEnum[] orders;
+    private Comparator<Record> compiled = null;
     
     public RecordFieldArrayComparator(final String[] names) {
         this.names = names;
@@ -44,17 +47,32 @@ public final class RecordFieldArrayComparator implements Comparator<Record>, Ser
         }
     }
     
+    /**
+     * Construct a comparator compiled for records of a template with <code>ComparatorCompiler</code>.
+     * 
+     * @param template the template of the records
+     * @param names the field names
+     * @param orders the orders, may be null or shorter than the names
+     * @param defaultOrder the order of names without an order
+     */
+    public RecordFieldArrayComparator(final Template template, final String[] names, final ComparatorEnum[] orders, final ComparatorEnum defaultOrder) {
+        this(names, orders, defaultOrder);
+        this.compiled = ComparatorCompiler.compile(template, names, this.orders, defaultOrder);
+    }
+    
     /** {@inheritDoc} */
     @Override
     public int compare(Record r1, Record r2) {
-        if (r2 == null) {
+        if (compiled != null) {
+            return compiled.compare(r1, r2);
+        } else if (r2 == null) {
             return (r1 == null) ? 0 : (orders[0] == ComparatorEnum.ASCENDING) ? 1 : -1;
         } else if (r1 == null) {
             return orders[0] == ComparatorEnum.ASCENDING ? -1 : 1;
         } else {
             int c = 0;
             for (int i = 0; i < orders.length; ++i) {
-                if ((c = r1.get(names[i]).compareTo(r2.get(names[i]))) != 0) {
+                if ((c = DataCompare.compare(r1.get(names[i]), r2.get(names[i]))) != 0) {
                     return orders[i] == ComparatorEnum.ASCENDING ? c : -c;
                 }
             }
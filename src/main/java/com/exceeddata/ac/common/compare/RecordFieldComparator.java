@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.util.Comparator;
 
 import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.typedata.DataCompare;
 
 /**
  * Comparator for record by a field.
@@ -14,6 +16,7 @@ public final class RecordFieldComparator implements Comparator<Record>, Serializ
     
     private String name = null;
     private ComparatorEnum order = ComparatorEnum.ASCENDING;
+    private Comparator<Record> compiled = null;
     
     protected RecordFieldComparator() {}
     
@@ -26,11 +29,26 @@ public final class RecordFieldComparator implements Comparator<Record>, Serializ
         this.order = order;
     }
     
+    /**
+     * Construct a comparator compiled for records of a template with <code>ComparatorCompiler</code>.
+     * 
+     * @param template the template of the records
+     * @param name the field name
+     * @param order the order
+     */
+    public RecordFieldComparator(final Template template, final String name, final ComparatorEnum order) {
+        this(name, order);
+        this.compiled = ComparatorCompiler.compile(template, new String[] {name}, new ComparatorEnum[] {order}, order);
+    }
+    
     /** {@inheritDoc} */
     @Override
     public int compare(final Record r1, final Record r2) {
+        if (compiled != null) {
+            return compiled.compare(r1, r2);
+        }
         return order == ComparatorEnum.ASCENDING
-                ? r1.get(name).compareTo(r2.get(name))
-                : r2.get(name).compareTo(r1.get(name));
+                ? DataCompare.compare(r1.get(name), r2.get(name))
+                : DataCompare.compare(r2.get(name), r1.get(name));
     }
 }
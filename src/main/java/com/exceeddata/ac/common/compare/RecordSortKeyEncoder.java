@@ -0,0 +1,197 @@
+package com.exceeddata.ac.common.compare;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.exceeddata.ac.common.data.record.FieldAccessor;
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+
+/**
+ * Encodes the sort fields of records into order-preserving binary keys, so that records can be ordered by an
+ * unsigned byte comparison of their keys instead of <code>compareTo</code>, in the order of a
+ * <code>RecordFieldArrayComparator</code> with the same names and orders.
+ *
+ * <p>Each field is a null marker byte, 0 for null or missing and 1 otherwise, followed by the value in the encoding
+ * of its template type:</p>
+ * <ul>
+ * <li>INT, LONG, BOOLEAN, DATE, TIME and TIMESTAMP: 8 big-endian bytes of the long value with the sign bit flipped.</li>
+ * <li>FLOAT, DOUBLE, NUMERIC and DECIMAL: 8 big-endian bytes of the IEEE-754 bits, flipped so that the order is
+ * the order of <code>Double.compare</code>. Decimals are ordered by their double value.</li>
+ * <li>STRING and other types: each UTF-16 char of the string value as an order-preserving variable length
+ * integer of 1 to 3 bytes, 1 byte for ASCII, terminated by a 0 byte, which keeps the order of
+ * <code>String.compareTo</code>.</li>
+ * </ul>
+ * <p>Values are converted to the template type of their field; fields not in the template are encoded as strings.
+ * All bytes of a descending field are inverted.</p>
+ */
+public final class RecordSortKeyEncoder implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final byte NULL_MARKER = 0;
+    private static final byte VALUE_MARKER = 1;
+
+    private static final int ENCODE_LONG = 0;
+    private static final int ENCODE_DOUBLE = 1;
+    private static final int ENCODE_STRING = 2;
+
+    private final FieldAccessor[] accessors;
+    private final int[] encodings;
+    private final boolean[] descendings;
+
+    public RecordSortKeyEncoder(final Template template, final String[] names) {
+        this(template, names, null, ComparatorEnum.ASCENDING);
+    }
+
+    public RecordSortKeyEncoder(final Template template, final String[] names, final ComparatorEnum[] orders, final ComparatorEnum defaultOrder) {
+        final int size = names.length;
+        this.accessors = new FieldAccessor[size];
+        this.encodings = new int[size];
+        this.descendings = new boolean[size];
+        for (int i = 0; i < size; ++i) {
+            accessors[i] = new FieldAccessor(names[i]);
+            encodings[i] = encoding(template != null && template.contains(names[i]) ? template.get(names[i]).getDescType().getType() : Types.STRING);
+            descendings[i] = (orders != null && i < orders.length ? orders[i] : defaultOrder) == ComparatorEnum.DESCENDING;
+        }
+    }
+
+    private static int encoding(final byte type) {
+        switch (type) {
+            case Types.INT:
+            case Types.LONG:
+            case Types.BOOLEAN:
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return ENCODE_LONG;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return ENCODE_DOUBLE;
+            default:
+                return ENCODE_STRING;
+        }
+    }
+
+    /**
+     * Encode the sort key of a record.
+     *
+     * @param record the record
+     * @return byte[]
+     * @throws EngineDataException if a value can not be converted to its field type
+     */
+    public byte[] encode(final Record record) throws EngineDataException {
+        byte[] bytes = new byte[accessors.length * 9];
+        int length = 0;
+        for (int i = 0; i < accessors.length; ++i) {
+            final TypeData data = accessors[i].get(record);
+            final int start = length;
+            if (data.isNull()) {
+                bytes = ensure(bytes, length + 1);
+                bytes[length++] = NULL_MARKER;
+            } else {
+                switch (encodings[i]) {
+                    case ENCODE_LONG: {
+                        final long value = data.getType() == Types.BOOLEAN ? (data.booleanValue() ? 1l : 0l) : data.longValue();
+                        bytes = ensure(bytes, length + 9);
+                        bytes[length++] = VALUE_MARKER;
+                        length = putLong(bytes, length, value ^ Long.MIN_VALUE);
+                        break;
+                    }
+                    case ENCODE_DOUBLE: {
+                        final double value = data.getType() == Types.FLOAT ? data.floatValue() : data.doubleValue();
+                        final long bits = Double.doubleToLongBits(value);
+                        bytes = ensure(bytes, length + 9);
+                        bytes[length++] = VALUE_MARKER;
+                        length = putLong(bytes, length, bits < 0l ? ~bits : bits ^ Long.MIN_VALUE);
+                        break;
+                    }
+                    default: {
+                        final String value = data.toString();
+                        final int len = value.length();
+                        bytes = ensure(bytes, length + 2 + 3 * len);
+                        bytes[length++] = VALUE_MARKER;
+                        for (int j = 0; j < len; ++j) {
+                            length = putChar(bytes, length, value.charAt(j));
+                        }
+                        bytes[length++] = 0;
+                        break;
+                    }
+                }
+            }
+            if (descendings[i]) {
+                for (int j = start; j < length; ++j) {
+                    bytes[j] = (byte) ~bytes[j];
+                }
+            }
+        }
+        return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+    }
+
+    private static byte[] ensure(final byte[] bytes, final int capacity) {
+        return capacity <= bytes.length ? bytes : Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+
+    private static int putLong(final byte[] bytes, int offset, final long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[offset++] = (byte) (value >>> shift);
+        }
+        return offset;
+    }
+
+    /**
+     * Put a char as c + 1 in 1 byte up to 0x7F, 2 bytes 0x80-0xBF xx up to 0x3FFF, or 3 bytes 0xC0-0xC1 xx xx.
+     * The first byte decides the length and is never 0, the terminator.
+     */
+    private static int putChar(final byte[] bytes, int offset, final char c) {
+        final int v = c + 1;
+        if (v <= 0x7F) {
+            bytes[offset++] = (byte) v;
+        } else if (v <= 0x3FFF) {
+            bytes[offset++] = (byte) (0x80 | (v >>> 8));
+            bytes[offset++] = (byte) v;
+        } else {
+            bytes[offset++] = (byte) (0xC0 | (v >>> 16));
+            bytes[offset++] = (byte) (v >>> 8);
+            bytes[offset++] = (byte) v;
+        }
+        return offset;
+    }
+
+    /**
+     * Compare two keys as unsigned bytes, a prefix is less than a longer key.
+     *
+     * @param a the first key
+     * @param b the second key
+     * @return int
+     */
+    public static int compare(final byte[] a, final byte[] b) {
+        return compare(a, 0, a.length, b, 0, b.length);
+    }
+
+    /**
+     * Compare two key ranges as unsigned bytes, a prefix is less than a longer key.
+     *
+     * @param a the first bytes
+     * @param aoffset the offset of the first key
+     * @param alength the length of the first key
+     * @param b the second bytes
+     * @param boffset the offset of the second key
+     * @param blength the length of the second key
+     * @return int
+     */
+    public static int compare(final byte[] a, final int aoffset, final int alength, final byte[] b, final int boffset, final int blength) {
+        final int len = Math.min(alength, blength);
+        for (int i = 0; i < len; ++i) {
+            final int x = a[aoffset + i] & 0xFF, y = b[boffset + i] & 0xFF;
+            if (x != y) {
+                return x < y ? -1 : 1;
+            }
+        }
+        return Integer.compare(alength, blength);
+    }
+}
@@ -0,0 +1,389 @@
+package com.exceeddata.ac.common.data.collection;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.exceeddata.ac.common.data.record.FieldAccessor;
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+
+/**
+ * <code>AggregatingRecordWindow</code> defines a bounded sliding window of records that keeps running aggregates of
+ * numeric fields as records enter and leave the window.
+ *
+ * Count, sum and mean are updated in O(1) per record with a compensated (Kahan-Babuska) sum, min and max in amortized
+ * O(1) with a monotonic deque per field. Null, missing and NaN values are not aggregated; the min, max and mean of a
+ * field without values are NaN.
+ */
+public final class AggregatingRecordWindow implements RecordWindow {
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 50;
+
+    private final Record[] records;
+    private final String[] names;
+    private final Aggregate[] aggregates;
+    private int start = 0;
+    private int size = 0;
+
+    /**
+     * Construct a window.
+     *
+     * @param capacity the maximum number of records in the window, the default capacity if not positive
+     * @param names the numeric fields to aggregate
+     */
+    public AggregatingRecordWindow(final int capacity, final String... names) {
+        this.records = new Record[capacity > 0 ? capacity : DEFAULT_CAPACITY];
+        this.names = names.clone();
+        this.aggregates = new Aggregate[names.length];
+        for (int i = 0; i < names.length; ++i) {
+            aggregates[i] = new Aggregate(names[i], records.length);
+        }
+    }
+
+    public AggregatingRecordWindow(final AggregatingRecordWindow window) {
+        this.records = window.records.clone();
+        this.names = window.names;
+        this.aggregates = new Aggregate[window.aggregates.length];
+        for (int i = 0; i < aggregates.length; ++i) {
+            aggregates[i] = new Aggregate(window.aggregates[i]);
+        }
+        this.start = window.start;
+        this.size = window.size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AggregatingRecordWindow copy() {
+        return new AggregatingRecordWindow(this);
+    }
+
+    /**
+     * Add a record to the end of the window, removing the first record when the window is full.
+     *
+     * @param record the record
+     * @return the removed record, or null if the window was not full
+     * @throws EngineDataException if an aggregated field is not numeric
+     */
+    public Record add(final Record record) throws EngineDataException {
+        final double[] values = new double[aggregates.length];
+        for (int i = 0; i < aggregates.length; ++i) {
+            final TypeData data = aggregates[i].accessor.get(record);
+            values[i] = data.isNull() ? Double.NaN : data.doubleValue();
+        }
+
+        final Record removed = size == records.length ? poll() : null;
+        final int index = (start + size++) % records.length;
+        records[index] = record;
+        for (int i = 0; i < aggregates.length; ++i) {
+            aggregates[i].add(index, values[i]);
+        }
+        return removed;
+    }
+
+    /**
+     * Remove the first record in the window.
+     *
+     * @return Record
+     */
+    public Record poll() {
+        if (size == 0) {
+            return null;
+        }
+        final Record record = records[start];
+        records[start] = null;
+        for (final Aggregate aggregate : aggregates) {
+            aggregate.remove(start);
+        }
+        start = (start + 1) % records.length;
+        --size;
+        return record;
+    }
+
+    /**
+     * Get the position of an aggregated field.
+     *
+     * @param name the field name
+     * @return the position, or -1 if the field is not aggregated
+     */
+    public int indexOf(final String name) {
+        for (int i = 0; i < names.length; ++i) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the number of values of a field in the window.
+     *
+     * @param field the position of the aggregated field
+     * @return int
+     */
+    public int count(final int field) {
+        return aggregates[field].count;
+    }
+
+    /**
+     * Get the sum of a field in the window.
+     *
+     * @param field the position of the aggregated field
+     * @return double
+     */
+    public double sum(final int field) {
+        final Aggregate aggregate = aggregates[field];
+        return aggregate.sum + aggregate.compensation;
+    }
+
+    /**
+     * Get the mean of a field in the window.
+     *
+     * @param field the position of the aggregated field
+     * @return double
+     */
+    public double mean(final int field) {
+        final int count = aggregates[field].count;
+        return count != 0 ? sum(field) / count : Double.NaN;
+    }
+
+    /**
+     * Get the min of a field in the window.
+     *
+     * @param field the position of the aggregated field
+     * @return double
+     */
+    public double min(final int field) {
+        return aggregates[field].min.first();
+    }
+
+    /**
+     * Get the max of a field in the window.
+     *
+     * @param field the position of the aggregated field
+     * @return double
+     */
+    public double max(final int field) {
+        return aggregates[field].max.first();
+    }
+
+    /**
+     * Get the maximum number of records in the window.
+     *
+     * @return int
+     */
+    public int capacity() {
+        return records.length;
+    }
+
+    /**
+     * Get whether the window is full.
+     *
+     * @return true or false
+     */
+    public boolean isFull() {
+        return size == records.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<Record> iterator() {
+        return new RecordWindowIterator(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<Record> iterator(final int begin, final int end) {
+        return new RecordWindowIterator(this, begin, end);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<Record> reverseIterator(final int begin, final int end) {
+        return new RecordWindowReverseIterator(this, begin, end);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peek() {
+        return size != 0 ? records[start] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peek(final int n) {
+        return get(n);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peekLast() {
+        return size != 0 ? records[(start + size - 1) % records.length] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peekLast(final int n) {
+        return get(size - n - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record get(final int position) {
+        return position >= 0 && position < size ? records[(start + position) % records.length] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        Arrays.fill(records, null);
+        for (final Aggregate aggregate : aggregates) {
+            aggregate.clear();
+        }
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * The running aggregates of a field. Values are stored by the ring position of their records.
+     */
+    private static final class Aggregate implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final FieldAccessor accessor;
+        private final double[] values;
+        private final MonotonicDeque min;
+        private final MonotonicDeque max;
+        private int count = 0;
+        private double sum = 0d;
+        private double compensation = 0d;
+
+        private Aggregate(final String name, final int capacity) {
+            this.accessor = new FieldAccessor(name);
+            this.values = new double[capacity];
+            this.min = new MonotonicDeque(values, false);
+            this.max = new MonotonicDeque(values, true);
+        }
+
+        private Aggregate(final Aggregate aggregate) {
+            this.accessor = aggregate.accessor;
+            this.values = aggregate.values.clone();
+            this.min = new MonotonicDeque(aggregate.min, values);
+            this.max = new MonotonicDeque(aggregate.max, values);
+            this.count = aggregate.count;
+            this.sum = aggregate.sum;
+            this.compensation = aggregate.compensation;
+        }
+
+        private void add(final int index, final double value) {
+            values[index] = value;
+            if (!Double.isNaN(value)) {
+                ++count;
+                accumulate(value);
+                min.add(index);
+                max.add(index);
+            }
+        }
+
+        private void remove(final int index) {
+            final double value = values[index];
+            if (!Double.isNaN(value)) {
+                if (--count == 0) {
+                    sum = 0d;
+                    compensation = 0d;
+                } else {
+                    accumulate(-value);
+                }
+                min.remove(index);
+                max.remove(index);
+            }
+        }
+
+        private void accumulate(final double value) {
+            final double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+        }
+
+        private void clear() {
+            count = 0;
+            sum = 0d;
+            compensation = 0d;
+            min.clear();
+            max.clear();
+        }
+    }
+
+    /**
+     * A deque of ring positions whose values are monotonic, so the first position holds the min or max of the window.
+     */
+    private static final class MonotonicDeque implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] values;
+        private final int[] positions;
+        private final boolean descending;
+        private int head = 0;
+        private int size = 0;
+
+        private MonotonicDeque(final double[] values, final boolean descending) {
+            this.values = values;
+            this.positions = new int[values.length];
+            this.descending = descending;
+        }
+
+        private MonotonicDeque(final MonotonicDeque deque, final double[] values) {
+            this.values = values;
+            this.positions = deque.positions.clone();
+            this.descending = deque.descending;
+            this.head = deque.head;
+            this.size = deque.size;
+        }
+
+        private void add(final int index) {
+            final double value = values[index];
+            while (size > 0) {
+                final double last = values[positions[(head + size - 1) % positions.length]];
+                if (descending ? last < value : last > value) {
+                    --size;
+                } else {
+                    break;
+                }
+            }
+            positions[(head + size++) % positions.length] = index;
+        }
+
+        private void remove(final int index) {
+            if (size > 0 && positions[head] == index) {
+                head = (head + 1) % positions.length;
+                --size;
+            }
+        }
+
+        private double first() {
+            return size > 0 ? values[positions[head]] : Double.NaN;
+        }
+
+        private void clear() {
+            head = 0;
+            size = 0;
+        }
+    }
+}
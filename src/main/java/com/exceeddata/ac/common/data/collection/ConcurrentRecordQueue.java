@@ -0,0 +1,280 @@
+package com.exceeddata.ac.common.data.collection;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import com.exceeddata.ac.common.data.record.Record;
+
+/**
+ * <code>ConcurrentRecordQueue</code> defines a bounded lock-free queue of records for handing records between the
+ * stages of a pipeline, with any number of producer threads and a single consumer thread.
+ *
+ * Each slot of the ring carries a sequence number, so producers claim a slot with one CAS on the tail and publish it
+ * with an ordered write of its sequence, and the consumer never contends with producers. <code>offer</code> and
+ * <code>poll</code> never wait; <code>put</code> and <code>take</code> wait with the <code>WaitStrategy</code> of the
+ * queue, which gives producers backpressure when the consumer falls behind. Producers call <code>close()</code> after
+ * their last record, then <code>take</code> returns null once the queue is drained.
+ *
+ * The blocking <code>iterator()</code> can be given to <code>RecordViewQueue.updateDataIterator</code> to consume the
+ * queue with the existing poll semantics.
+ */
+public final class ConcurrentRecordQueue {
+    private static final int SPINS = 100;
+    private static final long PARK_NANOS = 50000l;
+
+    /**
+     * How a blocked producer or consumer waits for the queue.
+     */
+    public enum WaitStrategy {
+        /** Spin on the CPU, lowest latency, occupies a core while waiting. */
+        BUSY_SPIN,
+        /** Yield the CPU between checks. */
+        YIELD,
+        /** Spin briefly, then park the thread between checks. */
+        PARK
+    }
+
+    private final AtomicReferenceArray<Record> buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private volatile boolean closed = false;
+
+    public ConcurrentRecordQueue(final int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     * Construct a queue.
+     *
+     * @param capacity the capacity, rounded up to a power of 2
+     * @param waitStrategy the wait strategy of put and take
+     */
+    public ConcurrentRecordQueue(final int capacity, final WaitStrategy waitStrategy) {
+        final int size = capacity <= 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy != null ? waitStrategy : WaitStrategy.PARK;
+        for (int i = 0; i < size; ++i) {
+            sequences.lazySet(i, i);
+        }
+    }
+
+    /**
+     * Add a record if the queue is not full, from any producer thread.
+     *
+     * @param record the record, not null
+     * @return false if the queue is full or closed
+     */
+    public boolean offer(final Record record) {
+        if (record == null) {
+            throw new NullPointerException();
+        } else if (closed) {
+            return false;
+        }
+        while (true) {
+            final long t = tail.get();
+            final int index = (int) t & mask;
+            final long diff = sequences.get(index) - t;
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    buffer.lazySet(index, record);
+                    sequences.lazySet(index, t + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Add a record, waiting while the queue is full.
+     *
+     * @param record the record, not null
+     * @return false if the queue is closed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean put(final Record record) throws InterruptedException {
+        for (int attempts = 0; !offer(record); ++attempts) {
+            if (closed) {
+                return false;
+            }
+            idle(attempts);
+        }
+        return true;
+    }
+
+    /**
+     * Remove the first record if any, from the consumer thread.
+     *
+     * @return Record, or null if the queue is empty
+     */
+    public Record poll() {
+        final long h = head.get();
+        final int index = (int) h & mask;
+        if (sequences.get(index) != h + 1) {
+            return null;
+        }
+        final Record record = buffer.get(index);
+        buffer.lazySet(index, null);
+        sequences.lazySet(index, h + mask + 1);
+        head.lazySet(h + 1);
+        return record;
+    }
+
+    /**
+     * Remove the first record, waiting while the queue is empty and not closed.
+     *
+     * @return Record, or null if the queue is closed and drained
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public Record take() throws InterruptedException {
+        for (int attempts = 0; ; ++attempts) {
+            final Record record = poll();
+            if (record != null) {
+                return record;
+            } else if (closed) {
+                return poll();
+            }
+            idle(attempts);
+        }
+    }
+
+    /**
+     * Remove up to max records into a collection without waiting, from the consumer thread.
+     *
+     * @param target the target collection
+     * @param max the maximum number of records
+     * @return the number of records removed
+     */
+    public int drainTo(final Collection<? super Record> target, final int max) {
+        int count = 0;
+        Record record;
+        while (count < max && (record = poll()) != null) {
+            target.add(record);
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Remove up to max records into a record collection without waiting, from the consumer thread.
+     *
+     * @param target the target collection
+     * @param max the maximum number of records
+     * @return the number of records removed
+     */
+    public int drainTo(final RecordCollection target, final int max) {
+        int count = 0;
+        Record record;
+        while (count < max && (record = poll()) != null) {
+            target.add(record);
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Get a blocking iterator for the consumer thread, which ends when the queue is closed and drained.
+     * An interrupt while waiting ends the iteration and keeps the interrupt status of the thread.
+     *
+     * @return Iterator
+     */
+    public Iterator<Record> iterator() {
+        return new Iterator<Record>() {
+            private Record next = null;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Record next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Record record = next;
+                next = null;
+                return record;
+            }
+        };
+    }
+
+    /**
+     * Mark the end of the input, after the last record of all producers.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Get whether the queue is closed.
+     *
+     * @return true or false
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Get the approximate number of records in the queue.
+     *
+     * @return int
+     */
+    public int size() {
+        final long size = tail.get() - head.get();
+        return size <= 0 ? 0 : (int) Math.min(size, mask + 1);
+    }
+
+    /**
+     * Get whether the queue is empty.
+     *
+     * @return true or false
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Get the capacity of the queue.
+     *
+     * @return int
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private void idle(final int attempts) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                if (attempts >= SPINS) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.exceeddata.ac.common.data.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.exception.EngineDataException;
+import com.exceeddata.ac.common.exception.operation.ParameterValueException;
+
+/**
+ * <code>HoppingRecordWindow</code> defines fixed size time windows starting at every multiple of the hop, emitted as
+ * record collections when a record arrives after their end. Windows overlap when the hop is less than the size and
+ * tumble when the hop equals the size. Windows without records are skipped.
+ */
+public final class HoppingRecordWindow extends TimeKeyedRecordWindow {
+    private static final long serialVersionUID = 1L;
+
+    private final long windowSize;
+    private final long hop;
+    private long windowStart = 0;
+    private boolean started = false;
+
+    /**
+     * Construct a window.
+     *
+     * @param timeName the name of the timestamp field
+     * @param windowSize the size of each window in milliseconds
+     * @param hop the time between the starts of consecutive windows in milliseconds
+     * @throws ParameterValueException if the size or hop is not positive
+     */
+    public HoppingRecordWindow(final String timeName, final long windowSize, final long hop) throws ParameterValueException {
+        super(timeName);
+        if (windowSize <= 0 || hop <= 0) {
+            throw new ParameterValueException("WINDOW_SIZE_INVALID: size " + windowSize + " hop " + hop);
+        }
+        this.windowSize = windowSize;
+        this.hop = hop;
+    }
+
+    public HoppingRecordWindow(final HoppingRecordWindow window) {
+        super(window);
+        this.windowSize = window.windowSize;
+        this.hop = window.hop;
+        this.windowStart = window.windowStart;
+        this.started = window.started;
+    }
+
+    /**
+     * Construct a tumbling window, where each record is in exactly one window.
+     *
+     * @param timeName the name of the timestamp field
+     * @param windowSize the size of each window in milliseconds
+     * @return HoppingRecordWindow
+     * @throws ParameterValueException if the size is not positive
+     */
+    public static HoppingRecordWindow tumbling(final String timeName, final long windowSize) throws ParameterValueException {
+        return new HoppingRecordWindow(timeName, windowSize, windowSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HoppingRecordWindow copy() {
+        return new HoppingRecordWindow(this);
+    }
+
+    /**
+     * Add a record, emitting the windows that end at or before its time.
+     *
+     * @param record the record
+     * @return the records of each closed window in time order, empty if no window is closed
+     * @throws EngineDataException if the time is null or not a timestamp
+     */
+    public List<RecordCollection> add(final Record record) throws EngineDataException {
+        final long time = timeOf(record);
+        List<RecordCollection> closed = Collections.emptyList();
+        if (!started) {
+            windowStart = firstStart(time);
+            started = true;
+        }
+        while (time >= windowStart + windowSize) {
+            if (isEmpty()) {
+                windowStart = Math.max(windowStart, firstStart(time));
+                break;
+            }
+            final long first = firstStart(firstTime());
+            if (first > windowStart) {
+                windowStart = first;
+                evictBefore(windowStart);
+                continue;
+            }
+            final RecordCollection collection = between(windowStart, windowStart + windowSize);
+            if (!collection.isEmpty()) {
+                if (closed.isEmpty()) {
+                    closed = new ArrayList<>();
+                }
+                closed.add(collection);
+            }
+            windowStart += hop;
+            evictBefore(windowStart);
+        }
+        append(record, time);
+        return closed;
+    }
+
+    /**
+     * Close all windows with records, for the end of the input.
+     *
+     * @return the records of each closed window in time order
+     */
+    public List<RecordCollection> flush() {
+        final List<RecordCollection> closed = new ArrayList<>();
+        while (!isEmpty()) {
+            windowStart = Math.max(windowStart, firstStart(firstTime()));
+            final RecordCollection collection = between(windowStart, windowStart + windowSize);
+            if (!collection.isEmpty()) {
+                closed.add(collection);
+            }
+            windowStart += hop;
+            evictBefore(windowStart);
+        }
+        started = false;
+        return closed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        super.clear();
+        started = false;
+    }
+
+    /**
+     * Get the start time of the earliest window containing or after a time.
+     */
+    private long firstStart(final long time) {
+        return (Math.floorDiv(time - windowSize, hop) + 1) * hop;
+    }
+
+    /**
+     * Get the start time of the oldest open window.
+     *
+     * @return long
+     */
+    public long getWindowStart() {
+        return windowStart;
+    }
+
+    /**
+     * Get the size of each window in milliseconds.
+     *
+     * @return long
+     */
+    public long getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Get the time between the starts of consecutive windows in milliseconds.
+     *
+     * @return long
+     */
+    public long getHop() {
+        return hop;
+    }
+}
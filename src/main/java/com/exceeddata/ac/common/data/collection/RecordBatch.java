@@ -0,0 +1,467 @@
+package com.exceeddata.ac.common.data.collection;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import com.exceeddata.ac.common.data.record.FieldAccessor;
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.record.RecordBuilder;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.BooleanData;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.FloatData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.NullData;
+import com.exceeddata.ac.common.data.typedata.TimestampData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+
+/**
+ * <code>RecordBatch</code> defines a columnar batch of records sharing a fixed <code>Template</code>.
+ *
+ * Numeric, boolean and timestamp fields are stored as one primitive array per field plus a null bitmap,
+ * all other types are stored as a <code>TypeData</code> array. Rows are exposed as records sharing the
+ * names and positions of a single template record, so only the data array is allocated per row.
+ */
+public final class RecordBatch implements Serializable, Iterable<Record> {
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private Record template = null;
+    private String[] names = null;
+    private FieldAccessor[] accessors = null;
+    private byte[] types = null;
+    private Object[] columns = null;
+    private long[][] nulls = null;
+    private int capacity = 0;
+    private int size = 0;
+
+    public RecordBatch(final Template template) {
+        this(template, DEFAULT_CAPACITY);
+    }
+
+    public RecordBatch(final Template template, final int capacity) {
+        final List<String> tnames = template.names();
+        final int fields = tnames.size();
+
+        this.names = tnames.toArray(new String[fields]);
+        this.types = template.types();
+        this.template = RecordBuilder.newTemplateRecord(template);
+        this.accessors = new FieldAccessor[fields];
+        this.columns = new Object[fields];
+        this.nulls = new long[fields][];
+        this.capacity = capacity > 0 ? capacity : DEFAULT_CAPACITY;
+
+        for (int i = 0; i < fields; ++i) {
+            accessors[i] = new FieldAccessor(names[i]);
+            columns[i] = newColumn(types[i], this.capacity);
+            nulls[i] = new long[words(this.capacity)];
+        }
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get whether the batch has no rows.
+     *
+     * @return true or false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of fields.
+     *
+     * @return int
+     */
+    public int fields() {
+        return names.length;
+    }
+
+    /**
+     * Get the name of a field.
+     *
+     * @param column the column
+     * @return String
+     */
+    public String nameAt(final int column) {
+        return names[column];
+    }
+
+    /**
+     * Get the type of a field.
+     *
+     * @param column the column
+     * @return byte
+     */
+    public byte typeAt(final int column) {
+        return types[column];
+    }
+
+    /**
+     * Get the column index of a field name. -1 if not found.
+     *
+     * @param name the name
+     * @return int
+     */
+    public int indexOf(final String name) {
+        return template.indexOf(name);
+    }
+
+    /**
+     * Clear all rows while retaining the allocated columns.
+     */
+    public void clear() {
+        for (int i = 0; i < columns.length; ++i) {
+            Arrays.fill(nulls[i], 0l);
+            if (columns[i] instanceof TypeData[]) {
+                Arrays.fill((TypeData[]) columns[i], 0, size, null);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Append an empty row with all fields null and return its row number.
+     *
+     * @return int
+     */
+    public int addRow() {
+        if (size == capacity) {
+            ensureCapacity(capacity + Math.max(capacity >> 1, DEFAULT_CAPACITY));
+        }
+        final int row = size++;
+        for (int i = 0; i < columns.length; ++i) {
+            nulls[i][row >>> 6] |= 1l << row;
+        }
+        return row;
+    }
+
+    /**
+     * Append a record. Fields are matched by name, missing fields are set to null.
+     *
+     * @param record the record
+     * @return RecordBatch
+     * @throws EngineDataException if a field value cannot be converted to the column type
+     */
+    public RecordBatch add(final Record record) throws EngineDataException {
+        final int row = addRow();
+        for (int i = 0; i < columns.length; ++i) {
+            set(row, i, record.get(accessors[i]));
+        }
+        return this;
+    }
+
+    /**
+     * Append all records of a window.
+     *
+     * @param window the window
+     * @return RecordBatch
+     * @throws EngineDataException if a field value cannot be converted to the column type
+     */
+    public RecordBatch addAll(final RecordWindow window) throws EngineDataException {
+        final int wsize = window.size();
+        if (size + wsize > capacity) {
+            ensureCapacity(size + wsize);
+        }
+        for (int i = 0; i < wsize; ++i) {
+            add(window.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * Ensure the capacity of the columns.
+     *
+     * @param ncapacity the new capacity
+     */
+    public void ensureCapacity(final int ncapacity) {
+        if (ncapacity <= capacity) {
+            return;
+        }
+
+        for (int i = 0; i < columns.length; ++i) {
+            final Object column = columns[i];
+            final Object ncolumn = newColumn(types[i], ncapacity);
+            System.arraycopy(column, 0, ncolumn, 0, size);
+            columns[i] = ncolumn;
+            nulls[i] = Arrays.copyOf(nulls[i], words(ncapacity));
+        }
+        capacity = ncapacity;
+    }
+
+    /**
+     * Get whether the value at a row and column is null.
+     *
+     * @param row the row
+     * @param column the column
+     * @return true or false
+     */
+    public boolean isNull(final int row, final int column) {
+        return (nulls[column][row >>> 6] & (1l << row)) != 0;
+    }
+
+    /**
+     * Set the value at a row and column to null.
+     *
+     * @param row the row
+     * @param column the column
+     * @return RecordBatch
+     */
+    public RecordBatch setNull(final int row, final int column) {
+        nulls[column][row >>> 6] |= 1l << row;
+        if (columns[column] instanceof TypeData[]) {
+            ((TypeData[]) columns[column])[row] = null;
+        }
+        return this;
+    }
+
+    /**
+     * Get the int value of an INT column. Undefined if the value is null.
+     *
+     * @param row the row
+     * @param column the column
+     * @return int
+     */
+    public int getInt(final int row, final int column) {
+        return ((int[]) columns[column])[row];
+    }
+
+    /**
+     * Get the long value of a LONG or TIMESTAMP column. Undefined if the value is null.
+     *
+     * @param row the row
+     * @param column the column
+     * @return long
+     */
+    public long getLong(final int row, final int column) {
+        return ((long[]) columns[column])[row];
+    }
+
+    /**
+     * Get the float value of a FLOAT column. Undefined if the value is null.
+     *
+     * @param row the row
+     * @param column the column
+     * @return float
+     */
+    public float getFloat(final int row, final int column) {
+        return ((float[]) columns[column])[row];
+    }
+
+    /**
+     * Get the double value of a DOUBLE column. Undefined if the value is null.
+     *
+     * @param row the row
+     * @param column the column
+     * @return double
+     */
+    public double getDouble(final int row, final int column) {
+        return ((double[]) columns[column])[row];
+    }
+
+    /**
+     * Get the boolean value of a BOOLEAN column. Undefined if the value is null.
+     *
+     * @param row the row
+     * @param column the column
+     * @return boolean
+     */
+    public boolean getBoolean(final int row, final int column) {
+        return ((boolean[]) columns[column])[row];
+    }
+
+    public RecordBatch setInt(final int row, final int column, final int value) {
+        ((int[]) columns[column])[row] = value;
+        nulls[column][row >>> 6] &= ~(1l << row);
+        return this;
+    }
+
+    public RecordBatch setLong(final int row, final int column, final long value) {
+        ((long[]) columns[column])[row] = value;
+        nulls[column][row >>> 6] &= ~(1l << row);
+        return this;
+    }
+
+    public RecordBatch setFloat(final int row, final int column, final float value) {
+        ((float[]) columns[column])[row] = value;
+        nulls[column][row >>> 6] &= ~(1l << row);
+        return this;
+    }
+
+    public RecordBatch setDouble(final int row, final int column, final double value) {
+        ((double[]) columns[column])[row] = value;
+        nulls[column][row >>> 6] &= ~(1l << row);
+        return this;
+    }
+
+    public RecordBatch setBoolean(final int row, final int column, final boolean value) {
+        ((boolean[]) columns[column])[row] = value;
+        nulls[column][row >>> 6] &= ~(1l << row);
+        return this;
+    }
+
+    /**
+     * Set the value at a row and column from a data.
+     *
+     * @param row the row
+     * @param column the column
+     * @param data the data
+     * @return RecordBatch
+     * @throws EngineDataException if the data cannot be converted to the column type
+     */
+    public RecordBatch set(final int row, final int column, final TypeData data) throws EngineDataException {
+        if (data == null || data.isNull()) {
+            return setNull(row, column);
+        }
+
+        switch (types[column]) {
+            case Types.INT:         return setInt(row, column, data.toInt());
+            case Types.LONG:
+            case Types.TIMESTAMP:   return setLong(row, column, data.toLong());
+            case Types.FLOAT:       return setFloat(row, column, data.toFloat());
+            case Types.DOUBLE:      return setDouble(row, column, data.toDouble());
+            case Types.BOOLEAN:     return setBoolean(row, column, data.toBoolean());
+            default:
+                ((TypeData[]) columns[column])[row] = data;
+                nulls[column][row >>> 6] &= ~(1l << row);
+                return this;
+        }
+    }
+
+    /**
+     * Get the value at a row and column as a data.
+     *
+     * @param row the row
+     * @param column the column
+     * @return TypeData
+     */
+    public TypeData get(final int row, final int column) {
+        if ((nulls[column][row >>> 6] & (1l << row)) != 0) {
+            return NullData.INSTANCE;
+        }
+
+        switch (types[column]) {
+            case Types.INT:         return IntData.nonNullValueOf(((int[]) columns[column])[row]);
+            case Types.LONG:        return LongData.nonNullValueOf(((long[]) columns[column])[row]);
+            case Types.TIMESTAMP:   return TimestampData.valueOf(((long[]) columns[column])[row]);
+            case Types.FLOAT:       return FloatData.nonNullValueOf(((float[]) columns[column])[row]);
+            case Types.DOUBLE:      return DoubleData.nonNullValueOf(((double[]) columns[column])[row]);
+            case Types.BOOLEAN:     return ((boolean[]) columns[column])[row] ? BooleanData.TRUE : BooleanData.FALSE;
+            default:                return ((TypeData[]) columns[column])[row];
+        }
+    }
+
+    /**
+     * Get a row as a record. The record shares names and positions with all other rows of the batch.
+     *
+     * @param row the row
+     * @return Record
+     */
+    public Record get(final int row) {
+        return fill(row, template.unsafeNoDataCopy());
+    }
+
+    /**
+     * Fill a record obtained from <code>get(int)</code> or <code>newRecord()</code> with the values of a row.
+     * This allows iterating a batch with a single reused record.
+     *
+     * @param row the row
+     * @param record the record of the batch layout
+     * @return Record
+     */
+    public Record fill(final int row, final Record record) {
+        for (int i = 0; i < columns.length; ++i) {
+            record.setAt(i, get(row, i));
+        }
+        return record;
+    }
+
+    /**
+     * Get a new empty record of the batch layout.
+     *
+     * @return Record
+     */
+    public Record newRecord() {
+        return template.templateCopy();
+    }
+
+    /**
+     * Return unsafe reference to a column array.
+     *
+     * @param column the column
+     * @return the underlying int[], long[], float[], double[], boolean[] or TypeData[]
+     */
+    public Object unsafeColumn(final int column) {
+        return columns[column];
+    }
+
+    /**
+     * Return unsafe reference to a column null bitmap, one bit per row.
+     *
+     * @param column the column
+     * @return long[]
+     */
+    public long[] unsafeNulls(final int column) {
+        return nulls[column];
+    }
+
+    /**
+     * Convert the batch into a record collection.
+     *
+     * @return RecordCollection
+     */
+    public RecordCollection toCollection() {
+        final RecordCollection collection = new RecordCollection(size);
+        for (int i = 0; i < size; ++i) {
+            collection.add(get(i));
+        }
+        return collection;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<Record> iterator() {
+        return new Iterator<Record>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public Record next() {
+                return get(current++);
+            }
+        };
+    }
+
+    private static int words(final int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+
+    private static Object newColumn(final byte type, final int capacity) {
+        switch (type) {
+            case Types.INT:         return new int[capacity];
+            case Types.LONG:
+            case Types.TIMESTAMP:   return new long[capacity];
+            case Types.FLOAT:       return new float[capacity];
+            case Types.DOUBLE:      return new double[capacity];
+            case Types.BOOLEAN:     return new boolean[capacity];
+            default:                return new TypeData[capacity];
+        }
+    }
+}
@@ -9,6 +9,10 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.exceeddata.ac.common.data.record.Record;
 
@@ -242,17 +246,61 @@ public final class RecordCollection implements RecordWindow, Externalizable, Com
      * @return RecordCollection
      */
     public RecordCollection sort(final Comparator<Record> comparator) {
-        if (start + size < records.length) {
-            Arrays.sort(records, start, start + size, comparator);
-        } else {
+        unwrap();
+        Arrays.sort(records, start, start + size, comparator);
+        return this;
+    }
+    
+    /**
+     * Sort a record collection with <code>Arrays.parallelSort</code>, using the common fork join pool.
+     * 
+     * @param comparator the comparator
+     * @return RecordCollection
+     */
+    public RecordCollection parallelSort(final Comparator<Record> comparator) {
+        unwrap();
+        Arrays.parallelSort(records, start, start + size, comparator);
+        return this;
+    }
+    
+    /**
+     * Move the records to the start of the array if they wrap around the end.
+     */
+    private void unwrap() {
+        if (start + size > records.length) {
             final Record[] tmp = new Record[records.length];
             System.arraycopy(records, start, tmp, 0, records.length - start);
             System.arraycopy(records, 0, tmp, records.length - start, size + start - records.length);
             records = tmp;
             start = 0;
-            Arrays.sort(records, 0, size, comparator);
         }
-        return this;
+    }
+    
+    /**
+     * Get a spliterator over the records, which is SIZED and SUBSIZED and splits in halves.
+     * 
+     * @return Spliterator
+     */
+    public Spliterator<Record> spliterator() {
+        return new RecordCollectionSpliterator(records, start, 0, size);
+    }
+    
+    /**
+     * Get a sequential stream of the records.
+     * 
+     * @return Stream
+     */
+    public Stream<Record> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    /**
+     * Get a parallel stream of the records.
+     * 
+     * @return Stream
+     */
+    public Stream<Record> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
     }
     
     /**
@@ -403,4 +451,66 @@ public final class RecordCollection implements RecordWindow, Externalizable, Com
         
         return this.compareTo((RecordCollection) obj) == 0;
     }
+    
+    /**
+     * Spliterator over the logical positions of a ring buffer, from begin inclusive to end exclusive.
+     */
+    private static final class RecordCollectionSpliterator implements Spliterator<Record> {
+        private final Record[] records;
+        private final int start;
+        private int begin;
+        private final int end;
+        
+        private RecordCollectionSpliterator(final Record[] records, final int start, final int begin, final int end) {
+            this.records = records;
+            this.start = start;
+            this.begin = begin;
+            this.end = end;
+        }
+        
+        /** {@inheritDoc} */
+        @Override
+        public boolean tryAdvance(final Consumer<? super Record> action) {
+            if (begin < end) {
+                action.accept(records[(start + begin++) % records.length]);
+                return true;
+            }
+            return false;
+        }
+        
+        /** {@inheritDoc} */
+        @Override
+        public void forEachRemaining(final Consumer<? super Record> action) {
+            final int length = records.length;
+            for (int i = begin; i < end; ++i) {
+                final int index = start + i;
+                action.accept(records[index < length ? index : index - length]);
+            }
+            begin = end;
+        }
+        
+        /** {@inheritDoc} */
+        @Override
+        public Spliterator<Record> trySplit() {
+            final int middle = (begin + end) >>> 1;
+            if (middle <= begin) {
+                return null;
+            }
+            final Spliterator<Record> prefix = new RecordCollectionSpliterator(records, start, begin, middle);
+            begin = middle;
+            return prefix;
+        }
+        
+        /** {@inheritDoc} */
+        @Override
+        public long estimateSize() {
+            return end - begin;
+        }
+        
+        /** {@inheritDoc} */
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
 }
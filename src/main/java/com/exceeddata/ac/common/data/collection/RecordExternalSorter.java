@@ -0,0 +1,377 @@
+package com.exceeddata.ac.common.data.collection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.record.RecordCodec;
+
+/**
+ * <code>RecordExternalSorter</code> sorts more records than fit in memory.
+ *
+ * Added records are buffered until their estimated size reaches the memory budget, then the buffer is sorted
+ * with <code>Arrays.parallelSort</code> and spilled to a temporary run file in the <code>RecordCodec</code> format,
+ * framed in length prefixed blocks. <code>iterator()</code> merges the runs through a loser tree, or sorts in memory
+ * when nothing was spilled. At most fan-in runs are open at a time: with more runs, consecutive groups of runs are
+ * first merged into longer runs, pass after pass. The sort is stable, records comparing equal are returned in the
+ * order they were added.
+ *
+ * A sorter is used by one thread. <code>close()</code> deletes the run files.
+ */
+public final class RecordExternalSorter implements Closeable {
+    private static final long DEFAULT_MEMORY_BUDGET = 64l << 20;
+    private static final int BLOCK_SIZE = 64 << 10;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_FAN_IN = 64;
+
+    private final Comparator<Record> comparator;
+    private final long memoryBudget;
+    private final File directory;
+    private final int fanIn;
+    private final List<File> runs = new ArrayList<>();
+    private final List<RunReader> readers = new ArrayList<>();
+    private Record[] buffer = new Record[DEFAULT_CAPACITY];
+    private int size = 0;
+    private long bufferBytes = 0;
+    private long count = 0;
+
+    public RecordExternalSorter(final Comparator<Record> comparator) {
+        this(comparator, DEFAULT_MEMORY_BUDGET, null);
+    }
+
+    /**
+     * Construct a sorter.
+     *
+     * @param comparator the comparator
+     * @param memoryBudget the estimated bytes of records to buffer before spilling a run
+     * @param directory the directory of the run files, null for the default temporary directory
+     */
+    public RecordExternalSorter(final Comparator<Record> comparator, final long memoryBudget, final File directory) {
+        this(comparator, memoryBudget, directory, DEFAULT_FAN_IN);
+    }
+
+    /**
+     * Construct a sorter.
+     *
+     * @param comparator the comparator
+     * @param memoryBudget the estimated bytes of records to buffer before spilling a run
+     * @param directory the directory of the run files, null for the default temporary directory
+     * @param fanIn the maximum number of runs merged at a time, at least 2
+     */
+    public RecordExternalSorter(final Comparator<Record> comparator, final long memoryBudget, final File directory, final int fanIn) {
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget > 0 ? memoryBudget : DEFAULT_MEMORY_BUDGET;
+        this.directory = directory;
+        this.fanIn = fanIn >= 2 ? fanIn : DEFAULT_FAN_IN;
+    }
+
+    /**
+     * Add a record.
+     *
+     * @param record the record
+     * @return RecordExternalSorter
+     * @throws IOException if a run can not be spilled
+     */
+    public RecordExternalSorter add(final Record record) throws IOException {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, size + (size >> 1));
+        }
+        buffer[size++] = record;
+        bufferBytes += estimate(record);
+        ++count;
+        if (bufferBytes >= memoryBudget) {
+            spill();
+        }
+        return this;
+    }
+
+    /**
+     * Add all records of an iterable.
+     *
+     * @param records the records
+     * @return RecordExternalSorter
+     * @throws IOException if a run can not be spilled
+     */
+    public RecordExternalSorter addAll(final Iterable<Record> records) throws IOException {
+        for (final Record record : records) {
+            add(record);
+        }
+        return this;
+    }
+
+    /**
+     * Get the number of records added.
+     *
+     * @return long
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Get the number of runs spilled to disk.
+     *
+     * @return int
+     */
+    public int runs() {
+        return runs.size();
+    }
+
+    /**
+     * Sort the added records and return them in order. No more records can be added while iterating.
+     *
+     * @return Iterator
+     * @throws IOException if a run can not be spilled or read
+     */
+    public Iterator<Record> iterator() throws IOException {
+        if (runs.isEmpty()) {
+            Arrays.parallelSort(buffer, 0, size, comparator);
+            return Collections.unmodifiableList(Arrays.asList(buffer).subList(0, size)).iterator();
+        }
+        if (size > 0) {
+            spill();
+        }
+        closeReaders();
+        while (runs.size() > fanIn) {
+            mergePass();
+        }
+        return open(runs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        closeReaders();
+        for (final File run : runs) {
+            run.delete();
+        }
+        runs.clear();
+        buffer = new Record[DEFAULT_CAPACITY];
+        size = 0;
+        bufferBytes = 0;
+        count = 0;
+    }
+
+    private LoserTree open(final List<File> group) throws IOException {
+        for (final File run : group) {
+            readers.add(new RunReader(run));
+        }
+        return new LoserTree(readers.toArray(new RunReader[readers.size()]), comparator);
+    }
+
+    /**
+     * Merge each group of fan-in consecutive runs into one run, which keeps the runs in the order they were added.
+     */
+    private void mergePass() throws IOException {
+        final List<File> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += fanIn) {
+                final List<File> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                final File run = File.createTempFile("records", ".run", directory);
+                merged.add(run);
+                try {
+                    write(run, open(group));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                } finally {
+                    closeReaders();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (final File run : merged) {
+                if (!runs.contains(run)) {
+                    run.delete();
+                }
+            }
+            throw e;
+        }
+
+        for (final File run : runs) {
+            if (!merged.contains(run)) {
+                run.delete();
+            }
+        }
+        runs.clear();
+        runs.addAll(merged);
+    }
+
+    private void closeReaders() throws IOException {
+        for (final RunReader reader : readers) {
+            reader.close();
+        }
+        readers.clear();
+    }
+
+    private void spill() throws IOException {
+        Arrays.parallelSort(buffer, 0, size, comparator);
+        final File run = File.createTempFile("records", ".run", directory);
+        runs.add(run);
+        write(run, Arrays.asList(buffer).subList(0, size).iterator());
+        Arrays.fill(buffer, 0, size, null);
+        size = 0;
+        bufferBytes = 0;
+    }
+
+    private static void write(final File run, final Iterator<Record> records) throws IOException {
+        final RecordCodec codec = new RecordCodec(BLOCK_SIZE + (BLOCK_SIZE >> 2));
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run), BLOCK_SIZE))) {
+            while (records.hasNext()) {
+                codec.encode(records.next());
+                if (codec.size() >= BLOCK_SIZE) {
+                    writeBlock(out, codec);
+                }
+            }
+            if (codec.size() > 0) {
+                writeBlock(out, codec);
+            }
+        }
+    }
+
+    private static void writeBlock(final DataOutputStream out, final RecordCodec codec) throws IOException {
+        out.writeInt(codec.size());
+        codec.writeTo(out);
+        codec.clear();
+    }
+
+    /**
+     * Estimate the heap bytes of a record from its field count.
+     */
+    private static long estimate(final Record record) {
+        return 64l + 40l * record.size();
+    }
+
+    /**
+     * Reads the records of a run file block by block.
+     */
+    private static final class RunReader implements Closeable {
+        private final DataInputStream in;
+        private final RecordCodec codec = new RecordCodec(1);
+        private ByteBuffer block = ByteBuffer.allocate(0);
+        private byte[] bytes = new byte[BLOCK_SIZE];
+
+        private RunReader(final File run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(run), BLOCK_SIZE));
+        }
+
+        private Record next() throws IOException {
+            while (!block.hasRemaining()) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return null;
+                }
+                if (length > bytes.length) {
+                    bytes = new byte[length];
+                }
+                in.readFully(bytes, 0, length);
+                block = ByteBuffer.wrap(bytes, 0, length);
+            }
+            return codec.decode(block);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * A k-way merge of the runs. Each internal node of the tree holds the run that lost the comparison at the node,
+     * so replacing the winner needs one comparison per level on the path from its leaf to the root.
+     * Exhausted runs compare greater than all records.
+     */
+    private static final class LoserTree implements Iterator<Record> {
+        private final RunReader[] readers;
+        private final Comparator<Record> comparator;
+        private final Record[] heads;
+        private final int[] tree;
+        private final int k;
+
+        private LoserTree(final RunReader[] readers, final Comparator<Record> comparator) throws IOException {
+            this.readers = readers;
+            this.comparator = comparator;
+            this.k = readers.length;
+            this.heads = new Record[k];
+            this.tree = new int[k];
+            for (int i = 0; i < k; ++i) {
+                heads[i] = readers[i].next();
+            }
+            Arrays.fill(tree, -1);
+            for (int i = k - 1; i >= 0; --i) {
+                adjust(i);
+            }
+        }
+
+        private boolean less(final int a, final int b) {
+            if (b < 0) {
+                return false;
+            } else if (a < 0) {
+                return true;
+            } else if (heads[b] == null) {
+                return heads[a] != null;
+            } else if (heads[a] == null) {
+                return false;
+            }
+            final int c = comparator.compare(heads[a], heads[b]);
+            return c < 0 || c == 0 && a < b;
+        }
+
+        private void adjust(final int run) {
+            int winner = run;
+            for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+                if (less(tree[node], winner)) {
+                    final int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return k > 0 && heads[tree[0]] != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Record next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int winner = tree[0];
+            final Record record = heads[winner];
+            try {
+                heads[winner] = readers[winner].next();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            adjust(winner);
+            return record;
+        }
+    }
+}
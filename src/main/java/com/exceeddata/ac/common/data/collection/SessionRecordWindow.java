@@ -0,0 +1,78 @@
+package com.exceeddata.ac.common.data.collection;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.exception.EngineDataException;
+import com.exceeddata.ac.common.exception.operation.ParameterValueException;
+
+/**
+ * <code>SessionRecordWindow</code> defines a window of the records of the current session, where a session ends when
+ * the time between two consecutive records is more than the gap.
+ */
+public final class SessionRecordWindow extends TimeKeyedRecordWindow {
+    private static final long serialVersionUID = 1L;
+
+    private final long gap;
+
+    /**
+     * Construct a window.
+     *
+     * @param timeName the name of the timestamp field
+     * @param gap the maximum time between the records of a session in milliseconds
+     * @throws ParameterValueException if the gap is not positive
+     */
+    public SessionRecordWindow(final String timeName, final long gap) throws ParameterValueException {
+        super(timeName);
+        if (gap <= 0) {
+            throw new ParameterValueException("WINDOW_GAP_INVALID: " + gap);
+        }
+        this.gap = gap;
+    }
+
+    public SessionRecordWindow(final SessionRecordWindow window) {
+        super(window);
+        this.gap = window.gap;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SessionRecordWindow copy() {
+        return new SessionRecordWindow(this);
+    }
+
+    /**
+     * Add a record, closing the current session if the record is more than the gap after it.
+     *
+     * @param record the record
+     * @return the records of the closed session, or null if the session continues
+     * @throws EngineDataException if the time is null or not a timestamp
+     */
+    public RecordCollection add(final Record record) throws EngineDataException {
+        final long time = timeOf(record);
+        final RecordCollection closed = !isEmpty() && time - lastTime() > gap ? flush() : null;
+        append(record, time);
+        return closed;
+    }
+
+    /**
+     * Close the current session.
+     *
+     * @return the records of the session, empty if there is no session
+     */
+    public RecordCollection flush() {
+        final RecordCollection session = new RecordCollection(Math.max(size(), 1));
+        Record record;
+        while ((record = poll()) != null) {
+            session.add(record);
+        }
+        return session;
+    }
+
+    /**
+     * Get the gap of the window in milliseconds.
+     *
+     * @return long
+     */
+    public long getGap() {
+        return gap;
+    }
+}
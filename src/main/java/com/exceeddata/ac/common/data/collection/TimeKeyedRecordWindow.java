@@ -0,0 +1,233 @@
+package com.exceeddata.ac.common.data.collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.exceeddata.ac.common.data.record.FieldAccessor;
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+import com.exceeddata.ac.common.exception.data.DataContentException;
+
+/**
+ * <code>TimeKeyedRecordWindow</code> is the base of windows bounded by a timestamp field, such as
+ * <code>MessageConstants.TIME</code>. Records and their times in milliseconds are kept in a ring buffer in arrival
+ * order, so records are evicted from the head in amortized O(1).
+ *
+ * Records are expected in time order. A record older than the latest record is kept with the latest time, so it leaves
+ * the window together with its neighbours.
+ */
+abstract class TimeKeyedRecordWindow implements RecordWindow {
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 50;
+
+    protected final String timeName;
+    protected final FieldAccessor timeAccessor;
+    private Record[] records;
+    private long[] times;
+    private int start = 0;
+    private int size = 0;
+
+    protected TimeKeyedRecordWindow(final String timeName) {
+        this.timeName = timeName;
+        this.timeAccessor = new FieldAccessor(timeName);
+        this.records = new Record[DEFAULT_CAPACITY];
+        this.times = new long[DEFAULT_CAPACITY];
+    }
+
+    protected TimeKeyedRecordWindow(final TimeKeyedRecordWindow window) {
+        this.timeName = window.timeName;
+        this.timeAccessor = window.timeAccessor;
+        this.records = window.records.clone();
+        this.times = window.times.clone();
+        this.start = window.start;
+        this.size = window.size;
+    }
+
+    /**
+     * Get the time of a record in milliseconds, clamped to the latest time in the window.
+     *
+     * @param record the record
+     * @return long
+     * @throws EngineDataException if the time is null or not a timestamp
+     */
+    protected final long timeOf(final Record record) throws EngineDataException {
+        final TypeData data = timeAccessor.get(record);
+        if (data.isNull()) {
+            throw new DataContentException("DATA_TIME_NULL: " + timeName);
+        }
+        final long time = data.longValue();
+        return size != 0 ? Math.max(time, lastTime()) : time;
+    }
+
+    /**
+     * Append a record with its time.
+     *
+     * @param record the record
+     * @param time the time
+     */
+    protected final void append(final Record record, final long time) {
+        if (size == records.length) {
+            final int capacity = records.length + Math.max(records.length >> 1, DEFAULT_CAPACITY);
+            final Record[] newRecords = new Record[capacity];
+            final long[] newTimes = new long[capacity];
+            for (int i = 0; i < size; ++i) {
+                final int index = (start + i) % records.length;
+                newRecords[i] = records[index];
+                newTimes[i] = times[index];
+            }
+            records = newRecords;
+            times = newTimes;
+            start = 0;
+        }
+        final int index = (start + size++) % records.length;
+        records[index] = record;
+        times[index] = time;
+    }
+
+    /**
+     * Evict the records with a time before the bound from the head.
+     *
+     * @param bound the exclusive lower bound of the times to keep
+     * @return the number of evicted records
+     */
+    protected final int evictBefore(final long bound) {
+        int evicted = 0;
+        while (size != 0 && times[start] < bound) {
+            poll();
+            ++evicted;
+        }
+        return evicted;
+    }
+
+    /**
+     * Copy the records with a time from begin inclusive to end exclusive.
+     *
+     * @param begin the begin time
+     * @param end the end time
+     * @return RecordCollection
+     */
+    protected final RecordCollection between(final long begin, final long end) {
+        final RecordCollection collection = new RecordCollection(Math.max(size, 1));
+        for (int i = 0; i < size; ++i) {
+            final int index = (start + i) % records.length;
+            if (times[index] >= end) {
+                break;
+            } else if (times[index] >= begin) {
+                collection.add(records[index]);
+            }
+        }
+        return collection;
+    }
+
+    /**
+     * Remove the first record in the window.
+     *
+     * @return Record
+     */
+    public Record poll() {
+        if (size == 0) {
+            return null;
+        }
+        final Record record = records[start];
+        records[start] = null;
+        start = (start + 1) % records.length;
+        --size;
+        return record;
+    }
+
+    /**
+     * Get the time of the first record in the window, or Long.MIN_VALUE if empty.
+     *
+     * @return long
+     */
+    public long firstTime() {
+        return size != 0 ? times[start] : Long.MIN_VALUE;
+    }
+
+    /**
+     * Get the time of the last record in the window, or Long.MIN_VALUE if empty.
+     *
+     * @return long
+     */
+    public long lastTime() {
+        return size != 0 ? times[(start + size - 1) % records.length] : Long.MIN_VALUE;
+    }
+
+    /**
+     * Get the name of the time field.
+     *
+     * @return String
+     */
+    public String getTimeName() {
+        return timeName;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<Record> iterator() {
+        return new RecordWindowIterator(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<Record> iterator(final int begin, final int end) {
+        return new RecordWindowIterator(this, begin, end);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<Record> reverseIterator(final int begin, final int end) {
+        return new RecordWindowReverseIterator(this, begin, end);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peek() {
+        return size != 0 ? records[start] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peek(final int n) {
+        return get(n);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peekLast() {
+        return size != 0 ? records[(start + size - 1) % records.length] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record peekLast(final int n) {
+        return get(size - n - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Record get(final int position) {
+        return position >= 0 && position < size ? records[(start + position) % records.length] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        Arrays.fill(records, null);
+        start = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.exceeddata.ac.common.data.collection;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.exception.EngineDataException;
+import com.exceeddata.ac.common.exception.operation.ParameterValueException;
+
+/**
+ * <code>TimeRecordWindow</code> defines a sliding window of the records in the last span of time: adding a record
+ * evicts the records older than the span before its time.
+ */
+public final class TimeRecordWindow extends TimeKeyedRecordWindow {
+    private static final long serialVersionUID = 1L;
+
+    private final long span;
+
+    /**
+     * Construct a window.
+     *
+     * @param timeName the name of the timestamp field
+     * @param span the span of the window in milliseconds, a record stays while its time is after the latest time minus the span
+     * @throws ParameterValueException if the span is not positive
+     */
+    public TimeRecordWindow(final String timeName, final long span) throws ParameterValueException {
+        super(timeName);
+        if (span <= 0) {
+            throw new ParameterValueException("WINDOW_SPAN_INVALID: " + span);
+        }
+        this.span = span;
+    }
+
+    public TimeRecordWindow(final TimeRecordWindow window) {
+        super(window);
+        this.span = window.span;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TimeRecordWindow copy() {
+        return new TimeRecordWindow(this);
+    }
+
+    /**
+     * Add a record and evict the records out of the span.
+     *
+     * @param record the record
+     * @return the number of evicted records
+     * @throws EngineDataException if the time is null or not a timestamp
+     */
+    public int add(final Record record) throws EngineDataException {
+        final long time = timeOf(record);
+        append(record, time);
+        return evictBefore(time - span + 1);
+    }
+
+    /**
+     * Get the span of the window in milliseconds.
+     *
+     * @return long
+     */
+    public long getSpan() {
+        return span;
+    }
+}
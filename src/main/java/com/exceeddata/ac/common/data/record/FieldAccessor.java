@@ -0,0 +1,113 @@
+package com.exceeddata.ac.common.data.record;
+
+import java.io.Serializable;
+
+import com.exceeddata.ac.common.data.typedata.TypeData;
+
+/**
+ * <code>FieldAccessor</code> defines a precompiled accessor of a named field of records.
+ *
+ * The position resolved for the last seen frozen <code>RecordSchema</code> is cached, so that records sharing
+ * a schema are read with a single array access. A record with a different or mutable schema falls back to
+ * a hash probe.
+ */
+public final class FieldAccessor implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final int nameHash;
+    private transient Slot slot = null;
+
+    public FieldAccessor(final String name) {
+        this.name = name;
+        this.nameHash = Hashing.getHash(name);
+    }
+
+    /**
+     * Get an accessor of a field name.
+     *
+     * @param name the name
+     * @return FieldAccessor
+     */
+    public static FieldAccessor of(final String name) {
+        return new FieldAccessor(name);
+    }
+
+    /**
+     * Get the field name.
+     *
+     * @return String
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the field name hash.
+     *
+     * @return int
+     */
+    public int getNameHash() {
+        return nameHash;
+    }
+
+    /**
+     * Get the data of the field in a record.
+     *
+     * @param record the record
+     * @return TypeData
+     */
+    public TypeData get(final Record record) {
+        return record.get(this);
+    }
+
+    /**
+     * Set the data of the field in a record, adding the field if absent.
+     *
+     * @param record the record
+     * @param data the data
+     * @return Record
+     */
+    public Record set(final Record record, final TypeData data) {
+        return record.set(this, data);
+    }
+
+    /**
+     * Get the position of the field in a record. -1 if not found.
+     *
+     * @param record the record
+     * @return int
+     */
+    public int indexOf(final Record record) {
+        return record.indexOf(this);
+    }
+
+    /**
+     * Resolve the position of the field in a schema. -1 if not found.
+     *
+     * @param schema the schema
+     * @return int
+     */
+    int positionOf(final RecordSchema schema) {
+        final Slot s = slot;
+        if (s != null && s.schema == schema) {
+            return s.position;
+        }
+
+        final int position = schema.indexOf(name, nameHash);
+        if (schema.frozen) {
+            slot = new Slot(schema, position);
+        }
+        return position;
+    }
+
+    private static final class Slot {
+        private final RecordSchema schema;
+        private final int position;
+
+        private Slot(final RecordSchema schema, final int position) {
+            this.schema = schema;
+            this.position = position;
+        }
+    }
+}
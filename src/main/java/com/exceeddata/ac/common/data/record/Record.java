@@ -25,12 +25,7 @@ public final class Record implements
         Externalizable,
         Comparable<Record> {
     private static final long serialVersionUID = 1L;
-    private static final double incrementLoadFactor = 0.8;  // 0 < loadFactor < 1
     
-    private static final int TOMBSTONE_POSITION = -1;
-    private static final int EMPTY_POSITION = -2;
-    
-    private static final String[] DEFAULTCAPACITY_EMPTY_NAMES = {};
     private static final TypeData[] DEFAULTCAPACITY_EMPTY_DATAS = {};
     private static final int DEFAULTCAPACITY_TABLE = 10;
     private static final int SMALL_RECORD_LIMIT = 20;
@@ -43,77 +38,59 @@ public final class Record implements
         Arrays.fill(NULLS, NullData.INSTANCE);
     }
     
-    private int[] positions = null;  // Length is always a power of 2. Each element is either null, tombstone, or data. At least one element must be null.
-    private String[] names = null; // indexed with data
+    private RecordSchema schema = null; // names and hash table, shared with other records once frozen
     private TypeData[] datas = null; //indexed with name
-    private int rsize = 0;        // Number of items stored in hash table
     
     public Record () {
-        names = new String[DEFAULTCAPACITY_TABLE];
+        schema = new RecordSchema(DEFAULTCAPACITY_TABLE);
         datas = new TypeData[DEFAULTCAPACITY_TABLE];
-        resize(DEFAULTCAPACITY_TABLE);
     }
     
     public Record (final int initialCapacity) {
-        names = new String[initialCapacity];
+        schema = new RecordSchema(initialCapacity);
         datas = new TypeData[initialCapacity];
-        resize(initialCapacity);
-   }
+    }
+    
+    /**
+     * Construct a record of null data sharing a schema. The schema is frozen.
+     * 
+     * @param schema the schema
+     */
+    public Record (final RecordSchema schema) {
+        this.schema = schema.freeze();
+        this.datas = new TypeData[schema.size];
+        fillNulls(this.datas, 0, schema.size);
+    }
     
     protected Record (
-            final String[] names, 
-            final TypeData[] datas,
-            final int[] positions,
-            final int size) {
-        this.names = names;
+            final RecordSchema schema, 
+            final TypeData[] datas) {
+        this.schema = schema;
         this.datas = datas;
-        this.positions = positions;
-        this.rsize = size;
     }
     
     public Record (final Record record) {
-        rsize = record.rsize;
+        schema = record.schema.freeze();
         
-        if (record.positions != null) {
-            positions = new int[record.positions.length];
-            if (record.positions.length > 0) {
-                System.arraycopy(record.positions, 0, positions, 0, record.positions.length);
-            }
-        } else {
-            resize(DEFAULTCAPACITY_TABLE);
-        }
-        
-        if (record.names != null && record.names.length > 0) {
-            names = new String[record.names.length];
+        final int rsize = schema.size;
+        if (rsize > 0) {
             datas = new TypeData[record.datas.length];
-            System.arraycopy(record.names, 0, names, 0, record.rsize);
-            System.arraycopy(record.datas, 0, datas, 0, record.rsize);
+            System.arraycopy(record.datas, 0, datas, 0, rsize);
         } else {
-            names = DEFAULTCAPACITY_EMPTY_NAMES;
             datas = DEFAULTCAPACITY_EMPTY_DATAS;
         }
     }
     
     public Record (final Record record, final int additionalCapacity) {
-        rsize = record.rsize;
-        
-        final int proposedsize = record.rsize + additionalCapacity;
+        final int rsize = record.schema.size;
+        final int proposedsize = rsize + additionalCapacity;
         final int actualsize = record.datas.length >= proposedsize ? record.datas.length : proposedsize;
+        
+        //no need to reallocate 2-power, will be done when actual insert
+        schema = record.schema.mutableCopy(actualsize);
+        datas = new TypeData[actualsize];
         if (rsize > 0) {
-            names = new String[actualsize];
-            System.arraycopy(record.names, 0, names, 0, rsize);
-            
-            datas = new TypeData[actualsize];
             System.arraycopy(record.datas, 0, datas, 0, rsize);
-     
-            //no need to reallocate 2-power, will be done when actual insert
-            positions = new int[record.positions.length];
-            System.arraycopy(record.positions, 0, positions, 0, record.positions.length);
-            
-        } else {
-            names = new String[record.names.length + additionalCapacity];
-            datas = new TypeData[record.datas.length + additionalCapacity];
-            clear();
         }
     }
     
@@ -141,6 +118,7 @@ public final class Record implements
      * @return Record
      */
     public Record subCopy(final int beginPosition, final int endPosition) {
+        final int rsize = schema.size;
         final int bpos = beginPosition >= 0 ? beginPosition : 0;
         final int epos = endPosition <= rsize ? endPosition : rsize;
         final int subsize = epos - bpos;
@@ -150,7 +128,7 @@ public final class Record implements
         
         final Record subrecord = new Record(subsize);
         for (int i = bpos; i < epos; ++i) {
-            subrecord.add(names[i], datas[i]);
+            subrecord.add(schema.names[i], datas[i]);
         }
         
         return subrecord;
@@ -173,7 +151,7 @@ public final class Record implements
     public Record dataCopy() {
         final TypeData[] redatas = new TypeData[datas.length];
         System.arraycopy(datas, 0, redatas, 0, datas.length);
-        return new Record(names, redatas, positions, rsize);
+        return new Record(schema.freeze(), redatas);
     }
     
     /**
@@ -183,15 +161,8 @@ public final class Record implements
      */
     public Record templateCopy() {
         final TypeData[] redatas = new TypeData[datas.length];
-        final int remainder = rsize % 100;
-        if (remainder > 0) { 
-            System.arraycopy(NULLS, 0, redatas, 0, remainder); 
-        }
-        for (int i = 0, cnt = rsize / 100; i < cnt; ++i) {
-            System.arraycopy(NULLS, 0, redatas, remainder + 100 * i, 100);
-        }
-        
-        return new Record(names, redatas, positions, rsize);
+        fillNulls(redatas, 0, schema.size);
+        return new Record(schema.freeze(), redatas);
     }
     
     /**
@@ -201,7 +172,7 @@ public final class Record implements
      * @return Record
      */
     public Record unsafeNoDataCopy() {
-        return new Record(names, new TypeData[datas.length], positions, rsize);
+        return new Record(schema.freeze(), new TypeData[datas.length]);
     }
     
     /**
@@ -213,26 +184,19 @@ public final class Record implements
      * @return Record
      */
     public Record templateAdditionCopy(final Record template) {
+        final int rsize = schema.size;
         final TypeData[] redatas = new TypeData[template.datas.length];
         System.arraycopy(datas, 0, redatas, 0, rsize);
+        fillNulls(redatas, rsize, template.schema.size - rsize);
         
-        final int additionalCapacity = template.rsize - rsize;
-        final int remainder = additionalCapacity % 100;
-        if (remainder > 0) { 
-            System.arraycopy(NULLS, 0, redatas, rsize, remainder); 
-        }
-        for (int i = 0, cnt = additionalCapacity / 100; i < cnt; ++i) {
-            System.arraycopy(NULLS, 0, redatas, rsize + remainder + 100 * i, 100);
-        }
-        
-        return new Record(template.names, redatas, template.positions, template.rsize);
+        return new Record(template.schema.freeze(), redatas);
     }
     
     public Record unsafeTemplateAdditionCopy(final Record template) {
         final TypeData[] redatas = new TypeData[template.datas.length];
-        System.arraycopy(datas, 0, redatas, 0, rsize);
+        System.arraycopy(datas, 0, redatas, 0, schema.size);
         
-        return new Record(template.names, redatas, template.positions, template.rsize);
+        return new Record(template.schema.freeze(), redatas);
     }
 
     /**
@@ -245,9 +209,9 @@ public final class Record implements
      */
     public Record templateSubCopy(final Record template) {
         final TypeData[] redatas = new TypeData[template.datas.length];
-        System.arraycopy(datas, 0, redatas, 0, template.rsize);
+        System.arraycopy(datas, 0, redatas, 0, template.schema.size);
         
-        return new Record(template.names, redatas, template.positions, template.rsize);
+        return new Record(template.schema.freeze(), redatas);
     
     }
     
@@ -261,11 +225,12 @@ public final class Record implements
      * @return Record
      */
     public Record templateDeletionCopy(final Record template, final List<Integer> indices) {
+        final int rsize = schema.size;
         final int size = indices.size();
         if (size == 0) {
             final TypeData[] redatas = new TypeData[template.datas.length];
             System.arraycopy(datas, 0, redatas, 0, rsize);
-            return new Record(template.names, redatas, template.positions, template.rsize);
+            return new Record(template.schema.freeze(), redatas);
         }
         
         final TypeData[] redatas = new TypeData[template.datas.length];
@@ -281,7 +246,17 @@ public final class Record implements
         if ((len = rsize - cindex) > 0) {
             System.arraycopy(datas, cindex, redatas, reindex, len);
         }
-        return new Record(template.names, redatas, template.positions, template.rsize);
+        return new Record(template.schema.freeze(), redatas);
+    }
+    
+    /**
+     * Get the schema of the record. The schema is frozen and can be shared by new records, 
+     * a later structural change of this record will copy the schema on write.
+     * 
+     * @return RecordSchema
+     */
+    public RecordSchema schema() {
+        return schema.freeze();
     }
     
     /**
@@ -290,7 +265,7 @@ public final class Record implements
      * @return int
      */
     public int size () {
-        return rsize;
+        return schema.size;
     }
     
     /**
@@ -300,7 +275,7 @@ public final class Record implements
      * @return String
      */
     public String nameAt (final int position) {
-        return names[position];
+        return schema.names[position];
     }
     
     /**
@@ -320,7 +295,7 @@ public final class Record implements
      * @return TypeData
      */
     public TypeData get (final String name) {
-        final int position = indexOf(name);
+        final int position = schema.indexOf(name);
         return position >= 0 ? datas[position] : NullData.INSTANCE;
     }
     
@@ -332,18 +307,67 @@ public final class Record implements
      * @return TypeData
      */
     public TypeData get (final String name, final int nameHash) {
-        final int position = indexOf(name, nameHash);
+        final int position = schema.indexOf(name, nameHash);
         return position >= 0 ? datas[position] : NullData.INSTANCE;
     }
     
+    /**
+     * Get the data with a precompiled field accessor.
+     *
+     * @param accessor the accessor
+     * @return TypeData
+     */
+    public TypeData get (final FieldAccessor accessor) {
+        final int position = accessor.positionOf(schema);
+        return position >= 0 ? datas[position] : NullData.INSTANCE;
+    }
+
+    /**
+     * Set the data with a precompiled field accessor, adding the name if absent.
+     *
+     * @param accessor the accessor
+     * @param data the data
+     * @return Record
+     */
+    public Record set (final FieldAccessor accessor, final TypeData data) {
+        final int position = accessor.positionOf(schema);
+        if (position >= 0) {
+            datas[position] = data;
+            return this;
+        }
+        return add(accessor.getName(), accessor.getNameHash(), data);
+    }
+
+    /**
+     * Get a precompiled field accessor of a name, resolved against the schema of this record.
+     *
+     * @param name the name
+     * @return FieldAccessor
+     */
+    public FieldAccessor accessor (final String name) {
+        final FieldAccessor accessor = new FieldAccessor(name);
+        accessor.positionOf(schema);
+        return accessor;
+    }
+
+    /**
+     * Get the index with a precompiled field accessor. -1 if not found
+     *
+     * @param accessor the accessor
+     * @return int
+     */
+    public int indexOf (final FieldAccessor accessor) {
+        return accessor.positionOf(schema);
+    }
+
     /**
      * Get the index with a specified name. -1 if not found
-     * 
+     *
      * @param name the name
      * @return int
      */
     public int indexOf (final String name) {
-        return indexOf(name, Hashing.getHash(name));
+        return schema.indexOf(name);
     }
     
     /**
@@ -354,82 +378,7 @@ public final class Record implements
      * @return int
      */
     public int indexOf (final String name, final int nameHash) {
-        final int lengthMask = positions.length - 1;
-        final int initIndex = nameHash & lengthMask;
-        int position = positions[initIndex];
-        
-        if (position < 0) {
-            if (position == EMPTY_POSITION) {
-                return -1;
-            }
-        } else if (names[position].equals(name)) {
-            return position;
-        }
-        
-        final int lengthBits = Integer.bitCount(lengthMask);
-        final int increment = Math.max((nameHash >>> lengthBits) & lengthMask, 1);
-        int index = (initIndex + increment) & lengthMask;
-        int start = index;
-        while (true) {
-            position = positions[index];
-            if (position < 0) {
-                if (position == EMPTY_POSITION) {
-                    return -1;
-                }
-            } else if (names[position].equals(name)) {
-                return position;
-            }
-            
-            index = (index + 1) & lengthMask;
-            if (index == start) {
-                throw new AssertionError();
-            }
-        }
-    }
-    
-    private int probe(final String name) {
-        return probe(name, Hashing.getHash(name));
-    }
-    
-    private int probe(final String name, final int nameHash) {
-        final int lengthMask = positions.length - 1;
-        final int initIndex = nameHash & lengthMask;
-        int position = positions[initIndex], emptyIndex = -1;
-        
-        if (position < 0) {
-            if (position == EMPTY_POSITION) {
-                return ~initIndex;
-            } else {
-                emptyIndex = initIndex;
-            }
-        } else if (names[position].equals(name)) {
-            return initIndex;
-        }
-        
-        final int lengthBits = Integer.bitCount(lengthMask);
-        final int increment = Math.max((nameHash >>> lengthBits) & lengthMask, 1);
-        int index = (initIndex + increment) & lengthMask;
-        int start = index;
-        while (true) {
-            position = positions[index];
-            if (position < 0) {
-                if (position == EMPTY_POSITION) {
-                    return emptyIndex != -1 ? ~emptyIndex : ~index;
-                } else if (emptyIndex == -1) {
-                    emptyIndex = index;
-                }
-            } else if (names[position].equals(name)) {
-                return index;
-            }
-            
-            index = (index + 1) & lengthMask;
-            if (index == start) {
-                if (emptyIndex != -1) {
-                    return ~emptyIndex;
-                }
-                throw new AssertionError();
-            }
-        }
+        return schema.indexOf(name, nameHash);
     }
     
     /**
@@ -452,35 +401,34 @@ public final class Record implements
      * @return Record
      */
     public Record add(final String name, final int nameHash, final TypeData data) {
-        int index = probe(name, nameHash);
-        if (index < 0) { //new
-            if (rsize >= datas.length) {
-                int additional = (int) (rsize * 0.2);
-                if (rsize <= SMALL_RECORD_LIMIT) {
-                    additional = SMALL_ADDITIONAL_CAPACITY;
-                } else if (additional < MIN_ADDITIONAL_CAPACITY) { 
-                    additional = MIN_ADDITIONAL_CAPACITY; 
-                } else if (additional > MAX_ADDITIONAL_CAPACITY) {
-                    additional = MAX_ADDITIONAL_CAPACITY;
-                }
-                ensureCapacity(rsize + additional);
-            }
-
-            index = ~index;
-            positions[index] = rsize;
-            names[rsize] = name;
-            datas[rsize++] = data;
-            
-            if (rsize > positions.length * incrementLoadFactor) {  // Refresh or expand hash table
-                int newLen = positions.length;
-                while (rsize > newLen * incrementLoadFactor) {
-                    newLen *= 2;
-                }
-                resize(newLen);
+        int index = schema.probe(name, nameHash);
+        if (index >= 0) {
+            datas[schema.positionAt(index)] = data;
+            return this;
+        }
+        
+        //new
+        final int rsize = schema.size;
+        int capacity = datas.length;
+        if (rsize >= capacity) {
+            int additional = (int) (rsize * 0.2);
+            if (rsize <= SMALL_RECORD_LIMIT) {
+                additional = SMALL_ADDITIONAL_CAPACITY;
+            } else if (additional < MIN_ADDITIONAL_CAPACITY) { 
+                additional = MIN_ADDITIONAL_CAPACITY; 
+            } else if (additional > MAX_ADDITIONAL_CAPACITY) {
+                additional = MAX_ADDITIONAL_CAPACITY;
             }
+            ensureCapacity(capacity = rsize + additional);
+        }
+        
+        if (schema.frozen) { //copy on write
+            schema = schema.mutableCopy(capacity);
         } else {
-            datas[positions[index]] = data;
+            schema.ensureCapacity(capacity);
         }
+        
+        datas[schema.append(name, ~index)] = data;
         return this;
     }
     
@@ -491,30 +439,28 @@ public final class Record implements
      * @return Record
      */
     public Record addAll(final Record record) {
-        if (record == null || record.rsize == 0) {
+        if (record == null || record.schema.size == 0) {
             return this;
         }
         
-        final int nsize = this.rsize + record.rsize;
+        final int nsize = schema.size + record.schema.size;
         if (nsize > datas.length) {
             ensureCapacity(nsize);
         }
-        for (int i = 0; i < record.rsize; ++i) {
+        for (int i = 0, s = record.schema.size; i < s; ++i) {
             add(record.nameAt(i), record.dataAt(i));
         }
         return this;
     }
     
     private void ensureCapacity(final int nsize) {
-        final String[] nnames = new String[nsize];
         final TypeData[] ndatas = new TypeData[nsize];
 
+        final int rsize = schema.size;
         if (rsize > 0) {
-            System.arraycopy(names, 0, nnames, 0, rsize);
             System.arraycopy(datas, 0, ndatas, 0, rsize);
         }
 
-        names = nnames;
         datas = ndatas;
     }
     
@@ -537,28 +483,22 @@ public final class Record implements
      * @return TypeData
      */
     public TypeData removeAt (final int position) {
-        if (position < 0 || position >= rsize) {
+        if (position < 0 || position >= schema.size) {
             return NullData.INSTANCE;
         }
         
         final TypeData data = datas[position];
-        int index = probe(names[position]);
-        positions[index] = TOMBSTONE_POSITION;
+        if (schema.frozen) { //copy on write
+            schema = schema.mutableCopy(datas.length);
+        }
+        schema.removeAt(position);
         
         //remove remainder
-        final int numMoved = rsize - position - 1;
+        final int rsize = schema.size;
+        final int numMoved = rsize - position;
         if (numMoved > 0) {
-            System.arraycopy(names, position+1, names, position, numMoved);
             System.arraycopy(datas, position+1, datas, position, numMoved);
-
-            for (int i = 0, s = positions.length; i < s; ++i) {
-                if (positions[i] > position) {
-                    positions[i] = positions[i] - 1;
-                }
-            }
         }
-        
-        names[--rsize] = null;
         datas[rsize] = null;
         
         return data;
@@ -582,31 +522,8 @@ public final class Record implements
      * @return TypeData
      */
     public TypeData remove (final String name, final int nameHash) {
-        int index = probe(name, nameHash);
-        if (index < 0) {
-            return NullData.INSTANCE;
-        }
-        
-        final int position = positions[index];
-        final TypeData data = datas[position];
-        positions[index] = TOMBSTONE_POSITION;
-        
-        final int numMoved = rsize - position - 1;
-        if (numMoved > 0) {
-            System.arraycopy(names, position+1, names, position, numMoved);
-            System.arraycopy(datas, position+1, datas, position, numMoved);
-
-            for (int i = 0, s = positions.length; i < s; ++i) {
-                if (positions[i] > position) {
-                    positions[i] = positions[i] - 1;
-                }
-            }
-        }
-        
-        names[--rsize] = null;
-        datas[rsize] = null;
-            
-        return data;
+        final int position = schema.indexOf(name, nameHash);
+        return position >= 0 ? removeAt(position) : NullData.INSTANCE;
     }
     
     /**
@@ -616,7 +533,7 @@ public final class Record implements
      * @return true or false
      */
     public boolean contains (final String name) {
-        return name.length() > 0 && indexOf(name) >= 0;
+        return name.length() > 0 && schema.indexOf(name) >= 0;
     }
     
     /**
@@ -627,7 +544,7 @@ public final class Record implements
      * @return true or false
      */
     public boolean contains (final String name, final int nameHash) {
-        return name.length() > 0 && indexOf(name, nameHash) >= 0;
+        return name.length() > 0 && schema.indexOf(name, nameHash) >= 0;
     }
     
     /**
@@ -637,12 +554,8 @@ public final class Record implements
      * 
      */
     public Record clear () {
-        names = DEFAULTCAPACITY_EMPTY_NAMES;
+        schema = RecordSchema.EMPTY;
         datas = DEFAULTCAPACITY_EMPTY_DATAS;
-        rsize = 0;
-        names = null;
-        positions = null;
-        resize(1);
 
         return this;
     }
@@ -654,48 +567,28 @@ public final class Record implements
      * 
      */
     public Record nullifyData () {
-        final int remainder = rsize % 100;
-        if (remainder > 0) { 
-            System.arraycopy(NULLS, 0, datas, 0, remainder); 
-        }
-        for (int i = 0, cnt = rsize / 100; i < cnt; ++i) {
-            System.arraycopy(NULLS, 0, datas, remainder + 100 * i, 100);
-        }
-
+        fillNulls(datas, 0, schema.size);
         return this;
     }
     
-    private void resize(int newLen) {
-        if (newLen <= rsize) {
-            if (newLen == 0) {
-                newLen = 1;
-            } else {
-                throw new AssertionError();
-            }
+    private static void fillNulls(final TypeData[] redatas, final int offset, final int length) {
+        if (length <= 0) {
+            return;
         }
         
-        int power2 = roundPower2(newLen);
-        while (newLen < power2 && (double) newLen / power2 > incrementLoadFactor) {
-            power2 *= 2;
+        final int remainder = length % 100;
+        if (remainder > 0) { 
+            System.arraycopy(NULLS, 0, redatas, offset, remainder); 
         }
-        newLen = power2;
-        positions = new int[newLen];
-        Arrays.fill(positions, EMPTY_POSITION);
-        
-        int index;
-        //probe new index
-        for (int i = 0; i < rsize; ++i) {
-            if ((index = probe(names[i])) >= 0) {
-                throw new AssertionError();
-            }
-            index = ~index;
-            positions[index] = i;
+        for (int i = 0, cnt = length / 100; i < cnt; ++i) {
+            System.arraycopy(NULLS, 0, redatas, offset + remainder + 100 * i, 100);
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
+        final int rsize = schema.size;
         if (rsize == 0) {
             out.writeByte(XNumberUtils.BYTE_ZERO);
             return;
@@ -715,6 +608,7 @@ public final class Record implements
             }
         }
         
+        final String[] names = schema.names;
         for (int i = 0; i < rsize; ++i) {
             out.writeUTF(names[i]);
             out.writeByte(datas[i].getType());
@@ -727,16 +621,14 @@ public final class Record implements
     public void readExternal(final ObjectInput in) throws IOException {
         final int len;
         switch(in.readByte()) {
-            case XNumberUtils.BYTE_ZERO:     rsize = len = 0; clear(); datas = DEFAULTCAPACITY_EMPTY_DATAS; names = DEFAULTCAPACITY_EMPTY_NAMES; return;
+            case XNumberUtils.BYTE_ZERO:     clear(); return;
             case XNumberUtils.BYTE_ONE:      len = in.readByte(); break;
             case XNumberUtils.BYTE_TWO:      len = in.readShort(); break;
             default:                        len = in.readInt();
         }
         
-        clear();
-        names = new String[len];
+        schema = new RecordSchema(len);
         datas = new TypeData[len];
-        resize(len);
         
         String name;
         TypeData data;
@@ -814,22 +706,31 @@ public final class Record implements
         return false;
     }
     
+    /**
+     * Return unsafe reference to the schema without freezing it.
+     * 
+     * @return RecordSchema
+     */
+    RecordSchema unsafeSchema() {
+        return schema;
+    }
+    
     /**
      * Return a copy of the names.
      * 
      * @return String[]
      */
     public String[] names() {
-        return Arrays.copyOf(names, rsize);
+        return schema.names();
     }
     
     /**
-     * Return unsafe reference to datas.
+     * Return unsafe reference to names.
      * 
-     * @return TypeData[]
+     * @return String[]
      */
     public String[] unsafeNames() {
-        return names;
+        return schema.names;
     }
     
     
@@ -839,7 +740,7 @@ public final class Record implements
      * @return TypeData[]
      */
     public TypeData[] datas() {
-        return Arrays.copyOf(datas, rsize);
+        return Arrays.copyOf(datas, schema.size);
     }
     
     /**
@@ -853,10 +754,12 @@ public final class Record implements
     
     @Override
     public String toString() {
+        final int rsize = schema.size;
         if (rsize == 0) {
             return "";
         }
         
+        final String[] names = schema.names;        
         final StringBuilder sb = new StringBuilder(512);
         sb.append('{');
         
@@ -882,14 +785,4 @@ public final class Record implements
         System.arraycopy(datas, 0, this.datas, 0, this.datas.length);
         return this;
     }
-    
-    private static int roundPower2(int v) {
-        --v;
-        v |= v >> 1;
-        v |= v >> 2;
-        v |= v >> 4;
-        v |= v >> 8;
-        v |= v >> 16;
-        return ++v;
-    }
 }
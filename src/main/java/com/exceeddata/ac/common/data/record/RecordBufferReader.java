@@ -0,0 +1,227 @@
+package com.exceeddata.ac.common.data.record;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.data.typedata.TypeDataBufferReader;
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+import com.exceeddata.ac.common.util.XNumberUtils;
+import com.exceeddata.ac.common.util.reader.ByteBufferObjectInput;
+
+/**
+ * A reader decoding consecutive records in the <code>Record.writeExternal</code> format directly from a
+ * <code>ByteBuffer</code>, such as a <code>MappedByteBuffer</code> over a spill file written with a plain
+ * <code>DataOutput</code> like <code>BytesObjectOutput</code>.
+ *
+ * <p><code>read</code> allocates a new record per call. <code>next</code> is the flyweight mode: the same
+ * record is returned for every row, field names are matched against the previous row in place, and
+ * INT, LONG, FLOAT, DOUBLE and TIMESTAMP values are repointed into reused cursors, so a scan over rows
+ * of the same schema does not allocate. The returned record is only valid until the next call and must
+ * not be modified; use <code>detach</code> to keep a copy.</p>
+ *
+ */
+public final class RecordBufferReader {
+    private static final byte[][] EMPTY_NAMES = {};
+
+    private final ByteBuffer buffer;
+    private final ByteBufferObjectInput input;
+    private TypeDataBufferReader[] cursors = {};
+    private byte[][] encodedNames = EMPTY_NAMES;
+    private Record record = null;
+
+    /**
+     * Construct a reader over the remaining bytes of the buffer. The buffer itself is not modified.
+     *
+     * @param buffer the buffer
+     */
+    public RecordBufferReader(final ByteBuffer buffer) {
+        this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        this.input = new ByteBufferObjectInput(this.buffer);
+    }
+
+    /**
+     * Get the current position.
+     *
+     * @return int
+     */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Set the current position, the offset of the next record to read.
+     *
+     * @param offset the offset
+     * @return RecordBufferReader
+     */
+    public RecordBufferReader position(final int offset) {
+        buffer.position(offset);
+        return this;
+    }
+
+    /**
+     * Whether there are more bytes to read.
+     *
+     * @return boolean
+     */
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Read a new record at the current position.
+     *
+     * @return Record
+     * @throws IOException if the data is invalid or the buffer is exhausted
+     */
+    public Record read() throws IOException {
+        try {
+            final int len = readSize();
+            final Record result = new Record(len);
+            for (int i = 0; i < len; ++i) {
+                final String name = input.readUTF();
+                result.add(name, TypeDataBufferReader.readTypeData(buffer, buffer.get()));
+            }
+            return result;
+        } catch (BufferUnderflowException e) {
+            throw new BinaryEOFException();
+        }
+    }
+
+    /**
+     * Read the record at the offset into a new record.
+     *
+     * @param offset the offset
+     * @return Record
+     * @throws IOException if the data is invalid or the buffer is exhausted
+     */
+    public Record read(final int offset) throws IOException {
+        buffer.position(offset);
+        return read();
+    }
+
+    /**
+     * Read the record at the current position into the reused flyweight record.
+     *
+     * @return Record
+     * @throws IOException if the data is invalid or the buffer is exhausted
+     */
+    public Record next() throws IOException {
+        try {
+            final int len = readSize();
+            if (cursors.length < len) {
+                final int olen = cursors.length;
+                cursors = Arrays.copyOf(cursors, len);
+                for (int i = olen; i < len; ++i) {
+                    cursors[i] = new TypeDataBufferReader();
+                }
+            }
+
+            final boolean sameSize = record != null && record.size() == len;
+            String[] names = null;
+            TypeData[] values = null;
+            for (int i = 0; i < len; ++i) {
+                if (names == null && sameSize && skipName(encodedNames[i])) {
+                    record.setAt(i, cursors[i].read(buffer, buffer.get()));
+                    continue;
+                }
+
+                if (names == null) {
+                    //schema changed, keep the matched prefix and decode the rest
+                    names = new String[len];
+                    values = new TypeData[len];
+                    for (int j = 0; j < i; ++j) {
+                        names[j] = record.nameAt(j);
+                        values[j] = record.dataAt(j);
+                    }
+                }
+                names[i] = readName(i, len);
+                values[i] = cursors[i].read(buffer, buffer.get());
+            }
+
+            if (names != null) {
+                record = new Record(RecordSchema.build(Arrays.asList(names)));
+                for (int i = 0; i < len; ++i) {
+                    record.setAt(i, values[i]);
+                }
+            } else if (!sameSize) {
+                record = new Record(RecordSchema.EMPTY);
+                encodedNames = EMPTY_NAMES;
+            }
+            return record;
+        } catch (BufferUnderflowException e) {
+            throw new BinaryEOFException();
+        }
+    }
+
+    /**
+     * Read the record at the offset into the reused flyweight record.
+     *
+     * @param offset the offset
+     * @return Record
+     * @throws IOException if the data is invalid or the buffer is exhausted
+     */
+    public Record next(final int offset) throws IOException {
+        buffer.position(offset);
+        return next();
+    }
+
+    /**
+     * Return a standalone copy of a record returned by <code>next</code>.
+     *
+     * @param flyweight the flyweight record
+     * @return Record
+     */
+    public Record detach(final Record flyweight) {
+        final Record copy = flyweight.templateCopy();
+        final int len = flyweight.size();
+        for (int i = 0; i < len; ++i) {
+            copy.setAt(i, cursors[i].detach(flyweight.dataAt(i)));
+        }
+        return copy;
+    }
+
+    private int readSize() throws IOException {
+        switch(buffer.get()) {
+            case XNumberUtils.BYTE_ZERO:     return 0;
+            case XNumberUtils.BYTE_ONE:      return buffer.get();
+            case XNumberUtils.BYTE_TWO:      return buffer.getShort();
+            default:                        return buffer.getInt();
+        }
+    }
+
+    private boolean skipName(final byte[] encoded) {
+        final int pos = buffer.position();
+        final int len = encoded.length;
+        if (buffer.remaining() < len) {
+            return false;
+        }
+        for (int i = 0; i < len; ++i) {
+            if (buffer.get(pos + i) != encoded[i]) {
+                return false;
+            }
+        }
+        buffer.position(pos + len);
+        return true;
+    }
+
+    private String readName(final int index, final int len) throws IOException {
+        if (encodedNames.length != len) {
+            encodedNames = Arrays.copyOf(encodedNames, len);
+        }
+
+        final int pos = buffer.position();
+        final String name = DataInputStream.readUTF(input);
+        final byte[] encoded = new byte[buffer.position() - pos];
+        for (int i = 0; i < encoded.length; ++i) {
+            encoded[i] = buffer.get(pos + i);
+        }
+        encodedNames[index] = encoded;
+        return name;
+    }
+}
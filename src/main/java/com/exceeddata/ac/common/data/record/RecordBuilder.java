@@ -1,5 +1,6 @@
 package com.exceeddata.ac.common.data.record;
 
+import com.exceeddata.ac.common.data.template.Template;
 import com.exceeddata.ac.common.data.typedata.NullData;
 
 public final class RecordBuilder {
@@ -13,6 +14,16 @@ public final class RecordBuilder {
         return record;
     }
     
+    /**
+     * Create a template record sharing the interned schema of a template.
+     * 
+     * @param template the template
+     * @return Record
+     */
+    public static Record newTemplateRecord(final Template template) {
+        return new Record(RecordSchema.of(template));
+    }
+    
     public static Record newTemplateRecord(final String[] names, final String... additionals) {
         final Record record = new Record(names.length + additionals.length);
         for (int i = 0; i < names.length; ++i) {
@@ -0,0 +1,394 @@
+package com.exceeddata.ac.common.data.record;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.BinaryData;
+import com.exceeddata.ac.common.data.typedata.BooleanData;
+import com.exceeddata.ac.common.data.typedata.DataCache;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.FloatData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.NullData;
+import com.exceeddata.ac.common.data.typedata.StringData;
+import com.exceeddata.ac.common.data.typedata.TimestampData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+import com.exceeddata.ac.common.util.XTypeDataUtils;
+import com.exceeddata.ac.common.util.reader.ByteBufferObjectInput;
+import com.exceeddata.ac.common.util.writer.BytesObjectOutput;
+
+/**
+ * <code>RecordCodec</code> defines a compact binary stream format for records, independent of
+ * <code>ObjectOutput</code> and the <code>Record.writeExternal</code> format.
+ *
+ * The field names are written once as a schema header, and again only when the names of the next
+ * record differ. Each record is then written as a null bitmap followed by a type byte per field and
+ * the payload of each non-null value. Whole numbers and timestamps are zigzag varints, floating points
+ * are little endian, strings and binaries are varint length prefixed; all other types fall back to
+ * their <code>writeExternal</code> payload.
+ *
+ * A codec instance keeps the schema state of one stream direction, so the same instance must not be
+ * used to encode and decode different streams at the same time.
+ */
+public final class RecordCodec {
+    private static final byte TAG_RECORD = 1;
+    private static final byte TAG_SCHEMA_RECORD = 2;
+
+    private BytesObjectOutput out = null;
+    private String[] writeNames = null;
+    private RecordSchema writeSchema = null;
+    private RecordSchema readSchema = null;
+    private ByteBufferObjectInput in = null;
+
+    public RecordCodec() {
+        this.out = new BytesObjectOutput();
+    }
+
+    public RecordCodec(final int capacity) {
+        this.out = new BytesObjectOutput(capacity);
+    }
+
+    private RecordCodec(final BytesObjectOutput out) {
+        this.out = out;
+    }
+
+    /**
+     * Discard the encoded bytes while keeping the schema state of the stream.
+     */
+    public void clear() {
+        out.clear();
+    }
+
+    /**
+     * Discard the encoded bytes and the schema state, for starting a new stream.
+     */
+    public void reset() {
+        out.clear();
+        writeNames = null;
+        writeSchema = null;
+        readSchema = null;
+    }
+
+    /**
+     * Get the number of encoded bytes.
+     *
+     * @return int
+     */
+    public int size() {
+        return out.size();
+    }
+
+    /**
+     * Return a copy of the encoded bytes.
+     *
+     * @return byte[]
+     */
+    public byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    /**
+     * Return unsafe reference to the encode buffer, valid bytes range from 0 to size().
+     *
+     * @return byte[]
+     */
+    public byte[] unsafeBuffer() {
+        return out.unsafeBuffer();
+    }
+
+    /**
+     * Write the encoded bytes to a ByteBuffer.
+     *
+     * @param buffer the target buffer
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        out.writeTo(buffer);
+    }
+
+    /**
+     * Write the encoded bytes to an OutputStream.
+     *
+     * @param stream the target stream
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(final OutputStream stream) throws IOException {
+        out.writeTo(stream);
+    }
+
+    /**
+     * Encode a record and append it to the encode buffer.
+     *
+     * @param record the record
+     * @return RecordCodec
+     * @throws IOException if a value cannot be encoded
+     */
+    public RecordCodec encode(final Record record) throws IOException {
+        final int size = record.size();
+        final String[] names = record.unsafeNames();
+
+        if (sameSchema(record, names, size)) {
+            out.writeByte(TAG_RECORD);
+        } else {
+            out.writeByte(TAG_SCHEMA_RECORD);
+            out.writeVarInt(size);
+            for (int i = 0; i < size; ++i) {
+                final byte[] b = names[i].getBytes(StandardCharsets.UTF_8);
+                out.writeVarInt(b.length);
+                out.write(b, 0, b.length);
+            }
+        }
+
+        final TypeData[] datas = record.unsafeDatas();
+        for (int i = 0; i < size; i += 8) {
+            int bits = 0;
+            for (int j = i, e = Math.min(i + 8, size); j < e; ++j) {
+                if (datas[j] == null || datas[j].isNull()) {
+                    bits |= 1 << (j - i);
+                }
+            }
+            out.writeByte(bits);
+        }
+
+        for (int i = 0; i < size; ++i) {
+            final TypeData data = datas[i] != null ? datas[i] : NullData.INSTANCE;
+            final byte type = data.getType();
+            out.writeByte(type);
+            if (!data.isNull()) {
+                writeValue(type, data);
+            }
+        }
+        return this;
+    }
+
+    private boolean sameSchema(final Record record, final String[] names, final int size) {
+        final RecordSchema schema = record.unsafeSchema();
+        if (schema == writeSchema) {
+            return true;
+        }
+
+        boolean same = writeNames != null && writeNames.length == size;
+        for (int i = 0; same && i < size; ++i) {
+            same = writeNames[i].equals(names[i]);
+        }
+        if (!same) {
+            writeNames = record.names();
+        }
+        writeSchema = schema.isFrozen() ? schema : null;
+        return same;
+    }
+
+    private void writeValue(final byte type, final TypeData data) throws IOException {
+        switch (type) {
+            case Types.INT: {
+                final int v = data.toInt();
+                out.writeVarInt((v << 1) ^ (v >> 31));
+                return;
+            }
+            case Types.LONG:
+            case Types.TIMESTAMP: {
+                final long v = data.toLong();
+                out.writeVarLong((v << 1) ^ (v >> 63));
+                return;
+            }
+            case Types.FLOAT:
+                out.writeIntLE(Float.floatToRawIntBits(data.toFloat()));
+                return;
+            case Types.DOUBLE:
+                out.writeLongLE(Double.doubleToRawLongBits(data.toDouble()));
+                return;
+            case Types.BOOLEAN:
+                out.writeByte(data.toBoolean() ? 1 : 0);
+                return;
+            case Types.STRING: {
+                final byte[] b = ((StringData) data).getString().getBytes(StandardCharsets.UTF_8);
+                out.writeVarInt(b.length);
+                out.write(b, 0, b.length);
+                return;
+            }
+            case Types.BINARY: {
+                final byte[] b = ((BinaryData) data).getBytes();
+                out.writeVarInt(b.length);
+                out.write(b, 0, b.length);
+                return;
+            }
+            default:
+                data.writeExternal(out);
+        }
+    }
+
+    /**
+     * Decode a byte array containing a whole stream.
+     *
+     * @param bytes the bytes
+     * @return the records
+     * @throws IOException if the bytes are malformed
+     */
+    public static List<Record> decodeAll(final byte[] bytes) throws IOException {
+        final RecordCodec codec = new RecordCodec((BytesObjectOutput) null); //decode only
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final ArrayList<Record> records = new ArrayList<>();
+        Record record;
+        while ((record = codec.decode(buffer)) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Decode the next record from the position of a buffer, advancing the position. Returns null
+     * if the buffer has no remaining bytes. The decoded records of a stream share a frozen schema.
+     *
+     * @param buffer the buffer
+     * @return Record
+     * @throws IOException if the bytes are malformed
+     */
+    public Record decode(final ByteBuffer buffer) throws IOException {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        final byte tag = buffer.get();
+        if (tag == TAG_SCHEMA_RECORD) {
+            final int size = readVarInt(buffer);
+            final String[] names = new String[size];
+            for (int i = 0; i < size; ++i) {
+                names[i] = readString(buffer, readVarInt(buffer));
+            }
+            readSchema = RecordSchema.build(Arrays.asList(names));
+        } else if (tag != TAG_RECORD || readSchema == null) {
+            throw new IOException("RECORD_CODEC_INVALID_TAG");
+        }
+
+        final int size = readSchema.size();
+        final int bitmap = buffer.position();
+        require(buffer, (size + 7) >>> 3);
+        buffer.position(bitmap + ((size + 7) >>> 3));
+
+        final TypeData[] datas = new TypeData[size];
+        for (int i = 0; i < size; ++i) {
+            require(buffer, 1);
+            final byte type = buffer.get();
+            datas[i] = (buffer.get(bitmap + (i >>> 3)) & (1 << (i & 7))) != 0
+                    ? nullOf(type)
+                    : readValue(buffer, type);
+        }
+        return new Record(readSchema, datas);
+    }
+
+    private TypeData readValue(final ByteBuffer buffer, final byte type) throws IOException {
+        switch (type) {
+            case Types.INT: {
+                final int v = readVarInt(buffer);
+                return IntData.nonNullValueOf((v >>> 1) ^ -(v & 1));
+            }
+            case Types.LONG: {
+                final long v = readVarLong(buffer);
+                return LongData.nonNullValueOf((v >>> 1) ^ -(v & 1));
+            }
+            case Types.TIMESTAMP: {
+                final long v = readVarLong(buffer);
+                return TimestampData.valueOf((v >>> 1) ^ -(v & 1));
+            }
+            case Types.FLOAT:
+                require(buffer, 4);
+                return FloatData.nonNullValueOf(Float.intBitsToFloat(readIntLE(buffer)));
+            case Types.DOUBLE: {
+                require(buffer, 8);
+                final long low = readIntLE(buffer) & 0xFFFFFFFFl;
+                final long high = readIntLE(buffer);
+                return DoubleData.nonNullValueOf(Double.longBitsToDouble((high << 32) | low));
+            }
+            case Types.BOOLEAN:
+                require(buffer, 1);
+                return buffer.get() != 0 ? BooleanData.TRUE : BooleanData.FALSE;
+            case Types.STRING:
+                return DataCache.getOrPutStringData(readString(buffer, readVarInt(buffer)));
+            case Types.BINARY: {
+                final int len = readVarInt(buffer);
+                require(buffer, len);
+                final byte[] b = new byte[len];
+                buffer.get(b, 0, len);
+                return BinaryData.valueOf(b);
+            }
+            default:
+                if (in == null) {
+                    in = new ByteBufferObjectInput(buffer);
+                }
+                return XTypeDataUtils.readTypeData(in.setBuffer(buffer), type);
+        }
+    }
+
+    private static TypeData nullOf(final byte type) {
+        switch (type) {
+            case Types.INT: return IntData.NULL;
+            case Types.LONG: return LongData.NULL;
+            case Types.FLOAT: return FloatData.NULL;
+            case Types.DOUBLE: return DoubleData.NULL;
+            case Types.BOOLEAN: return BooleanData.NULL;
+            case Types.STRING: return StringData.NULL;
+            case Types.TIMESTAMP: return TimestampData.NULL;
+            case Types.NULL: return NullData.INSTANCE;
+            default: return XTypeDataUtils.getTypeDataInstance(type);
+        }
+    }
+
+    private static void require(final ByteBuffer buffer, final int len) throws IOException {
+        if (buffer.remaining() < len) {
+            throw new BinaryEOFException();
+        }
+    }
+
+    private static int readIntLE(final ByteBuffer buffer) {
+        return (buffer.get() & 0xFF)
+             | ((buffer.get() & 0xFF) << 8)
+             | ((buffer.get() & 0xFF) << 16)
+             | ((buffer.get() & 0xFF) << 24);
+    }
+
+    private static int readVarInt(final ByteBuffer buffer) throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            require(buffer, 1);
+            final byte b = buffer.get();
+            v |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return v;
+            }
+        }
+        throw new IOException("RECORD_CODEC_MALFORMED_VARINT");
+    }
+
+    private static long readVarLong(final ByteBuffer buffer) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            require(buffer, 1);
+            final byte b = buffer.get();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return v;
+            }
+        }
+        throw new IOException("RECORD_CODEC_MALFORMED_VARINT");
+    }
+
+    private static String readString(final ByteBuffer buffer, final int len) throws IOException {
+        require(buffer, len);
+        final int pos = buffer.position();
+        if (buffer.hasArray()) {
+            buffer.position(pos + len);
+            return new String(buffer.array(), buffer.arrayOffset() + pos, len, StandardCharsets.UTF_8);
+        }
+
+        final byte[] b = new byte[len];
+        buffer.get(b, 0, len);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,381 @@
+package com.exceeddata.ac.common.data.record;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.typedata.ClockCacheStore;
+import com.exceeddata.ac.common.data.typedata.DataCacheStore;
+
+/**
+ * <code>RecordSchema</code> defines the names and name lookup hash table of a <code>Record</code>.
+ *
+ * A schema is owned by a single record until it is frozen. A frozen schema is immutable and may be
+ * shared by any number of records, each of which only holds its own data. Records sharing a frozen
+ * schema copy it on write when a name is added or removed.
+ *
+ * Schemas from <code>of</code> are interned in a bounded cache of MAX_INTERNED entries, so a schema
+ * evicted by many other name lists is rebuilt on its next use and is then a different instance.
+ *
+ * MAX_LEN = 0x40000000,  Largest power of 2 that fits in an int
+ */
+public final class RecordSchema implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final double incrementLoadFactor = 0.8;  // 0 < loadFactor < 1
+
+    private static final int TOMBSTONE_POSITION = -1;
+    private static final int EMPTY_POSITION = -2;
+
+    private static final String[] DEFAULTCAPACITY_EMPTY_NAMES = {};
+
+    /** The maximum number of interned schemas. */
+    public static final int MAX_INTERNED = 4096;
+
+    static final DataCacheStore<List<String>, RecordSchema> INTERNED = new ClockCacheStore<>(MAX_INTERNED);
+
+    public static final RecordSchema EMPTY = new RecordSchema(0).freeze();
+
+    int[] positions = null;  // Length is always a power of 2. Each element is either null, tombstone, or data. At least one element must be null.
+    String[] names = null;   // indexed with data
+    int size = 0;            // Number of items stored in hash table
+    boolean frozen = false;
+
+    RecordSchema (final int initialCapacity) {
+        names = initialCapacity > 0 ? new String[initialCapacity] : DEFAULTCAPACITY_EMPTY_NAMES;
+        resize(initialCapacity);
+    }
+
+    private RecordSchema (final RecordSchema schema, final int capacity) {
+        size = schema.size;
+        names = new String[Math.max(capacity, size)];
+        if (size > 0) {
+            System.arraycopy(schema.names, 0, names, 0, size);
+        }
+        positions = new int[schema.positions.length];
+        System.arraycopy(schema.positions, 0, positions, 0, schema.positions.length);
+    }
+
+    /**
+     * Get the interned frozen schema for the names of a template.
+     *
+     * @param template the template
+     * @return RecordSchema
+     */
+    public static RecordSchema of(final Template template) {
+        return of(template.names());
+    }
+
+    /**
+     * Get the interned frozen schema for a list of names.
+     *
+     * @param names the names
+     * @return RecordSchema
+     */
+    public static RecordSchema of(final List<String> names) {
+        RecordSchema schema = INTERNED.get(names);
+        if (schema == null) {
+            schema = build(names);
+            INTERNED.put(new ArrayList<>(names), schema);
+        }
+        return schema;
+    }
+
+    /**
+     * Get the interned frozen schema for an array of names.
+     *
+     * @param names the names
+     * @return RecordSchema
+     */
+    public static RecordSchema of(final String... names) {
+        return of(Arrays.asList(names));
+    }
+
+    /**
+     * Build a frozen schema for a list of names without interning it, for names decoded from data
+     * that may vary without bound.
+     *
+     * @param names the names
+     * @return RecordSchema
+     */
+    static RecordSchema build(final List<String> names) {
+        final RecordSchema schema = new RecordSchema(names.size());
+        for (final String name : names) {
+            final int index = schema.probe(name, Hashing.getHash(name));
+            if (index < 0) {
+                schema.append(name, ~index);
+            }
+        }
+        return schema.freeze();
+    }
+
+    /**
+     * Freeze the schema so that it can be shared.
+     *
+     * @return RecordSchema
+     */
+    public RecordSchema freeze() {
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Get whether the schema is frozen.
+     *
+     * @return true or false
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Get the number of names.
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the name at a specified position.
+     *
+     * @param position the position
+     * @return String
+     */
+    public String nameAt(final int position) {
+        return names[position];
+    }
+
+    /**
+     * Return a copy of the names.
+     *
+     * @return String[]
+     */
+    public String[] names() {
+        return Arrays.copyOf(names, size);
+    }
+
+    /**
+     * Get a mutable copy of the schema with at least the specified capacity.
+     *
+     * @param capacity the capacity
+     * @return RecordSchema
+     */
+    RecordSchema mutableCopy(final int capacity) {
+        return new RecordSchema(this, capacity);
+    }
+
+    /**
+     * Get the index with a specified name. -1 if not found
+     *
+     * @param name the name
+     * @return int
+     */
+    public int indexOf (final String name) {
+        return indexOf(name, Hashing.getHash(name));
+    }
+
+    /**
+     * Get the index with a specified name and hash of insertion. -1 if not found
+     *
+     * @param name the name
+     * @param nameHash the hash of name.
+     * @return int
+     */
+    public int indexOf (final String name, final int nameHash) {
+        final int lengthMask = positions.length - 1;
+        final int initIndex = nameHash & lengthMask;
+        int position = positions[initIndex];
+
+        if (position < 0) {
+            if (position == EMPTY_POSITION) {
+                return -1;
+            }
+        } else if (names[position].equals(name)) {
+            return position;
+        }
+
+        final int lengthBits = Integer.bitCount(lengthMask);
+        final int increment = Math.max((nameHash >>> lengthBits) & lengthMask, 1);
+        int index = (initIndex + increment) & lengthMask;
+        int start = index;
+        while (true) {
+            position = positions[index];
+            if (position < 0) {
+                if (position == EMPTY_POSITION) {
+                    return -1;
+                }
+            } else if (names[position].equals(name)) {
+                return position;
+            }
+
+            index = (index + 1) & lengthMask;
+            if (index == start) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    /**
+     * Probe the hash table slot of a name. Returns the slot if found, otherwise the complement of the
+     * slot to insert into.
+     *
+     * @param name the name
+     * @param nameHash the hash of name
+     * @return int
+     */
+    int probe(final String name, final int nameHash) {
+        final int lengthMask = positions.length - 1;
+        final int initIndex = nameHash & lengthMask;
+        int position = positions[initIndex], emptyIndex = -1;
+
+        if (position < 0) {
+            if (position == EMPTY_POSITION) {
+                return ~initIndex;
+            } else {
+                emptyIndex = initIndex;
+            }
+        } else if (names[position].equals(name)) {
+            return initIndex;
+        }
+
+        final int lengthBits = Integer.bitCount(lengthMask);
+        final int increment = Math.max((nameHash >>> lengthBits) & lengthMask, 1);
+        int index = (initIndex + increment) & lengthMask;
+        int start = index;
+        while (true) {
+            position = positions[index];
+            if (position < 0) {
+                if (position == EMPTY_POSITION) {
+                    return emptyIndex != -1 ? ~emptyIndex : ~index;
+                } else if (emptyIndex == -1) {
+                    emptyIndex = index;
+                }
+            } else if (names[position].equals(name)) {
+                return index;
+            }
+
+            index = (index + 1) & lengthMask;
+            if (index == start) {
+                if (emptyIndex != -1) {
+                    return ~emptyIndex;
+                }
+                throw new AssertionError();
+            }
+        }
+    }
+
+    /**
+     * Get the position stored at a hash table slot.
+     *
+     * @param index the slot returned by probe
+     * @return int
+     */
+    int positionAt(final int index) {
+        return positions[index];
+    }
+
+    /**
+     * Ensure the capacity of the names.
+     *
+     * @param capacity the capacity
+     */
+    void ensureCapacity(final int capacity) {
+        if (capacity > names.length) {
+            final String[] nnames = new String[capacity];
+            if (size > 0) {
+                System.arraycopy(names, 0, nnames, 0, size);
+            }
+            names = nnames;
+        }
+    }
+
+    /**
+     * Append a name at a free hash table slot, the names must have capacity.
+     *
+     * @param name the name
+     * @param index the free slot
+     * @return the position of the name
+     */
+    int append(final String name, final int index) {
+        if (size >= names.length) {
+            ensureCapacity(size + 1);
+        }
+
+        final int position = size;
+        positions[index] = position;
+        names[size++] = name;
+
+        if (size > positions.length * incrementLoadFactor) {  // Refresh or expand hash table
+            int newLen = positions.length;
+            while (size > newLen * incrementLoadFactor) {
+                newLen *= 2;
+            }
+            resize(newLen);
+        }
+        return position;
+    }
+
+    /**
+     * Remove the name at a position.
+     *
+     * @param position the position
+     */
+    void removeAt(final int position) {
+        final int index = probe(names[position], Hashing.getHash(names[position]));
+        positions[index] = TOMBSTONE_POSITION;
+
+        final int numMoved = size - position - 1;
+        if (numMoved > 0) {
+            System.arraycopy(names, position+1, names, position, numMoved);
+
+            for (int i = 0, s = positions.length; i < s; ++i) {
+                if (positions[i] > position) {
+                    positions[i] = positions[i] - 1;
+                }
+            }
+        }
+
+        names[--size] = null;
+    }
+
+    private void resize(int newLen) {
+        if (newLen <= size) {
+            if (newLen == 0) {
+                newLen = 1;
+            } else {
+                throw new AssertionError();
+            }
+        }
+
+        int power2 = roundPower2(newLen);
+        while (newLen < power2 && (double) newLen / power2 > incrementLoadFactor) {
+            power2 *= 2;
+        }
+        newLen = power2;
+        positions = new int[newLen];
+        Arrays.fill(positions, EMPTY_POSITION);
+
+        int index;
+        //probe new index
+        for (int i = 0; i < size; ++i) {
+            if ((index = probe(names[i], Hashing.getHash(names[i]))) >= 0) {
+                throw new AssertionError();
+            }
+            index = ~index;
+            positions[index] = i;
+        }
+    }
+
+    private static int roundPower2(int v) {
+        --v;
+        v |= v >> 1;
+        v |= v >> 2;
+        v |= v >> 4;
+        v |= v >> 8;
+        v |= v >> 16;
+        return ++v;
+    }
+}
@@ -2,9 +2,45 @@ package com.exceeddata.ac.common.data.template;
 
 import java.io.Serializable;
 
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.LongData;
 import com.exceeddata.ac.common.data.typedata.TypeData;
 import com.exceeddata.ac.common.exception.EngineException;
 
 public interface FieldFormula extends Serializable {
     public TypeData calculate(final TypeData data) throws EngineException;
+
+    /**
+     * Whether the formula has a primitive path, i.e. the descriptor type is not DECIMAL and
+     * <code>calculateDouble</code> and <code>calculateLong</code> do not go through <code>BigDecimal</code>.
+     *
+     * @return boolean
+     */
+    public default boolean isPrimitive() {
+        return false;
+    }
+
+    /**
+     * Calculate the physical value of a raw value.
+     *
+     * @param value the raw value
+     * @return the physical value, or NaN if the result is null
+     * @throws EngineException if calculation fails
+     */
+    public default double calculateDouble(final double value) throws EngineException {
+        final TypeData result = calculate(DoubleData.nonNullValueOf(value));
+        return result.isEmpty() ? Double.NaN : result.toDouble();
+    }
+
+    /**
+     * Calculate the physical value of a whole raw value, truncated to long.
+     *
+     * @param value the raw value
+     * @return the physical value, or 0 if the result is null
+     * @throws EngineException if calculation fails
+     */
+    public default long calculateLong(final long value) throws EngineException {
+        final TypeData result = calculate(LongData.nonNullValueOf(value));
+        return result.isEmpty() ? 0l : result.toLong();
+    }
 }
@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.exceeddata.ac.common.data.type.Types;
-import com.exceeddata.ac.common.data.typedata.DataConv;
 import com.exceeddata.ac.common.data.typedata.DoubleData;
 import com.exceeddata.ac.common.data.typedata.LongData;
 import com.exceeddata.ac.common.data.typedata.TypeData;
@@ -18,6 +17,8 @@ public class FieldFormulaDecode implements FieldFormula {
     private List<BigDecimal> list = null;
     private List<TypeData> datas = null;
     private int lsize = 0;
+    private LookupTable table = null;
+    private boolean primitive = false;
     
     public FieldFormulaDecode(
             final DescType descType,
@@ -37,6 +38,8 @@ public class FieldFormulaDecode implements FieldFormula {
             this.list.add(list.get(i).toDecimal());
             this.datas.add(list.get(i));
         }
+        this.table = new LookupTable(this.list);
+        this.primitive = FieldFormulas.isPrimitiveType(type);
     }
     
     public FieldFormulaDecode(
@@ -60,6 +63,8 @@ public class FieldFormulaDecode implements FieldFormula {
         for (int i = 0; i < size; ++i) {
             this.datas.add(decimalToTypeData(list.get(i)));
         }
+        this.table = new LookupTable(this.list);
+        this.primitive = FieldFormulas.isPrimitiveType(type);
     }
     
     @Override
@@ -69,7 +74,13 @@ public class FieldFormulaDecode implements FieldFormula {
         }
         
         //value-to-value without interpolation
-        final BigDecimal value = (type == data.getType() || type == Types.ANY) ? data.toDecimal() : DataConv.convert(data, type).toDecimal();
+        final TypeData input = FieldFormulas.input(data, type);
+        if (primitive && FieldFormulas.inputKind(input) != FieldFormulas.INPUT_DECIMAL) {
+            final int index = table.nearest(input.toDouble());
+            return index >= 0 ? datas.get(2 * index + 1) : DoubleData.NULL;
+        }
+        
+        final BigDecimal value = input.toDecimal();
         BigDecimal x = list.get(0);
         TypeData y = datas.get(1);
         int compare = x.compareTo(value);
@@ -94,6 +105,28 @@ public class FieldFormulaDecode implements FieldFormula {
         return datas.get(2 * lsize -1); //last ditch
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrimitive() {
+        return primitive;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double calculateDouble(final double value) throws EngineException {
+        if (primitive) {
+            final int index = table.nearest(value);
+            return index >= 0 ? table.y(index) : Double.NaN;
+        }
+        return FieldFormula.super.calculateDouble(value);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long calculateLong(final long value) throws EngineException {
+        return primitive ? (long) table.y(table.nearest(value)) : FieldFormula.super.calculateLong(value);
+    }
+    
     private static TypeData decimalToTypeData(final BigDecimal val) {
         if (val.signum() == 0 || val.scale() <= 0 || val.stripTrailingZeros().scale() <= 0) {
             return LongData.nonNullValueOf(val.longValue());
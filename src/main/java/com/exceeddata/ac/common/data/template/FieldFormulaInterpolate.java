@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.exceeddata.ac.common.data.type.Types;
-import com.exceeddata.ac.common.data.typedata.DataConv;
 import com.exceeddata.ac.common.data.typedata.DoubleData;
 import com.exceeddata.ac.common.data.typedata.TypeData;
 import com.exceeddata.ac.common.exception.EngineException;
@@ -16,6 +15,8 @@ public class FieldFormulaInterpolate implements FieldFormula {
     private byte type = Types.ANY;
     private List<BigDecimal> list = null;
     private int lsize = 0;
+    private LookupTable table = null;
+    private boolean primitive = false;
     
     public FieldFormulaInterpolate(
             final DescType descType,
@@ -37,6 +38,8 @@ public class FieldFormulaInterpolate implements FieldFormula {
         for (int i = 0; i < size; ++i) {
             this.list.add(list.get(i).toDecimal());
         }
+        this.table = new LookupTable(this.list);
+        this.primitive = FieldFormulas.isPrimitiveType(type);
     }
     
     public FieldFormulaInterpolate(
@@ -52,6 +55,8 @@ public class FieldFormulaInterpolate implements FieldFormula {
         final int size = list.size();
         this.lsize = size / 2;
         this.list = new ArrayList<>(list);
+        this.table = new LookupTable(this.list);
+        this.primitive = FieldFormulas.isPrimitiveType(type);
     }
     
     @Override
@@ -61,7 +66,12 @@ public class FieldFormulaInterpolate implements FieldFormula {
         }
         
         //value-to-value with interpolation
-        final BigDecimal value = (type == data.getType() || type == Types.ANY) ? data.toDecimal() : DataConv.convert(data, type).toDecimal();
+        final TypeData input = FieldFormulas.input(data, type);
+        if (primitive && FieldFormulas.inputKind(input) != FieldFormulas.INPUT_DECIMAL) {
+            return DoubleData.nonNullValueOf(table.interpolate(input.toDouble()));
+        }
+        
+        final BigDecimal value = input.toDecimal();
         BigDecimal x1, x2, y1, y2, a;
         x1 = list.get(0);
         y1 = list.get(1);
@@ -97,4 +107,22 @@ public class FieldFormulaInterpolate implements FieldFormula {
             return DoubleData.nonNullValueOf(y1.add(a.multiply(value.subtract(x1))).doubleValue());
         }
     }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrimitive() {
+        return primitive;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double calculateDouble(final double value) throws EngineException {
+        return primitive ? table.interpolate(value) : FieldFormula.super.calculateDouble(value);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long calculateLong(final long value) throws EngineException {
+        return primitive ? (long) table.interpolate(value) : FieldFormula.super.calculateLong(value);
+    }
 }
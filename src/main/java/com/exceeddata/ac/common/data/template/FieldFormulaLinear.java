@@ -3,7 +3,6 @@ package com.exceeddata.ac.common.data.template;
 import java.math.BigDecimal;
 
 import com.exceeddata.ac.common.data.type.Types;
-import com.exceeddata.ac.common.data.typedata.DataConv;
 import com.exceeddata.ac.common.data.typedata.DoubleData;
 import com.exceeddata.ac.common.data.typedata.LongData;
 import com.exceeddata.ac.common.data.typedata.TypeData;
@@ -15,8 +14,15 @@ public class FieldFormulaLinear implements FieldFormula {
     private byte type = Types.ANY;
     private BigDecimal adjustment = BigDecimal.ZERO;
     private BigDecimal multiplier = BigDecimal.ONE;
-    private boolean noMultiplier = false;
-    private boolean noAdjustment = false;
+    
+    //compiled coefficients of the primitive path, a = aUnscaled / pow and b = bUnscaled / pow when exact
+    private boolean primitive = false;
+    private boolean exact = false;
+    private double ad = 1d;
+    private double bd = 0d;
+    private long aUnscaled = 1l;
+    private long bUnscaled = 0l;
+    private long pow = 1l;
     
     public FieldFormulaLinear(
             final DescType descType,
@@ -41,6 +47,25 @@ public class FieldFormulaLinear implements FieldFormula {
         if (this.adjustment == null) {
             throw new EngineException("FIELD_FORMULA_LINEAR_B_EMPTY");
         }
+        compile();
+    }
+    
+    private void compile() {
+        this.primitive = FieldFormulas.isPrimitiveType(type);
+        this.ad = multiplier.doubleValue();
+        this.bd = adjustment.doubleValue();
+        
+        final int scale = Math.max(0, Math.max(multiplier.scale(), adjustment.scale()));
+        if (scale <= 18) {
+            try {
+                this.aUnscaled = multiplier.setScale(scale).unscaledValue().longValueExact();
+                this.bUnscaled = adjustment.setScale(scale).unscaledValue().longValueExact();
+                this.pow = BigDecimal.ONE.movePointRight(scale).longValueExact();
+                this.exact = true;
+            } catch (ArithmeticException e) {
+                this.exact = false;
+            }
+        }
     }
     
     @Override
@@ -49,12 +74,58 @@ public class FieldFormulaLinear implements FieldFormula {
             return DoubleData.NULL;
         }
         
-        final BigDecimal value = (type == data.getType() || type == Types.ANY) ? data.toDecimal() : DataConv.convert(data, type).toDecimal();
-        if (noMultiplier) {
-            return noAdjustment ? DoubleData.nonNullValueOf(value.doubleValue()) : decimalToTypeData(adjustment.add(value));
-        } else {
-            return decimalToTypeData(noAdjustment ? multiplier.multiply(value) : multiplier.multiply(value).add(adjustment));
+        final TypeData input = FieldFormulas.input(data, type);
+        if (primitive) {
+            switch(FieldFormulas.inputKind(input)) {
+                case FieldFormulas.INPUT_LONG: return calculateExact(input.toLong());
+                case FieldFormulas.INPUT_DOUBLE: return FieldFormulas.toTypeData(ad * input.toDouble() + bd);
+                default:
+            }
+        }
+        
+        return decimalToTypeData(multiplier.multiply(input.toDecimal()).add(adjustment));
+    }
+    
+    private TypeData calculateExact(final long value) {
+        if (exact) {
+            try {
+                final long n = Math.addExact(Math.multiplyExact(aUnscaled, value), bUnscaled);
+                if (n % pow == 0) {
+                    return LongData.nonNullValueOf(n / pow);
+                } else if (Math.abs(n) <= 1l << 53) {
+                    //both operands are exact doubles, the quotient is rounded like BigDecimal.doubleValue
+                    return DoubleData.nonNullValueOf(n / (double) pow);
+                }
+            } catch (ArithmeticException e) {
+                //overflow, fall through to the double path
+            }
+        }
+        return FieldFormulas.toTypeData(ad * value + bd);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrimitive() {
+        return primitive;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double calculateDouble(final double value) throws EngineException {
+        return primitive ? ad * value + bd : FieldFormula.super.calculateDouble(value);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long calculateLong(final long value) throws EngineException {
+        if (primitive && exact) {
+            try {
+                return Math.addExact(Math.multiplyExact(aUnscaled, value), bUnscaled) / pow;
+            } catch (ArithmeticException e) {
+                return (long) (ad * value + bd);
+            }
         }
+        return primitive ? (long) (ad * value + bd) : FieldFormula.super.calculateLong(value);
     }
     
     private static TypeData decimalToTypeData(final BigDecimal val) {
@@ -2,8 +2,6 @@ package com.exceeddata.ac.common.data.template;
 
 import java.math.BigDecimal;
 
-import com.exceeddata.ac.common.data.type.Types;
-import com.exceeddata.ac.common.data.typedata.DataConv;
 import com.exceeddata.ac.common.data.typedata.DoubleData;
 import com.exceeddata.ac.common.data.typedata.LongData;
 import com.exceeddata.ac.common.data.typedata.TypeData;
@@ -19,6 +17,8 @@ public class FieldFormulaPolynomial implements FieldFormula {
     private final BigDecimal p3;
     private final BigDecimal p4;
     private final BigDecimal p5;
+    private final double[] pd;
+    private final boolean primitive;
     
     public FieldFormulaPolynomial(
             final DescType descType,
@@ -56,6 +56,8 @@ public class FieldFormulaPolynomial implements FieldFormula {
         if (this.p5 == null) {
             throw new EngineException("FIELD_FORMULA_POLYNOMIAL_P5_EMPTY");
         }
+        this.pd = new double[] {this.p0.doubleValue(), this.p1.doubleValue(), this.p2.doubleValue(), this.p3.doubleValue(), this.p4.doubleValue(), this.p5.doubleValue()};
+        this.primitive = FieldFormulas.isPrimitiveType(type);
     }
     
     public FieldFormulaPolynomial(
@@ -94,6 +96,8 @@ public class FieldFormulaPolynomial implements FieldFormula {
         if (this.p5 == null) {
             throw new EngineException("FIELD_FORMULA_POLYNOMIAL_P5_EMPTY");
         }
+        this.pd = new double[] {p0.doubleValue(), p1.doubleValue(), p2.doubleValue(), p3.doubleValue(), p4.doubleValue(), p5.doubleValue()};
+        this.primitive = FieldFormulas.isPrimitiveType(type);
     }
     
     @Override
@@ -101,12 +105,44 @@ public class FieldFormulaPolynomial implements FieldFormula {
         if (data.isEmpty()) {
             return DoubleData.NULL;
         }
-        final BigDecimal value = type == Types.ANY ? data.toDecimal() : DataConv.convert(data, type).toDecimal();
+        final TypeData input = FieldFormulas.input(data, type);
+        if (primitive && FieldFormulas.inputKind(input) != FieldFormulas.INPUT_DECIMAL) {
+            return FieldFormulas.toTypeData(calculatePrimitive(input.toDouble()));
+        }
+        final BigDecimal value = input.toDecimal();
         final BigDecimal numer = p1.subtract(p3.multiply(value.subtract(p4).subtract(p5)));
         final BigDecimal denom = p2.multiply(value.subtract(p4).subtract(p5)).subtract(p0);
         return iszero(denom) ? decimalToTypeData(numer.divide(denom)) : DoubleData.NULL;
     }
     
+    private double calculatePrimitive(final double value) {
+        final double t = value - pd[4] - pd[5];
+        final double denom = pd[2] * t - pd[0];
+        return FieldFormulas.isWhole(denom) ? (pd[1] - pd[3] * t) / denom : Double.NaN;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrimitive() {
+        return primitive;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double calculateDouble(final double value) throws EngineException {
+        return isPrimitive() ? calculatePrimitive(value) : FieldFormula.super.calculateDouble(value);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long calculateLong(final long value) throws EngineException {
+        if (isPrimitive()) {
+            final double result = calculatePrimitive(value);
+            return Double.isNaN(result) ? 0l : (long) result;
+        }
+        return FieldFormula.super.calculateLong(value);
+    }
+    
     private static TypeData decimalToTypeData(final BigDecimal val) {
         if (val.signum() == 0 || val.scale() <= 0 || val.stripTrailingZeros().scale() <= 0) {
             return LongData.nonNullValueOf(val.longValue());
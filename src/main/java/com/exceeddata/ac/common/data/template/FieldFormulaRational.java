@@ -3,7 +3,6 @@ package com.exceeddata.ac.common.data.template;
 import java.math.BigDecimal;
 
 import com.exceeddata.ac.common.data.type.Types;
-import com.exceeddata.ac.common.data.typedata.DataConv;
 import com.exceeddata.ac.common.data.typedata.DoubleData;
 import com.exceeddata.ac.common.data.typedata.LongData;
 import com.exceeddata.ac.common.data.typedata.TypeData;
@@ -19,6 +18,8 @@ public class FieldFormulaRational implements FieldFormula {
     private BigDecimal p3 = BigDecimal.ZERO;
     private BigDecimal p4 = BigDecimal.ZERO;
     private BigDecimal p5 = BigDecimal.ZERO;
+    private double[] pd = null;
+    private boolean primitive = false;
     
     
     public FieldFormulaRational(
@@ -69,6 +70,8 @@ public class FieldFormulaRational implements FieldFormula {
         if (this.p5 == null) {
             throw new EngineException("FIELD_FORMULA_RATIONAL_P5_EMPTY");
         }
+        this.pd = new double[] {p0.doubleValue(), p1.doubleValue(), p2.doubleValue(), p3.doubleValue(), p4.doubleValue(), p5.doubleValue()};
+        this.primitive = FieldFormulas.isPrimitiveType(type);
     }
     
     @Override
@@ -77,12 +80,42 @@ public class FieldFormulaRational implements FieldFormula {
             return DoubleData.NULL;
         }
         
-        final BigDecimal value = (type == data.getType() || type == Types.ANY) ? data.toDecimal() : DataConv.convert(data, type).toDecimal();
+        final TypeData input = FieldFormulas.input(data, type);
+        if (primitive && FieldFormulas.inputKind(input) != FieldFormulas.INPUT_DECIMAL) {
+            final double v = input.toDouble();
+            final double denom = (v * pd[3] + pd[4]) * v + pd[5];
+            return denom != 0d ? FieldFormulas.toTypeData(((v * pd[0] + pd[1]) * v + pd[2]) / denom) : DoubleData.ZERO;
+        }
+        
+        final BigDecimal value = input.toDecimal();
         final BigDecimal numer = value.multiply(value).multiply(p0).add(value.multiply(p1)).add(p2);
         final BigDecimal denom = value.multiply(value).multiply(p3).add(value.multiply(p4)).add(p5);
         return denom.signum() != 0 ? decimalToTypeData(numer.divide(denom)) : DoubleData.ZERO;
     }
     
+    private double calculatePrimitive(final double v) {
+        final double denom = (v * pd[3] + pd[4]) * v + pd[5];
+        return denom != 0d ? ((v * pd[0] + pd[1]) * v + pd[2]) / denom : 0d;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrimitive() {
+        return primitive;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double calculateDouble(final double value) throws EngineException {
+        return primitive ? calculatePrimitive(value) : FieldFormula.super.calculateDouble(value);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long calculateLong(final long value) throws EngineException {
+        return primitive ? (long) calculatePrimitive(value) : FieldFormula.super.calculateLong(value);
+    }
+    
     private static TypeData decimalToTypeData(final BigDecimal val) {
         if (val.signum() == 0 || val.scale() <= 0 || val.stripTrailingZeros().scale() <= 0) {
             return LongData.nonNullValueOf(val.longValue());
@@ -0,0 +1,92 @@
+package com.exceeddata.ac.common.data.template;
+
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DataConv;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+/**
+ * Shared helpers of the field formulas for the primitive calculation path.
+ *
+ */
+final class FieldFormulas {
+    private FieldFormulas() {}
+
+    static final int INPUT_DECIMAL = 0;
+    static final int INPUT_LONG = 1;
+    static final int INPUT_DOUBLE = 2;
+
+    private static final double LONG_RANGE = 0x1p63;
+
+    /**
+     * Whether a descriptor type allows the primitive path.
+     *
+     * @param type the descriptor type
+     * @return boolean
+     */
+    static boolean isPrimitiveType(final byte type) {
+        switch(type) {
+            case Types.ANY:
+            case Types.INT:
+            case Types.LONG:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Convert the data to the descriptor type if needed.
+     *
+     * @param data the data
+     * @param type the descriptor type
+     * @return TypeData
+     * @throws EngineException if conversion fails
+     */
+    static TypeData input(final TypeData data, final byte type) throws EngineException {
+        return type == data.getType() || type == Types.ANY ? data : DataConv.convert(data, type);
+    }
+
+    /**
+     * Get how an input is calculated: as long, as double, or with BigDecimal.
+     *
+     * @param input the input
+     * @return int
+     */
+    static int inputKind(final TypeData input) {
+        switch(input.getType()) {
+            case Types.INT:
+            case Types.LONG:
+                return INPUT_LONG;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+                return INPUT_DOUBLE;
+            default:
+                return INPUT_DECIMAL;
+        }
+    }
+
+    static boolean isWhole(final double value) {
+        return value == Math.rint(value) && Math.abs(value) < LONG_RANGE;
+    }
+
+    /**
+     * Return LongData for whole results, DoubleData otherwise and null for NaN or infinite results,
+     * the primitive counterpart of <code>decimalToTypeData</code>.
+     *
+     * @param value the value
+     * @return TypeData
+     */
+    static TypeData toTypeData(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return DoubleData.NULL;
+        }
+        return isWhole(value) ? LongData.nonNullValueOf((long) value) : DoubleData.nonNullValueOf(value);
+    }
+}
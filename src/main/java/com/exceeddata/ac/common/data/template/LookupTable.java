@@ -0,0 +1,190 @@
+package com.exceeddata.ac.common.data.template;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.exceeddata.ac.common.exception.EngineException;
+
+/**
+ * A compiled breakpoint table of the interpolate and decode formulas: x and y values in primitive arrays
+ * with precomputed slopes. Lookups on ascending tables use a binary search, or direct indexing when the
+ * x values are evenly spaced; other tables are scanned in order like the decimal path.
+ *
+ */
+final class LookupTable implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final double UNIFORM_TOLERANCE = 1e-9;
+
+    private final int size;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] slopes;
+    private final boolean ascending;
+    private final boolean uniform;
+    private final double x0;
+    private final double inverseStep;
+
+    /**
+     * Construct a table from interleaved x and y values.
+     *
+     * @param list the interleaved values
+     * @throws EngineException if the list holds no x and y pair
+     */
+    LookupTable(final List<BigDecimal> list) throws EngineException {
+        this.size = list.size() / 2;
+        if (size == 0) {
+            throw new EngineException("FIELD_FORMULA_LOOKUP_TABLE_EMPTY");
+        }
+        this.xs = new double[size];
+        this.ys = new double[size];
+        for (int i = 0; i < size; ++i) {
+            xs[i] = list.get(2 * i).doubleValue();
+            ys[i] = list.get(2 * i + 1).doubleValue();
+        }
+
+        this.slopes = new double[Math.max(size - 1, 0)];
+        boolean asc = true;
+        for (int i = 0; i < size - 1; ++i) {
+            slopes[i] = (ys[i + 1] - ys[i]) / (xs[i + 1] - xs[i]);
+            asc &= xs[i] < xs[i + 1];
+        }
+        this.ascending = asc;
+
+        boolean even = asc && size > 2;
+        final double step = size > 1 ? (xs[size - 1] - xs[0]) / (size - 1) : 0d;
+        for (int i = 1; even && i < size - 1; ++i) {
+            even = Math.abs(xs[i] - (xs[0] + i * step)) <= UNIFORM_TOLERANCE * step;
+        }
+        this.uniform = even;
+        this.x0 = size > 0 ? xs[0] : 0d;
+        this.inverseStep = even ? 1d / step : 0d;
+    }
+
+    int size() {
+        return size;
+    }
+
+    double y(final int index) {
+        return ys[index];
+    }
+
+    /**
+     * Get the index of the last x strictly below the value, -1 if none. Only for ascending tables.
+     *
+     * @param value the value
+     * @return int
+     */
+    private int floor(final double value) {
+        if (!(value > xs[0])) {
+            return -1;
+        } else if (value > xs[size - 1]) {
+            return size - 1;
+        }
+
+        if (uniform) {
+            int i = (int) ((value - x0) * inverseStep);
+            if (i >= size) {
+                i = size - 1;
+            }
+            //correct the rounding of the estimate
+            while (i > 0 && xs[i] >= value) {
+                --i;
+            }
+            while (i < size - 1 && xs[i + 1] < value) {
+                ++i;
+            }
+            return i;
+        }
+
+        int low = 0, high = size - 1; //xs[low] < value <= xs[high]
+        while (high - low > 1) {
+            final int mid = (low + high) >>> 1;
+            if (xs[mid] < value) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Interpolate linearly like the decimal path: a value below the first x uses the first segment, otherwise
+     * the segment starting at the first following x strictly above the value, or the last segment past the end.
+     *
+     * @param value the value
+     * @return double
+     */
+    double interpolate(final double value) {
+        if (size == 1) {
+            return ys[0];
+        }
+
+        final int s;
+        if (ascending) {
+            final int f = floor(value);
+            if (f < size - 1 && xs[f + 1] == value) {
+                return ys[f + 1];
+            }
+            s = f < 0 ? 0 : Math.min(f + 1, size - 2);
+        } else {
+            if (value <= xs[0]) {
+                return value == xs[0] ? ys[0] : ys[0] + slopes[0] * (value - xs[0]);
+            }
+            int i = 1;
+            while (i < size - 1 && !(xs[i] > value)) {
+                if (xs[i] == value) {
+                    return ys[i];
+                }
+                ++i;
+            }
+            if (i == size - 1) {
+                if (xs[i] == value) {
+                    return ys[i];
+                }
+                --i;
+            }
+            s = i;
+        }
+        return ys[s] + slopes[s] * (value - xs[s]);
+    }
+
+    /**
+     * Get the index of the nearest x, preferring the higher one on ties.
+     *
+     * @param value the value
+     * @return int, -1 for NaN
+     */
+    int nearest(final double value) {
+        if (Double.isNaN(value)) {
+            return -1;
+        }
+        if (xs[0] >= value) {
+            return 0;
+        }
+
+        if (ascending) {
+            final int f = floor(value);
+            if (f == size - 1) {
+                return f;
+            }
+            final double x = xs[f + 1];
+            return x == value || !(x - value > value - xs[f]) ? f + 1 : f;
+        }
+
+        int found = 0;
+        for (int i = 1; i < size; ++i) {
+            final double x = xs[i];
+            if (x < value) {
+                found = i;
+            } else if (x == value) {
+                return i;
+            } else {
+                return x - value > value - xs[found] ? found : i;
+            }
+        }
+        return size - 1; //last ditch
+    }
+}
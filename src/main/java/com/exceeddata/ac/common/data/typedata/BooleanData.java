@@ -220,6 +220,36 @@ public final class BooleanData implements TypeData {
         return isnull ? null : value;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return isnull ? 0 : value ? 1 : 0;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long longValue() {
+        return isnull ? 0l : value ? 1l : 0l;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public float floatValue() {
+        return isnull ? 0f : value ? 1f : 0f;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double doubleValue() {
+        return isnull ? 0d : value ? 1d : 0d;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return !isnull && value;
+    }
+    
     /** {@inheritDoc} */
     @Override
     public java.sql.Date toDate() {
@@ -336,6 +366,10 @@ public final class BooleanData implements TypeData {
         return value == null ? BooleanData.NULL : value ? BooleanData.TRUE : BooleanData.FALSE;
     }
     
+    public static final BooleanData valueOf(final boolean value) {
+        return value ? BooleanData.TRUE : BooleanData.FALSE;
+    }
+    
     public static final BooleanData valueOf(final String value) {
         if (XStringUtils.isBlank(value)) {
             return BooleanData.NULL;
@@ -0,0 +1,198 @@
+package com.exceeddata.ac.common.data.typedata;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A shared <code>DataCacheStore</code> split into independently locked stripes, each evicting with the
+ * clock (second chance) algorithm: a hit only sets a reference bit, and the clock hand evicts the first
+ * entry whose bit is clear.
+ *
+ * Lookups read a concurrent map without locking or allocating, only inserts lock their stripe.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class ClockCacheStore<K, V> implements DataCacheStore<K, V> {
+    private final Stripe<K, V>[] stripes;
+    private final int mask;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Construct a cache with one stripe per 4 available processors.
+     *
+     * @param capacity the maximum number of entries
+     */
+    public ClockCacheStore(final int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors() >> 2);
+    }
+
+    /**
+     * Construct a cache.
+     *
+     * @param capacity the maximum number of entries
+     * @param concurrency the number of stripes, rounded to a power of 2
+     */
+    @SuppressWarnings("unchecked")
+    public ClockCacheStore(final int capacity, final int concurrency) {
+        int n = 1;
+        while (n < concurrency && n < 64 && capacity / (n << 1) >= 16) {
+            n <<= 1;
+        }
+
+        this.stripes = (Stripe<K, V>[]) new Stripe<?, ?>[n];
+        this.mask = n - 1;
+        this.capacity = Math.max(capacity, n);
+        for (int i = 0; i < n; ++i) {
+            stripes[i] = new Stripe<>(this.capacity / n);
+        }
+    }
+
+    private Stripe<K, V> stripe(final K key) {
+        final int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V get(final K key) {
+        final V value = stripe(key).get(key);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(final K key, final V value) {
+        stripe(key).put(key, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V getOrPut(final K key, final Function<? super K, ? extends V> factory) {
+        final Stripe<K, V> stripe = stripe(key);
+        V value = stripe.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = factory.apply(key);
+        if (value != null) {
+            stripe.put(key, value);
+        }
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        int size = 0;
+        for (final Stripe<K, V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        for (final Stripe<K, V> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        boolean referenced = false; //racy on purpose, a lost update only costs a second chance
+
+        Node(final K key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static final class Stripe<K, V> {
+        private final ConcurrentHashMap<K, Node<K, V>> nodes;
+        private final Node<K, V>[] ring;
+        private int size = 0;
+        private int hand = 0;
+
+        @SuppressWarnings("unchecked")
+        Stripe(final int capacity) {
+            this.nodes = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+            this.ring = (Node<K, V>[]) new Node<?, ?>[capacity];
+        }
+
+        V get(final K key) {
+            final Node<K, V> node = nodes.get(key);
+            if (node == null) {
+                return null;
+            } else if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.value;
+        }
+
+        synchronized void put(final K key, final V value) {
+            final Node<K, V> existing = nodes.get(key);
+            if (existing != null) {
+                existing.value = value;
+                existing.referenced = true;
+                return;
+            }
+
+            final int slot;
+            if (size < ring.length) {
+                slot = size++;
+            } else {
+                while (ring[hand].referenced) {
+                    ring[hand].referenced = false;
+                    hand = (hand + 1) % ring.length;
+                }
+                slot = hand;
+                hand = (hand + 1) % ring.length;
+                nodes.remove(ring[slot].key);
+            }
+
+            final Node<K, V> node = new Node<>(key, value);
+            ring[slot] = node;
+            nodes.put(key, node);
+        }
+
+        int size() {
+            return nodes.size();
+        }
+
+        synchronized void clear() {
+            nodes.clear();
+            Arrays.fill(ring, 0, size, null);
+            size = 0;
+            hand = 0;
+        }
+    }
+}
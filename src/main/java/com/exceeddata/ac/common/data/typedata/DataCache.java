@@ -1,48 +1,152 @@
 package com.exceeddata.ac.common.data.typedata;
 
 /**
- * Data Cache static methods, to be overridden in each library
+ * Data Cache static methods, backed by pluggable bounded <code>DataCacheStore</code>s.
+ *
+ * <p>Strings, dates and time zone ids are cached by default with <code>ClockCacheStore</code>s,
+ * timestamps are not cached unless a store is set. Setting a store to null disables its cache.</p>
  *
  */
 public final class DataCache {
-    private DataCache() {}                    
-                        
+    private DataCache() {}
+
+    public static final int DEFAULT_STRING_CAPACITY = 65536;
+    public static final int DEFAULT_DATE_CAPACITY = 8192;
+    public static final int DEFAULT_TIMEZONE_CAPACITY = 1024;
+
+    /** Longer strings are not cached. */
+    public static final int MAX_CACHED_STRING_LENGTH = 128;
+
+    private static volatile DataCacheStore<String, StringData> stringStore = new ClockCacheStore<>(DEFAULT_STRING_CAPACITY);
+    private static volatile DataCacheStore<Long, DateData> dateStore = new ClockCacheStore<>(DEFAULT_DATE_CAPACITY);
+    private static volatile DataCacheStore<String, DateData> dateStringStore = new ClockCacheStore<>(DEFAULT_DATE_CAPACITY);
+    private static volatile DataCacheStore<Long, TimestampData> timestampStore = null;
+    private static volatile DataCacheStore<String, String> timeZoneStore = new ClockCacheStore<>(DEFAULT_TIMEZONE_CAPACITY);
+
     public static DateData getOrPutDateData(final long val) {
-        return new DateData(val);
+        final DataCacheStore<Long, DateData> store = dateStore;
+        return store == null ? new DateData(val) : store.getOrPut(val, DateData::new);
     }
-    
+
     public static DateData getOrPutDateData(final String val) {
-        return new DateData(val);
+        final DataCacheStore<String, DateData> store = dateStringStore;
+        return store == null ? new DateData(val) : store.getOrPut(val, DateData::new);
     }
-    
+
+    /**
+     * Get the cached date of a string in the default date format.
+     *
+     * @param val the date string
+     * @return DateData or null if not cached
+     */
     public static DateData getDateData(final String val) {
-        return new DateData(val);
+        final DataCacheStore<String, DateData> store = dateStringStore;
+        return store == null ? null : store.get(val);
     }
-    
+
+    /**
+     * Cache the date of a string in the default date format, must not be used for strings parsed with another format.
+     *
+     * @param key the date string
+     * @param val the date
+     */
     public static void putDateData(final String key, final DateData val) {
+        final DataCacheStore<String, DateData> store = dateStringStore;
+        if (store != null) {
+            store.put(key, val);
+        }
     }
-    
+
     public static IntData getOrPutIntData(final int val) {
-        return new IntData(val);
+        return IntData.valueOf(val);
     }
-    
+
     public static LongData getOrPutLongData(final long val) {
-        return new LongData(val);
+        return LongData.valueOf(val);
     }
-    
+
     public static NumericData getOrPutNumericData(final long val) {
         return new NumericData(val);
     }
-    
+
     public static StringData getOrPutStringData(final String val) {
-        return new StringData(val);
+        if (val == null) {
+            return new StringData((String) null);
+        }
+        final DataCacheStore<String, StringData> store = stringStore;
+        return store == null || val.length() > MAX_CACHED_STRING_LENGTH
+                ? new StringData(val)
+                : store.getOrPut(val, StringData::new);
     }
-    
+
     public static TimestampData getOrPutTimestampData(final long val) {
-        return new TimestampData(val);
+        final DataCacheStore<Long, TimestampData> store = timestampStore;
+        return store == null ? new TimestampData(val) : store.getOrPut(val, TimestampData::new);
     }
-    
+
     public static String getOrPutTimeZone(final String val) {
+        final DataCacheStore<String, String> store = timeZoneStore;
+        return store == null || val == null ? val : store.getOrPut(val, DataCache::identity);
+    }
+
+    private static String identity(final String val) {
         return val;
     }
+
+    /**
+     * Clear the entries of all stores.
+     */
+    public static void clear() {
+        clear(stringStore);
+        clear(dateStore);
+        clear(dateStringStore);
+        clear(timestampStore);
+        clear(timeZoneStore);
+    }
+
+    private static void clear(final DataCacheStore<?, ?> store) {
+        if (store != null) {
+            store.clear();
+        }
+    }
+
+    public static DataCacheStore<String, StringData> getStringStore() {
+        return stringStore;
+    }
+
+    public static void setStringStore(final DataCacheStore<String, StringData> store) {
+        stringStore = store;
+    }
+
+    public static DataCacheStore<Long, DateData> getDateStore() {
+        return dateStore;
+    }
+
+    public static void setDateStore(final DataCacheStore<Long, DateData> store) {
+        dateStore = store;
+    }
+
+    public static DataCacheStore<String, DateData> getDateStringStore() {
+        return dateStringStore;
+    }
+
+    public static void setDateStringStore(final DataCacheStore<String, DateData> store) {
+        dateStringStore = store;
+    }
+
+    public static DataCacheStore<Long, TimestampData> getTimestampStore() {
+        return timestampStore;
+    }
+
+    public static void setTimestampStore(final DataCacheStore<Long, TimestampData> store) {
+        timestampStore = store;
+    }
+
+    public static DataCacheStore<String, String> getTimeZoneStore() {
+        return timeZoneStore;
+    }
+
+    public static void setTimeZoneStore(final DataCacheStore<String, String> store) {
+        timeZoneStore = store;
+    }
 }
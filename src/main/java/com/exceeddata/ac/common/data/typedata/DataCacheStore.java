@@ -0,0 +1,70 @@
+package com.exceeddata.ac.common.data.typedata;
+
+import java.util.function.Function;
+
+/**
+ * <code>DataCacheStore</code> defines the specification for a bounded cache plugged into <code>DataCache</code>.
+ * Implementations must be thread safe.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public interface DataCacheStore<K, V> {
+    /**
+     * Get the cached value of a key.
+     *
+     * @param key the key
+     * @return the value or null if not cached
+     */
+    public V get(K key);
+
+    /**
+     * Put a value, possibly evicting another entry.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(K key, V value);
+
+    /**
+     * Get the cached value of a key, or create and cache it with the factory.
+     *
+     * @param key the key
+     * @param factory the value factory
+     * @return the value
+     */
+    public V getOrPut(K key, Function<? super K, ? extends V> factory);
+
+    /**
+     * Get the number of cached entries.
+     *
+     * @return int
+     */
+    public int size();
+
+    /**
+     * Get the maximum number of cached entries.
+     *
+     * @return int
+     */
+    public int capacity();
+
+    /**
+     * Remove all entries, the counters are not reset.
+     */
+    public void clear();
+
+    /**
+     * Get the number of lookups found in the cache.
+     *
+     * @return long
+     */
+    public long hits();
+
+    /**
+     * Get the number of lookups not found in the cache.
+     *
+     * @return long
+     */
+    public long misses();
+}
@@ -12,7 +12,73 @@ import com.exceeddata.ac.common.util.XNumberUtils;
 
 public final class DataCompare {
     private DataCompare() {}
-    
+
+    /**
+     * Compare two datas, same as <code>x.compareTo(w)</code>. Datas of the same numeric, boolean, string or
+     * temporal type are compared directly on their values without conversions.
+     *
+     * @param x the data
+     * @param w the data to compare to
+     * @return int
+     */
+    public static int compare(final TypeData x, final TypeData w) {
+        if (w == null || x.getType() != w.getType()) {
+            return x.compareTo(w);
+        }
+        switch (x.getType()) {
+            case Types.INT: {
+                final IntData a = (IntData) x, b = (IntData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Integer.compare(a.value, b.value);
+            }
+            case Types.LONG: {
+                final LongData a = (LongData) x, b = (LongData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Long.compare(a.value, b.value);
+            }
+            case Types.FLOAT: {
+                final FloatData a = (FloatData) x, b = (FloatData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Float.compare(a.value, b.value);
+            }
+            case Types.DOUBLE: {
+                final DoubleData a = (DoubleData) x, b = (DoubleData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Double.compare(a.value, b.value);
+            }
+            case Types.NUMERIC: {
+                final NumericData a = (NumericData) x, b = (NumericData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Double.compare(a.value, b.value);
+            }
+            case Types.BOOLEAN: {
+                final BooleanData a = (BooleanData) x, b = (BooleanData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Boolean.compare(a.value, b.value);
+            }
+            case Types.TIMESTAMP: {
+                final TimestampData a = (TimestampData) x, b = (TimestampData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Long.compare(a.value, b.value);
+            }
+            case Types.DATE: {
+                final DateData a = (DateData) x, b = (DateData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Long.compare(a.value, b.value);
+            }
+            case Types.TIME: {
+                final TimeData a = (TimeData) x, b = (TimeData) w;
+                return a.isnull || b.isnull ? compareNulls(a.isnull, b.isnull) : Long.compare(a.value, b.value);
+            }
+            case Types.STRING: {
+                final String a = ((StringData) x).value, b = ((StringData) w).value;
+                return a == null || b == null ? compareNulls(a == null, b == null) : a.compareTo(b);
+            }
+            case Types.DECIMAL: {
+                final BigDecimal a = ((DecimalData) x).value, b = ((DecimalData) w).value;
+                return a == null || b == null ? compareNulls(a == null, b == null) : a.compareTo(b);
+            }
+            default:
+                return x.compareTo(w);
+        }
+    }
+
+    private static int compareNulls(final boolean xnull, final boolean wnull) {
+        return xnull ? (wnull ? 0 : -1) : 1;
+    }
+
     public static int binaryCompareTo(final BinaryData x, final TypeData w) {
         if (w == null) {
             return 1;
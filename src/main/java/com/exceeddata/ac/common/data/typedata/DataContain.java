@@ -158,7 +158,7 @@ public final class DataContain {
                     vdata1.add(item);
                 }
                 for (final double item : dv.items) {
-                    vdata2.add(new DoubleData(item));
+                    vdata2.add(DoubleData.nonNullValueOf(item));
                 }
                 return vdata1.containsAll(vdata2);
             }
@@ -254,7 +254,7 @@ public final class DataContain {
             case Types.DENSEVECTOR: {
                 final DenseVectorData data = (DenseVectorData) d;
                 for (final double item : data.items) {
-                    if (!x.items.contains(new DoubleData(item))) {
+                    if (!x.items.contains(DoubleData.nonNullValueOf(item))) {
                         return false;
                     }
                 }
@@ -211,7 +211,7 @@ public final class DataConv {
             }
             case Types.NUMERIC: {
                 final NumericData casted = (NumericData) data;
-                return casted.isnull ? BooleanData.NULL : casted.toBoolean() ? BooleanData.TRUE : BooleanData.FALSE;
+                return casted.isnull ? BooleanData.NULL : casted.booleanValue() ? BooleanData.TRUE : BooleanData.FALSE;
             }
             case Types.DECIMAL: {
                 final BigDecimal decimal = ((DecimalData) data).value;
@@ -743,11 +743,11 @@ public final class DataConv {
                 return (FloatData) data;
             case Types.DOUBLE:{
                 final DoubleData casted = (DoubleData) data;
-                return casted.isnull ? FloatData.NULL : FloatData.nonNullValueOf(casted.toFloat());
+                return casted.isnull ? FloatData.NULL : FloatData.nonNullValueOf(casted.floatValue());
             }
             case Types.NUMERIC: {
                 final NumericData casted = (NumericData) data;
-                return casted.isnull ? FloatData.NULL : FloatData.nonNullValueOf(casted.toFloat());
+                return casted.isnull ? FloatData.NULL : FloatData.nonNullValueOf(casted.floatValue());
             }
             case Types.DECIMAL: {
                 final BigDecimal decimal = ((DecimalData) data).value;
@@ -856,7 +856,7 @@ public final class DataConv {
             }
             case Types.NUMERIC: {
                 final NumericData casted = (NumericData) data;
-                return casted.isnull ? IntData.NULL : IntData.nonNullValueOf(casted.toInt());
+                return casted.isnull ? IntData.NULL : IntData.nonNullValueOf(casted.intValue());
             }
             case Types.DECIMAL: {
                 final BigDecimal decimal = ((DecimalData) data).value;
@@ -315,6 +315,36 @@ public final class DateData implements TypeData {
         return isnull ? null : value != ZERO.value;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return isnull ? 0 : (int) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long longValue() {
+        return isnull ? 0l : value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public float floatValue() {
+        return isnull ? 0f : (float) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double doubleValue() {
+        return isnull ? 0d : (double) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return !isnull && value != ZERO.value;
+    }
+    
     /** {@inheritDoc} */
     @Override
     public java.sql.Date toDate() throws EngineDataException {
@@ -477,16 +507,8 @@ public final class DateData implements TypeData {
     }
     
     public static final DateData valueOf(final String value, final DateTimeFormatter formatter) {
-        if (XStringUtils.isBlank(value)) {
-            return DateData.NULL;
-        } else {
-            DateData dd = DataCache.getDateData(value);
-            if (dd == null) {
-                dd = new DateData(value, formatter);
-                DataCache.putDateData(value, dd.isNull() ? DateData.NULL : dd);
-            }
-            return dd;
-        }
+        //not cached, the date string cache is keyed by the value in the default format only
+        return XStringUtils.isBlank(value) ? DateData.NULL : new DateData(value, formatter);
     }
     
     public static final DateData valueOf(final String value, final String format) {
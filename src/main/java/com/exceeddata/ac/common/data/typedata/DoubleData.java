@@ -32,6 +32,19 @@ public final class DoubleData implements TypeData {
     public static final DoubleData POSITIVE_INFINITY = new DoubleData(Double.POSITIVE_INFINITY, false);
     public static final DoubleData NEGATIVE_INFINITY = new DoubleData(Double.NEGATIVE_INFINITY, false);
     
+    /** The range of interned whole values. */
+    public static final int CACHE_LOW = -128;
+    public static final int CACHE_HIGH = 1023;
+    private static final DoubleData[] CACHE = new DoubleData[CACHE_HIGH - CACHE_LOW + 1];
+    static {
+        for (int i = 0; i < CACHE.length; ++i) {
+            CACHE[i] = new DoubleData((double) (i + CACHE_LOW), false);
+        }
+        CACHE[-CACHE_LOW] = ZERO;
+        CACHE[1 - CACHE_LOW] = ONE;
+        CACHE[-1 - CACHE_LOW] = NEGATIVE_ONE;
+    }
+    
     protected boolean isnull = true;
     protected double value = 0d;
     
@@ -236,6 +249,36 @@ public final class DoubleData implements TypeData {
         return isnull ? null : value != 0d;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return isnull ? 0 : (int) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long longValue() {
+        return isnull ? 0l : (long) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public float floatValue() {
+        return isnull ? 0f : new BigDecimal(String.valueOf(value)).floatValue();
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double doubleValue() {
+        return isnull ? 0d : value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return !isnull && value != 0d;
+    }
+    
     /** {@inheritDoc} */
     @SuppressWarnings("deprecation")
     @Override
@@ -388,13 +431,11 @@ public final class DoubleData implements TypeData {
     }
     
     public static final DoubleData valueOf(final Double value) {
-        return value != null ? ( Double.compare(value, 0d) == 0 ? DoubleData.ZERO : Double.compare(value, 1d) == 0 ? DoubleData.ONE : new DoubleData(value)) : DoubleData.NULL;
+        return value != null ? nonNullValueOf(value) : DoubleData.NULL;
     }
     
     public static final DoubleData valueOf(final Double value, final double defaultValue) {
-        return value == null 
-                ? new DoubleData(defaultValue, false) 
-                : Double.compare(value, 0d) == 0 ? DoubleData.ZERO : Double.compare(value, 1d) == 0 ? DoubleData.ONE : new DoubleData(value.doubleValue(), false);
+        return nonNullValueOf(value == null ? defaultValue : value);
     }
     
     public static final DoubleData valueOf(final String value) {
@@ -402,8 +443,7 @@ public final class DoubleData implements TypeData {
             return DoubleData.NULL;
         } else {
             try {
-                final double d = Double.valueOf(value.trim());
-                return Double.compare(d, 0d) == 0 ? DoubleData.ZERO : Double.compare(d, 1d) == 0 ? DoubleData.ONE : new DoubleData(d, false);
+                return nonNullValueOf(Double.valueOf(value.trim()));
             } catch (NumberFormatException e) {
                 return DoubleData.NULL;
             }
@@ -415,16 +455,24 @@ public final class DoubleData implements TypeData {
             return defaultValue;
         } else {
             try {
-                final double d = Double.valueOf(value.trim());
-                return d == 0d ? DoubleData.ZERO : d == 1d ? DoubleData.ONE : new DoubleData(d, false);
+                return nonNullValueOf(Double.valueOf(value.trim()));
             } catch (NumberFormatException e) {
                 return defaultValue;
             }
         }
     }
     
+    /**
+     * Return the interned instance for whole values from CACHE_LOW to CACHE_HIGH, otherwise a new instance.
+     * 
+     * @param value the value
+     * @return DoubleData
+     */
     public static final DoubleData nonNullValueOf(final double value) {
-        return Double.compare(value, 0d) == 0 ? DoubleData.ZERO : Double.compare(value, 1d) == 0 ? DoubleData.ONE : new DoubleData(value, false);
+        final int i = (int) value;
+        return i == value && i >= CACHE_LOW && i <= CACHE_HIGH && (i != 0 || Double.doubleToRawLongBits(value) == 0l)
+                ? CACHE[i - CACHE_LOW]
+                : new DoubleData(value, false);
     }
     
     public static final DoubleData random(double base) {
@@ -33,6 +33,19 @@ public final class FloatData implements TypeData {
     public static final FloatData POSITIVE_INFINITY = new FloatData(Float.POSITIVE_INFINITY, false);
     public static final FloatData NEGATIVE_INFINITY = new FloatData(Float.NEGATIVE_INFINITY, false);
     
+    /** The range of interned whole values. */
+    public static final int CACHE_LOW = -128;
+    public static final int CACHE_HIGH = 1023;
+    private static final FloatData[] CACHE = new FloatData[CACHE_HIGH - CACHE_LOW + 1];
+    static {
+        for (int i = 0; i < CACHE.length; ++i) {
+            CACHE[i] = new FloatData((float) (i + CACHE_LOW), false);
+        }
+        CACHE[-CACHE_LOW] = ZERO;
+        CACHE[1 - CACHE_LOW] = ONE;
+        CACHE[-1 - CACHE_LOW] = NEGATIVE_ONE;
+    }
+    
     protected boolean isnull = true;
     protected float value = 0f;
     
@@ -250,6 +263,36 @@ public final class FloatData implements TypeData {
         return isnull ? null : value != 0f;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return isnull ? 0 : (int) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long longValue() {
+        return isnull ? 0l : (long) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public float floatValue() {
+        return isnull ? 0f : value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double doubleValue() {
+        return isnull ? 0d : new BigDecimal(String.valueOf(value)).doubleValue();
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return !isnull && value != 0f;
+    }
+    
     /** {@inheritDoc} */
     @SuppressWarnings("deprecation")
     @Override
@@ -403,11 +446,11 @@ public final class FloatData implements TypeData {
     }
     
     public static final FloatData valueOf(final Float value) {
-        return value == null ? FloatData.NULL : value == 0f ? FloatData.ZERO : value == 1f ? FloatData.ONE : new FloatData(value);
+        return value == null ? FloatData.NULL : nonNullValueOf(value);
     }
     
     public static final FloatData valueOf(final Float value, final float defaultValue) {
-        return value == null ? new FloatData(defaultValue, false) : value == 0f ? FloatData.ZERO : value == 1f ? FloatData.ONE : new FloatData(value);
+        return nonNullValueOf(value == null ? defaultValue : value);
     }
     
     public static final FloatData valueOf(final String value) {
@@ -416,15 +459,24 @@ public final class FloatData implements TypeData {
         } else {
             try {
                 final float f = Float.valueOf(value.trim());
-                return f == 0f ? FloatData.ZERO : f == 1f ? FloatData.ONE : new FloatData(value);
+                return nonNullValueOf(f);
             } catch (NumberFormatException e) {
                 return FloatData.NULL;
             }
         }
     }
     
+    /**
+     * Return the interned instance for whole values from CACHE_LOW to CACHE_HIGH, otherwise a new instance.
+     * 
+     * @param value the value
+     * @return FloatData
+     */
     public static final FloatData nonNullValueOf(final float value) {
-        return value == 0f ? FloatData.ZERO : value == 1f ? FloatData.ONE : new FloatData(value, false);
+        final int i = (int) value;
+        return i == value && i >= CACHE_LOW && i <= CACHE_HIGH && (i != 0 || Float.floatToRawIntBits(value) == 0)
+                ? CACHE[i - CACHE_LOW]
+                : new FloatData(value, false);
     }
     
     public static final FloatData random(float base) {
@@ -34,6 +34,21 @@ public final class IntData implements TypeData {
     public static final IntData NEGATIVE_ONE = new IntData(-1, false);
     public static final IntData MAX_VALUE = new IntData(Integer.MAX_VALUE, false);
     public static final IntData MIN_VALUE = new IntData(Integer.MIN_VALUE, false);
+    
+    /** The range of interned values, covering most enum and counter signals. */
+    public static final int CACHE_LOW = -128;
+    public static final int CACHE_HIGH = 1023;
+    private static final IntData[] CACHE = new IntData[CACHE_HIGH - CACHE_LOW + 1];
+    static {
+        for (int i = 0; i < CACHE.length; ++i) {
+            CACHE[i] = new IntData(i + CACHE_LOW, false);
+        }
+        CACHE[-CACHE_LOW] = ZERO;
+        CACHE[1 - CACHE_LOW] = ONE;
+        CACHE[2 - CACHE_LOW] = TWO;
+        CACHE[10 - CACHE_LOW] = TEN;
+        CACHE[-1 - CACHE_LOW] = NEGATIVE_ONE;
+    }
                         
     protected boolean isnull = true;
     protected int value = 0;
@@ -259,6 +274,36 @@ public final class IntData implements TypeData {
         return isnull ? null : value != 0;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return isnull ? 0 : value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long longValue() {
+        return isnull ? 0l : (long) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public float floatValue() {
+        return isnull ? 0f : (float) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double doubleValue() {
+        return isnull ? 0d : (double) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return !isnull && value != 0;
+    }
+    
     /** {@inheritDoc} */
     @SuppressWarnings("deprecation")
     @Override
@@ -421,6 +466,16 @@ public final class IntData implements TypeData {
         return DataCache.getOrPutIntData(value);
     }
     
+    /**
+     * Return the interned instance for values from CACHE_LOW to CACHE_HIGH, otherwise a new instance.
+     * 
+     * @param value the value
+     * @return IntData
+     */
+    public static final IntData valueOf(final int value) {
+        return value >= CACHE_LOW && value <= CACHE_HIGH ? CACHE[value - CACHE_LOW] : new IntData(value, false);
+    }
+    
     public static final IntData random(int base) {
         return new IntData((int) (Math.random() * base));
     }
@@ -35,6 +35,19 @@ public final class LongData implements TypeData {
     public static final LongData MAX_VALUE = new LongData(Long.MAX_VALUE, false);
     public static final LongData MIN_VALUE = new LongData(Long.MIN_VALUE, false);
     
+    /** The range of interned values, covering most enum and counter signals. */
+    public static final long CACHE_LOW = -128l;
+    public static final long CACHE_HIGH = 1023l;
+    private static final LongData[] CACHE = new LongData[(int) (CACHE_HIGH - CACHE_LOW + 1)];
+    static {
+        for (int i = 0; i < CACHE.length; ++i) {
+            CACHE[i] = new LongData(i + CACHE_LOW, false);
+        }
+        CACHE[(int) -CACHE_LOW] = ZERO;
+        CACHE[(int) (1 - CACHE_LOW)] = ONE;
+        CACHE[(int) (-1 - CACHE_LOW)] = NEGATIVE_ONE;
+    }
+    
     protected boolean isnull = true;
     protected long value = 0l;
     
@@ -274,6 +287,36 @@ public final class LongData implements TypeData {
         return isnull ? null : value != 0l;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return isnull ? 0 : (int) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long longValue() {
+        return isnull ? 0l : value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public float floatValue() {
+        return isnull ? 0f : (float) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double doubleValue() {
+        return isnull ? 0d : (double) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return !isnull && value != 0l;
+    }
+    
     /** {@inheritDoc} */
     @SuppressWarnings("deprecation")
     @Override
@@ -441,6 +484,16 @@ public final class LongData implements TypeData {
         return DataCache.getOrPutLongData(value);
     }
     
+    /**
+     * Return the interned instance for values from CACHE_LOW to CACHE_HIGH, otherwise a new instance.
+     * 
+     * @param value the value
+     * @return LongData
+     */
+    public static final LongData valueOf(final long value) {
+        return value >= CACHE_LOW && value <= CACHE_HIGH ? CACHE[(int) (value - CACHE_LOW)] : new LongData(value, false);
+    }
+    
     public static final LongData random(long base) {
         return new LongData((long) (Math.random() * base), false);
     }
@@ -242,6 +242,36 @@ public final class NumericData implements TypeData {
         return isnull ? null : unscaledValue != MULTIPLIER;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public int intValue() {
+        return isnull ? 0 : (int) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public long longValue() {
+        return isnull ? 0l : (long) value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public float floatValue() {
+        return isnull ? 0f : BigDecimal.valueOf(unscaledValue, SCALE).floatValue();
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public double doubleValue() {
+        return isnull ? 0d : value;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return !isnull && unscaledValue != MULTIPLIER;
+    }
+    
     /** {@inheritDoc} */
     @SuppressWarnings("deprecation")
     @Override
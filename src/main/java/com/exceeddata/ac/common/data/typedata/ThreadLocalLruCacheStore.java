@@ -0,0 +1,106 @@
+package com.exceeddata.ac.common.data.typedata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A <code>DataCacheStore</code> keeping a separate least-recently-used cache per thread, lock free at the
+ * cost of caching hot values once per thread. Size and capacity are per thread, the counters are shared.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class ThreadLocalLruCacheStore<K, V> implements DataCacheStore<K, V> {
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile ThreadLocal<LinkedHashMap<K, V>> local;
+
+    /**
+     * Construct a cache.
+     *
+     * @param capacity the maximum number of entries per thread
+     */
+    public ThreadLocalLruCacheStore(final int capacity) {
+        this.capacity = Math.max(capacity, 1);
+        this.local = newLocal();
+    }
+
+    private ThreadLocal<LinkedHashMap<K, V>> newLocal() {
+        final int cap = capacity;
+        return ThreadLocal.withInitial(() -> new LinkedHashMap<K, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > cap;
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V get(final K key) {
+        final V value = local.get().get(key);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(final K key, final V value) {
+        local.get().put(key, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V getOrPut(final K key, final Function<? super K, ? extends V> factory) {
+        final LinkedHashMap<K, V> map = local.get();
+        V value = map.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = factory.apply(key);
+        if (value != null) {
+            map.put(key, value);
+        }
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return local.get().size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Remove all entries of all threads, the caches of other threads are dropped lazily.
+     */
+    @Override
+    public void clear() {
+        local = newLocal();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+}
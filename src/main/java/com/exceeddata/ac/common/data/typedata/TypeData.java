@@ -94,6 +94,61 @@ public interface TypeData extends
      */
     public Boolean toBoolean() throws EngineDataException;
     
+    /**
+     * Convert to int without boxing, null is signalled by <code>isNull()</code> and returns 0.
+     * 
+     * @return int
+     * @throws EngineDataException throws an EngineDataException if conversion is not valid
+     */
+    public default int intValue() throws EngineDataException {
+        final Integer value = toInt();
+        return value == null ? 0 : value;
+    }
+    
+    /**
+     * Convert to long without boxing, null is signalled by <code>isNull()</code> and returns 0l.
+     * 
+     * @return long
+     * @throws EngineDataException throws an EngineDataException if conversion is not valid
+     */
+    public default long longValue() throws EngineDataException {
+        final Long value = toLong();
+        return value == null ? 0l : value;
+    }
+    
+    /**
+     * Convert to float without boxing, null is signalled by <code>isNull()</code> and returns 0f.
+     * 
+     * @return float
+     * @throws EngineDataException throws an EngineDataException if conversion is not valid
+     */
+    public default float floatValue() throws EngineDataException {
+        final Float value = toFloat();
+        return value == null ? 0f : value;
+    }
+    
+    /**
+     * Convert to double without boxing, null is signalled by <code>isNull()</code> and returns 0d.
+     * 
+     * @return double
+     * @throws EngineDataException throws an EngineDataException if conversion is not valid
+     */
+    public default double doubleValue() throws EngineDataException {
+        final Double value = toDouble();
+        return value == null ? 0d : value;
+    }
+    
+    /**
+     * Convert to boolean without boxing, null is signalled by <code>isNull()</code> and returns false.
+     * 
+     * @return boolean
+     * @throws EngineDataException throws an EngineDataException if conversion is not valid
+     */
+    public default boolean booleanValue() throws EngineDataException {
+        final Boolean value = toBoolean();
+        return value == null ? false : value;
+    }
+    
     /**
      * Convert to bytes.
      * 
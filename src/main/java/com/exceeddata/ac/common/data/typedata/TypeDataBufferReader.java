@@ -0,0 +1,250 @@
+package com.exceeddata.ac.common.data.typedata;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+import com.exceeddata.ac.common.util.XNumberUtils;
+import com.exceeddata.ac.common.util.reader.ByteBufferObjectInput;
+
+/**
+ * A reader decoding the <code>writeExternal</code> format of <code>TypeData</code> directly from a
+ * <code>ByteBuffer</code>, such as a <code>MappedByteBuffer</code>, starting at the buffer position.
+ *
+ * <p>The static <code>readTypeData</code> methods allocate like <code>XTypeDataUtils.readTypeData</code>.
+ * A reader instance is a flyweight cursor for one field: INT, LONG, FLOAT, DOUBLE and TIMESTAMP values
+ * are repointed into a reused data instance on every read, so the returned data is only valid until
+ * the next read of the same reader. Use <code>detach</code> to keep a value. Other types are allocated
+ * as usual.</p>
+ *
+ */
+public final class TypeDataBufferReader {
+    private final IntData intData = new IntData();
+    private final LongData longData = new LongData();
+    private final FloatData floatData = new FloatData();
+    private final DoubleData doubleData = new DoubleData();
+    private final TimestampData timestampData = new TimestampData();
+    private ByteBufferObjectInput input = null;
+
+    public TypeDataBufferReader() {
+        intData.isnull = false;
+        longData.isnull = false;
+        floatData.isnull = false;
+        doubleData.isnull = false;
+        timestampData.isnull = false;
+    }
+
+    /**
+     * Read a data of the type at the buffer position, repointing the cursor for flyweight types.
+     *
+     * @param buffer the buffer
+     * @param type the data type
+     * @return TypeData
+     * @throws IOException if the type is invalid or the buffer is exhausted
+     */
+    public TypeData read(final ByteBuffer buffer, final byte type) throws IOException {
+        try {
+            switch(type) {
+                case Types.INT:
+                    return readInt(buffer);
+                case Types.LONG:
+                    return readLong(buffer);
+                case Types.FLOAT:
+                    if (buffer.get() != 0) {
+                        return FloatData.NULL;
+                    }
+                    floatData.value = Float.intBitsToFloat(getInt(buffer));
+                    return floatData;
+                case Types.DOUBLE:
+                    if (buffer.get() != 0) {
+                        return DoubleData.NULL;
+                    }
+                    doubleData.value = Double.longBitsToDouble(getLong(buffer));
+                    return doubleData;
+                case Types.TIMESTAMP:
+                    if (buffer.get() != 0) {
+                        return TimestampData.NULL;
+                    }
+                    timestampData.value = getLong(buffer);
+                    return timestampData;
+                case Types.BOOLEAN:
+                    return readBoolean(buffer);
+                case Types.NULL:
+                    return NullData.INSTANCE;
+                default:
+                    if (input == null) {
+                        input = new ByteBufferObjectInput(buffer);
+                    }
+                    return readOther(input.setBuffer(buffer), type);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new BinaryEOFException();
+        }
+    }
+
+    /**
+     * Read a data of the type at the offset, repointing the cursor for flyweight types.
+     *
+     * @param buffer the buffer
+     * @param offset the offset
+     * @param type the data type
+     * @return TypeData
+     * @throws IOException if the type is invalid or the buffer is exhausted
+     */
+    public TypeData read(final ByteBuffer buffer, final int offset, final byte type) throws IOException {
+        buffer.position(offset);
+        return read(buffer, type);
+    }
+
+    /**
+     * Return a standalone copy if the data is one of the cursors of this reader.
+     *
+     * @param data the data
+     * @return TypeData
+     */
+    public TypeData detach(final TypeData data) {
+        if (data == intData) {
+            return IntData.nonNullValueOf(intData.value);
+        } else if (data == longData) {
+            return LongData.nonNullValueOf(longData.value);
+        } else if (data == floatData) {
+            return FloatData.nonNullValueOf(floatData.value);
+        } else if (data == doubleData) {
+            return DoubleData.nonNullValueOf(doubleData.value);
+        } else if (data == timestampData) {
+            return TimestampData.valueOf(timestampData.value);
+        }
+        return data;
+    }
+
+    private TypeData readInt(final ByteBuffer buffer) {
+        switch(buffer.get()) {
+            case XNumberUtils.BYTE_NULL:     return IntData.NULL;
+            case XNumberUtils.BYTE_ZERO:     return IntData.ZERO;
+            case XNumberUtils.BYTE_ONE:      intData.value = buffer.get(); break;
+            case XNumberUtils.BYTE_TWO:      intData.value = getShort(buffer); break;
+            default:                        intData.value = getInt(buffer);
+        }
+        return intData;
+    }
+
+    private TypeData readLong(final ByteBuffer buffer) {
+        switch(buffer.get()) {
+            case XNumberUtils.BYTE_NULL:     return LongData.NULL;
+            case XNumberUtils.BYTE_ZERO:     return LongData.ZERO;
+            case XNumberUtils.BYTE_ONE:      longData.value = buffer.get(); break;
+            case XNumberUtils.BYTE_TWO:      longData.value = getShort(buffer); break;
+            case XNumberUtils.BYTE_FOUR:     longData.value = getInt(buffer); break;
+            default:                        longData.value = getLong(buffer);
+        }
+        return longData;
+    }
+
+    /**
+     * Read a data of the type at the buffer position.
+     *
+     * @param buffer the buffer
+     * @param type the data type
+     * @return TypeData
+     * @throws IOException if the type is invalid or the buffer is exhausted
+     */
+    public static TypeData readTypeData(final ByteBuffer buffer, final byte type) throws IOException {
+        try {
+            switch(type) {
+                case Types.INT:
+                    switch(buffer.get()) {
+                        case XNumberUtils.BYTE_NULL:     return IntData.NULL;
+                        case XNumberUtils.BYTE_ZERO:     return IntData.ZERO;
+                        case XNumberUtils.BYTE_ONE:      return DataCache.getOrPutIntData((int) buffer.get());
+                        case XNumberUtils.BYTE_TWO:      return DataCache.getOrPutIntData((int) getShort(buffer));
+                        default:                        return DataCache.getOrPutIntData(getInt(buffer));
+                    }
+                case Types.LONG:
+                    switch(buffer.get()) {
+                        case XNumberUtils.BYTE_NULL:     return LongData.NULL;
+                        case XNumberUtils.BYTE_ZERO:     return LongData.ZERO;
+                        case XNumberUtils.BYTE_ONE:      return DataCache.getOrPutLongData((long) buffer.get());
+                        case XNumberUtils.BYTE_TWO:      return DataCache.getOrPutLongData((long) getShort(buffer));
+                        case XNumberUtils.BYTE_FOUR:     return DataCache.getOrPutLongData((long) getInt(buffer));
+                        default:                        return DataCache.getOrPutLongData(getLong(buffer));
+                    }
+                case Types.FLOAT:
+                    return buffer.get() != 0 ? FloatData.NULL : FloatData.nonNullValueOf(Float.intBitsToFloat(getInt(buffer)));
+                case Types.DOUBLE:
+                    return buffer.get() != 0 ? DoubleData.NULL : DoubleData.nonNullValueOf(Double.longBitsToDouble(getLong(buffer)));
+                case Types.TIMESTAMP:
+                    return buffer.get() != 0 ? TimestampData.NULL : TimestampData.valueOf(getLong(buffer));
+                case Types.BOOLEAN:
+                    return readBoolean(buffer);
+                case Types.NULL:
+                    return NullData.INSTANCE;
+                default:
+                    return readOther(new ByteBufferObjectInput(buffer), type);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new BinaryEOFException();
+        }
+    }
+
+    /**
+     * Read a data of the type at the offset.
+     *
+     * @param buffer the buffer
+     * @param offset the offset
+     * @param type the data type
+     * @return TypeData
+     * @throws IOException if the type is invalid or the buffer is exhausted
+     */
+    public static TypeData readTypeData(final ByteBuffer buffer, final int offset, final byte type) throws IOException {
+        buffer.position(offset);
+        return readTypeData(buffer, type);
+    }
+
+    private static TypeData readBoolean(final ByteBuffer buffer) {
+        switch(buffer.get()) {
+            case XNumberUtils.BYTE_ONE: return BooleanData.TRUE;
+            case XNumberUtils.BYTE_ZERO: return BooleanData.FALSE;
+            default: return BooleanData.NULL;
+        }
+    }
+
+    private static TypeData readOther(final ByteBufferObjectInput in, final byte type) throws IOException {
+        switch(type) {
+            case Types.NUMERIC: return NumericData.readData(in);
+            case Types.DECIMAL: return DecimalData.readData(in);
+            case Types.COMPLEX: return ComplexData.readData(in);
+            case Types.DATE: return DateData.readData(in);
+            case Types.TIME: return TimeData.readData(in);
+            case Types.CALENDAR_TIME: return CalendarTimeData.readData(in);
+            case Types.CALENDAR_TIMESTAMP: return CalendarTimestampData.readData(in);
+            case Types.INSTANT: return InstantData.readData(in);
+            case Types.BINARY: return BinaryData.readData(in);
+            case Types.STRING: return StringData.readData(in);
+            case Types.LIST: return ListData.readData(in);
+            case Types.SET: return SetData.readData(in);
+            case Types.MAP: return MapData.readData(in);
+            case Types.DENSEVECTOR: return DenseVectorData.readData(in);
+            case Types.SPARSEVECTOR: return SparseVectorData.readData(in);
+            default: throw new IOException("READ_TYPEDATA_INVALID_TYPE");
+        }
+    }
+
+    //the externalized format is big endian regardless of the buffer order
+    private static short getShort(final ByteBuffer buffer) {
+        final short v = buffer.getShort();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? v : Short.reverseBytes(v);
+    }
+
+    private static int getInt(final ByteBuffer buffer) {
+        final int v = buffer.getInt();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? v : Integer.reverseBytes(v);
+    }
+
+    private static long getLong(final ByteBuffer buffer) {
+        final long v = buffer.getLong();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? v : Long.reverseBytes(v);
+    }
+}
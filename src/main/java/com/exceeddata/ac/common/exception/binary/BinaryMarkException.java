@@ -0,0 +1,11 @@
+package com.exceeddata.ac.common.exception.binary;
+
+import com.exceeddata.ac.common.exception.EngineException;
+
+public class BinaryMarkException extends EngineException {
+    private static final long serialVersionUID = 1L;
+
+    public BinaryMarkException() {
+        super("CONNECTOR_STREAM_MARK_INVALID");
+    }
+}
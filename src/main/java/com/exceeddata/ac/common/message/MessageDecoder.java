@@ -1,9 +1,13 @@
 package com.exceeddata.ac.common.message;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Set;
 
+import com.exceeddata.ac.common.data.collection.RecordBatch;
+import com.exceeddata.ac.common.data.collection.RecordCollection;
 import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.exception.EngineDataException;
 
 public interface MessageDecoder extends Serializable {
     
@@ -96,4 +100,260 @@ public interface MessageDecoder extends Serializable {
      * @param selectedAttributes the selected attributes
      */
     public void select(final Set<String> selectedAttributes);
+    
+    /**
+     * Decode or interpret a batch of messages into the sink, skipping messages without a record.
+     * Implementations should override the batch methods to resolve desc metadata and the selection 
+     * once per batch instead of once per message.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param offset the offset of the first message
+     * @param length the number of messages
+     * @param sink the sink collection
+     * @param applyFormula if true then code else interpret
+     * @return the number of records added
+     */
+    public default int computeAll(
+            final MessageDesc desc, 
+            final MessageContent[] messages,
+            final int offset,
+            final int length,
+            final RecordCollection sink,
+            final boolean applyFormula) {
+        int added = 0;
+        for (int i = offset, end = offset + length; i < end; ++i) {
+            final Record record = compute(desc, messages[i], applyFormula);
+            if (record != null) {
+                sink.add(record);
+                ++added;
+            }
+        }
+        return added;
+    }
+    
+    /**
+     * Decode or interpret a batch of messages into the sink, skipping messages without a record.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param sink the sink collection
+     * @param applyFormula if true then code else interpret
+     * @return the number of records added
+     */
+    public default int computeAll(
+            final MessageDesc desc, 
+            final List<? extends MessageContent> messages,
+            final RecordCollection sink,
+            final boolean applyFormula) {
+        int added = 0;
+        for (final MessageContent message : messages) {
+            final Record record = compute(desc, message, applyFormula);
+            if (record != null) {
+                sink.add(record);
+                ++added;
+            }
+        }
+        return added;
+    }
+    
+    /**
+     * Decode or interpret a batch of messages into a columnar batch, skipping messages without a record.
+     * A single target record is reused for all messages, its values are nullified before each message.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param offset the offset of the first message
+     * @param length the number of messages
+     * @param sink the sink batch
+     * @param applyFormula if true then code else interpret
+     * @return the number of rows added
+     * @throws EngineDataException if a value does not fit the batch column
+     */
+    public default int computeAll(
+            final MessageDesc desc, 
+            final MessageContent[] messages,
+            final int offset,
+            final int length,
+            final RecordBatch sink,
+            final boolean applyFormula) throws EngineDataException {
+        final Record target = new Record();
+        int added = 0;
+        for (int i = offset, end = offset + length; i < end; ++i) {
+            final Record record = compute(desc, messages[i], target.nullifyData(), applyFormula);
+            if (record != null) {
+                sink.add(record);
+                ++added;
+            }
+        }
+        return added;
+    }
+    
+    /**
+     * Decode or interpret a batch of messages into a columnar batch, skipping messages without a record.
+     * A single target record is reused for all messages, its values are nullified before each message.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param sink the sink batch
+     * @param applyFormula if true then code else interpret
+     * @return the number of rows added
+     * @throws EngineDataException if a value does not fit the batch column
+     */
+    public default int computeAll(
+            final MessageDesc desc, 
+            final List<? extends MessageContent> messages,
+            final RecordBatch sink,
+            final boolean applyFormula) throws EngineDataException {
+        final Record target = new Record();
+        int added = 0;
+        for (final MessageContent message : messages) {
+            final Record record = compute(desc, message, target.nullifyData(), applyFormula);
+            if (record != null) {
+                sink.add(record);
+                ++added;
+            }
+        }
+        return added;
+    }
+    
+    /**
+     * Decode a batch of messages to formula-computed values into the sink.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param sink the sink collection
+     * @return the number of records added
+     */
+    public default int decodeAll(
+            final MessageDesc desc, 
+            final List<? extends MessageContent> messages,
+            final RecordCollection sink) {
+        return computeAll(desc, messages, sink, true);
+    }
+    
+    /**
+     * Interpret a batch of messages to raw-uncomputed values into the sink.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param sink the sink collection
+     * @return the number of records added
+     */
+    public default int interpretAll(
+            final MessageDesc desc, 
+            final List<? extends MessageContent> messages,
+            final RecordCollection sink) {
+        return computeAll(desc, messages, sink, false);
+    }
+    
+    /**
+     * Decode a batch of messages to formula-computed values into the sink.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param offset the offset of the first message
+     * @param length the number of messages
+     * @param sink the sink collection
+     * @return the number of records added
+     */
+    public default int decodeAll(
+            final MessageDesc desc, 
+            final MessageContent[] messages,
+            final int offset,
+            final int length,
+            final RecordCollection sink) {
+        return computeAll(desc, messages, offset, length, sink, true);
+    }
+    
+    /**
+     * Interpret a batch of messages to raw-uncomputed values into the sink.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param offset the offset of the first message
+     * @param length the number of messages
+     * @param sink the sink collection
+     * @return the number of records added
+     */
+    public default int interpretAll(
+            final MessageDesc desc, 
+            final MessageContent[] messages,
+            final int offset,
+            final int length,
+            final RecordCollection sink) {
+        return computeAll(desc, messages, offset, length, sink, false);
+    }
+    
+    /**
+     * Decode a batch of messages to formula-computed values into a columnar batch.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param offset the offset of the first message
+     * @param length the number of messages
+     * @param sink the sink batch
+     * @return the number of rows added
+     * @throws EngineDataException if a value does not fit the batch column
+     */
+    public default int decodeAll(
+            final MessageDesc desc, 
+            final MessageContent[] messages,
+            final int offset,
+            final int length,
+            final RecordBatch sink) throws EngineDataException {
+        return computeAll(desc, messages, offset, length, sink, true);
+    }
+    
+    /**
+     * Interpret a batch of messages to raw-uncomputed values into a columnar batch.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param offset the offset of the first message
+     * @param length the number of messages
+     * @param sink the sink batch
+     * @return the number of rows added
+     * @throws EngineDataException if a value does not fit the batch column
+     */
+    public default int interpretAll(
+            final MessageDesc desc, 
+            final MessageContent[] messages,
+            final int offset,
+            final int length,
+            final RecordBatch sink) throws EngineDataException {
+        return computeAll(desc, messages, offset, length, sink, false);
+    }
+    
+    /**
+     * Decode a batch of messages to formula-computed values into a columnar batch.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param sink the sink batch
+     * @return the number of rows added
+     * @throws EngineDataException if a value does not fit the batch column
+     */
+    public default int decodeAll(
+            final MessageDesc desc, 
+            final List<? extends MessageContent> messages,
+            final RecordBatch sink) throws EngineDataException {
+        return computeAll(desc, messages, sink, true);
+    }
+    
+    /**
+     * Interpret a batch of messages to raw-uncomputed values into a columnar batch.
+     * 
+     * @param desc the desc
+     * @param messages the messages
+     * @param sink the sink batch
+     * @return the number of rows added
+     * @throws EngineDataException if a value does not fit the batch column
+     */
+    public default int interpretAll(
+            final MessageDesc desc, 
+            final List<? extends MessageContent> messages,
+            final RecordBatch sink) throws EngineDataException {
+        return computeAll(desc, messages, sink, false);
+    }
 }
@@ -5,6 +5,7 @@ import java.io.ObjectInput;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
@@ -49,6 +50,7 @@ import com.exceeddata.ac.common.data.typedata.StringData;
 import com.exceeddata.ac.common.data.typedata.TimeData;
 import com.exceeddata.ac.common.data.typedata.TimestampData;
 import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.data.typedata.TypeDataBufferReader;
 import com.exceeddata.ac.common.data.typedata.TypeUtils;
 import com.exceeddata.ac.common.exception.EngineDataException;
 import com.exceeddata.ac.common.exception.EngineException;
@@ -1973,6 +1975,18 @@ public final class XTypeDataUtils {
         }
     }
     
+    /**
+     * Read a data of the type directly from the buffer position, see <code>TypeDataBufferReader</code>.
+     * 
+     * @param buffer the buffer
+     * @param type the data type
+     * @return TypeData
+     * @throws IOException if the type is invalid or the buffer is exhausted
+     */
+    public static TypeData readTypeData (final ByteBuffer buffer, final byte type) throws IOException {
+        return TypeDataBufferReader.readTypeData(buffer, type);
+    }
+    
     public static IntData toIntData (final Number value) {
         return value == null ? IntData.NULL : IntData.nonNullValueOf(value.intValue());
     }
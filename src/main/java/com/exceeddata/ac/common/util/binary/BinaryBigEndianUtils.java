@@ -34,162 +34,247 @@ public final class BinaryBigEndianUtils {
     }
     
     public static short bytesToINT8(final byte arr[], final int offset) {
-        return (short) ByteBuffer.wrap(arr, offset, LEN_INT8).get();
+        return arr[offset];
     }
     
     public static short bytesToINT8(final byte arr[], final long offset) {
-        return (short) ByteBuffer.wrap(arr, (int) offset, LEN_INT8).get();
+        return bytesToINT8(arr, (int) offset);
     }
     
     public static short bytesToINT8(final byte arr[], final BigInteger offset) {
-        return (short) ByteBuffer.wrap(arr, offset.intValue(), LEN_INT8).get();
+        return bytesToINT8(arr, offset.intValue());
     }
     
     public static short bytesToUINT8(final byte arr[], final int offset) {
-        return (short) (ByteBuffer.wrap(arr, offset, LEN_UINT8).get() & 0xFF);
+        return (short) (arr[offset] & 0xFF);
     }
     
     public static short bytesToUINT8(final byte arr[], final long offset) {
-        return (short) (ByteBuffer.wrap(arr, (int) offset, LEN_UINT8).get() & 0xFF);
+        return bytesToUINT8(arr, (int) offset);
     }
     
     public static short bytesToUINT8(final byte arr[], final BigInteger offset) {
-        return (short) (ByteBuffer.wrap(arr, offset.intValue(), LEN_UINT8).get() & 0xFF);
+        return bytesToUINT8(arr, offset.intValue());
     }
     
     public static int bytesToUINT8int(final byte arr[], final int offset) {
-        return (ByteBuffer.wrap(arr, offset, LEN_UINT8).get() & 0xFF);
+        return arr[offset] & 0xFF;
     }
     
     public static int bytesToUINT8int(final byte arr[], final long offset) {
-        return ByteBuffer.wrap(arr, (int) offset, LEN_UINT8).get() & 0xFF;
+        return bytesToUINT8int(arr, (int) offset);
     }
     
     public static int bytesToUINT8int(final byte arr[], final BigInteger offset) {
-        return ByteBuffer.wrap(arr, offset.intValue(), LEN_UINT8).get() & 0xFF;
+        return bytesToUINT8int(arr, offset.intValue());
     }
 
     public static boolean bytesToBool(final byte arr[], final int offset) {
-        return ByteBuffer.wrap(arr, offset, LEN_BOOL).get() != 0x00;
+        return arr[offset] != 0x00;
     }
 
     public static boolean bytesToBool(final byte arr[], final long offset) {
-        return ByteBuffer.wrap(arr, (int) offset, LEN_BOOL).get() != 0x00;
+        return bytesToBool(arr, (int) offset);
     }
     
     public static short bytesToINT16(final byte arr[], final int offset) {
-        return ByteBuffer.wrap(arr, offset, LEN_INT16).order(ByteOrder.BIG_ENDIAN).getShort();
+        return (short) ((arr[offset] << 8) | (arr[offset + 1] & 0xFF));
     }
     
     public static short bytesToINT16(final byte arr[], final long offset) {
-        return ByteBuffer.wrap(arr, (int) offset, LEN_INT16).order(ByteOrder.BIG_ENDIAN).getShort();
+        return bytesToINT16(arr, (int) offset);
     }
 
     public static short bytesToINT16(final byte arr[], final BigInteger offset) {
-        return ByteBuffer.wrap(arr, offset.intValue(), LEN_INT16).order(ByteOrder.BIG_ENDIAN).getShort();
+        return bytesToINT16(arr, offset.intValue());
     }
 
     public static int bytesToUINT16(final byte arr[], final int offset) {
-        return (int) (ByteBuffer.wrap(arr, offset, LEN_UINT16).order(ByteOrder.BIG_ENDIAN).getShort() & 0xFFFF);
+        return ((arr[offset] & 0xFF) << 8) | (arr[offset + 1] & 0xFF);
     }
 
     public static int bytesToUINT16(final byte arr[], final long offset) {
-        return (int) (ByteBuffer.wrap(arr, (int) offset, LEN_UINT16).order(ByteOrder.BIG_ENDIAN).getShort() & 0xFFFF);
+        return bytesToUINT16(arr, (int) offset);
     }
 
     public static int bytesToUINT16(final byte arr[], final BigInteger offset) {
-        return (int) (ByteBuffer.wrap(arr, offset.intValue(), LEN_UINT16).order(ByteOrder.BIG_ENDIAN).getShort() & 0xFFFF);
+        return bytesToUINT16(arr, offset.intValue());
     }
 
     public static int bytesToINT32(final byte arr[], final int offset) {
-        return ByteBuffer.wrap(arr, offset, LEN_INT32).order(ByteOrder.BIG_ENDIAN).getInt();
+        return (arr[offset] << 24)
+             | ((arr[offset + 1] & 0xFF) << 16)
+             | ((arr[offset + 2] & 0xFF) << 8)
+             | (arr[offset + 3] & 0xFF);
     }
 
     public static int bytesToINT32(final byte arr[], final long offset) {
-        return ByteBuffer.wrap(arr, (int) offset, LEN_INT32).order(ByteOrder.BIG_ENDIAN).getInt();
+        return bytesToINT32(arr, (int) offset);
     }
 
     public static int bytesToINT32(final byte arr[], final BigInteger offset) {
-        return ByteBuffer.wrap(arr, offset.intValue(), LEN_INT32).order(ByteOrder.BIG_ENDIAN).getInt();
+        return bytesToINT32(arr, offset.intValue());
     }
 
     public static long bytesToUINT32(final byte arr[], final int offset) {
-        return ((long) ByteBuffer.wrap(arr, offset, LEN_UINT32).order(ByteOrder.BIG_ENDIAN).getInt()) & 0xFFFFFFFFL;
+        return bytesToINT32(arr, offset) & 0xFFFFFFFFL;
     }
 
     public static long bytesToUINT32(final byte arr[], final long offset) {
-        return ((long) ByteBuffer.wrap(arr, (int) offset, LEN_UINT32).order(ByteOrder.BIG_ENDIAN).getInt()) & 0xFFFFFFFFL;
+        return bytesToUINT32(arr, (int) offset);
     }
 
     public static long bytesToUINT32(final byte arr[], final BigInteger offset) {
-        return ((long) ByteBuffer.wrap(arr, offset.intValue(), LEN_UINT32).order(ByteOrder.BIG_ENDIAN).getInt()) & 0xFFFFFFFFL;
+        return bytesToUINT32(arr, offset.intValue());
     }
 
     public static long bytesToINT64(final byte arr[], final int offset) {
-        return ByteBuffer.wrap(arr, offset, LEN_INT64).order(ByteOrder.BIG_ENDIAN).getLong();
+        return ((long) bytesToINT32(arr, offset) << 32) | (bytesToINT32(arr, offset + LEN_INT32) & 0xFFFFFFFFL);
     }
 
     public static long bytesToINT64(final byte arr[], final long offset) {
-        return ByteBuffer.wrap(arr, (int) offset, LEN_INT64).order(ByteOrder.BIG_ENDIAN).getLong();
+        return bytesToINT64(arr, (int) offset);
     }
 
     public static long bytesToINT64(final byte arr[], final BigInteger offset) {
-        return ByteBuffer.wrap(arr, offset.intValue(), LEN_INT64).order(ByteOrder.BIG_ENDIAN).getLong();
+        return bytesToINT64(arr, offset.intValue());
     }
     
     public static BigInteger bytesToUINT64(final byte arr[], final int offset) {
-        return new BigInteger(1, ByteBuffer.wrap(arr, offset, LEN_UINT64).array());
+        return unsigned(bytesToINT64(arr, offset));
     }
     
     public static BigInteger bytesToUINT64(final byte arr[], final long offset) {
-        byte buf[] = new byte[LEN_UINT64];
-        System.arraycopy(arr,(int)offset, buf,0,LEN_UINT64);
-        return new BigInteger(1, buf);
+        return bytesToUINT64(arr, (int) offset);
     }
     
     public static BigInteger bytesToUINT64(final byte arr[], final BigInteger offset) {
-//        return new BigInteger(1,ByteBuffer.wrap(arr, offset.intValue(), LEN_UINT64).order(ByteOrder.BIG_ENDIAN).array(), offset.intValue(), LEN_UINT64);
-        //It does NOT work on Gary's MAC. So create a new byte array and copy data to it.
-        //return new BigInteger(1, ByteBuffer.wrap(arr, offset.intValue(), LEN_UINT64).array());
-        byte buf[] = new byte[LEN_UINT64];
-        System.arraycopy(arr,offset.intValue(), buf,0,LEN_UINT64);
-        return new BigInteger(1, buf);
+        return bytesToUINT64(arr, offset.intValue());
+    }
+    
+    /**
+     * Read an unsigned long / uint64 without allocating a BigInteger, values above Long.MAX_VALUE are returned
+     * negative for use with <code>Long.toUnsignedString</code> and <code>Long.compareUnsigned</code>.
+     * 
+     * @param arr the bytes
+     * @param offset the offset
+     * @return long
+     */
+    public static long bytesToUINT64long(final byte arr[], final int offset) {
+        return bytesToINT64(arr, offset);
+    }
+    
+    public static long bytesToUINT64long(final byte arr[], final long offset) {
+        return bytesToUINT64long(arr, (int) offset);
+    }
+    
+    public static long bytesToUINT64long(final byte arr[], final BigInteger offset) {
+        return bytesToUINT64long(arr, offset.intValue());
+    }
+    
+    /**
+     * Read count consecutive signed shorts / int16 into the target array.
+     * 
+     * @param arr the bytes
+     * @param offset the offset
+     * @param dst the target array
+     * @param dstOffset the offset in the target array
+     * @param count the number of values
+     */
+    public static void bytesToINT16s(final byte arr[], final int offset, final short[] dst, final int dstOffset, final int count) {
+        ByteBuffer.wrap(arr, offset, count * LEN_INT16).order(ByteOrder.BIG_ENDIAN).asShortBuffer().get(dst, dstOffset, count);
+    }
+    
+    /**
+     * Read count consecutive signed ints / int32 into the target array.
+     * 
+     * @param arr the bytes
+     * @param offset the offset
+     * @param dst the target array
+     * @param dstOffset the offset in the target array
+     * @param count the number of values
+     */
+    public static void bytesToINT32s(final byte arr[], final int offset, final int[] dst, final int dstOffset, final int count) {
+        ByteBuffer.wrap(arr, offset, count * LEN_INT32).order(ByteOrder.BIG_ENDIAN).asIntBuffer().get(dst, dstOffset, count);
+    }
+    
+    /**
+     * Read count consecutive signed longs / int64 into the target array.
+     * 
+     * @param arr the bytes
+     * @param offset the offset
+     * @param dst the target array
+     * @param dstOffset the offset in the target array
+     * @param count the number of values
+     */
+    public static void bytesToINT64s(final byte arr[], final int offset, final long[] dst, final int dstOffset, final int count) {
+        ByteBuffer.wrap(arr, offset, count * LEN_INT64).order(ByteOrder.BIG_ENDIAN).asLongBuffer().get(dst, dstOffset, count);
+    }
+    
+    /**
+     * Read count consecutive floats into the target array.
+     * 
+     * @param arr the bytes
+     * @param offset the offset
+     * @param dst the target array
+     * @param dstOffset the offset in the target array
+     * @param count the number of values
+     */
+    public static void bytesToFloats(final byte arr[], final int offset, final float[] dst, final int dstOffset, final int count) {
+        ByteBuffer.wrap(arr, offset, count * LEN_FLOAT).order(ByteOrder.BIG_ENDIAN).asFloatBuffer().get(dst, dstOffset, count);
+    }
+    
+    /**
+     * Read count consecutive doubles into the target array.
+     * 
+     * @param arr the bytes
+     * @param offset the offset
+     * @param dst the target array
+     * @param dstOffset the offset in the target array
+     * @param count the number of values
+     */
+    public static void bytesToReals(final byte arr[], final int offset, final double[] dst, final int dstOffset, final int count) {
+        ByteBuffer.wrap(arr, offset, count * LEN_REAL).order(ByteOrder.BIG_ENDIAN).asDoubleBuffer().get(dst, dstOffset, count);
+    }
+    
+    private static BigInteger unsigned(final long value) {
+        return value >= 0 ? BigInteger.valueOf(value) : BigInteger.valueOf(value & Long.MAX_VALUE).setBit(63);
     }
 
     public static float bytesToFloat(final byte arr[], final int offset) {
-        return ByteBuffer.wrap(arr, offset, LEN_FLOAT).order(ByteOrder.BIG_ENDIAN).getFloat();
+        return Float.intBitsToFloat(bytesToINT32(arr, offset));
     }
 
     public static float bytesToFloat(final byte arr[], final long offset) {
-        return ByteBuffer.wrap(arr, (int) offset, LEN_FLOAT).order(ByteOrder.BIG_ENDIAN).getFloat();
+        return bytesToFloat(arr, (int) offset);
     }
 
     public static float bytesToFloat(final byte arr[], final BigInteger offset) {
-        return ByteBuffer.wrap(arr, offset.intValue(), LEN_FLOAT).order(ByteOrder.BIG_ENDIAN).getFloat();
+        return bytesToFloat(arr, offset.intValue());
     }
 
     public static double bytesToReal(final byte arr[], final int offset) {
-        return ByteBuffer.wrap(arr, offset, LEN_REAL).order(ByteOrder.BIG_ENDIAN).getDouble();
+        return Double.longBitsToDouble(bytesToINT64(arr, offset));
     }
 
     public static double bytesToReal(final byte arr[], final long offset) {
-        return ByteBuffer.wrap(arr, (int) offset, LEN_REAL).order(ByteOrder.BIG_ENDIAN).getDouble();
+        return bytesToReal(arr, (int) offset);
     }
 
     public static double bytesToReal(final byte arr[], final BigInteger offset) {
-        return ByteBuffer.wrap(arr, offset.intValue(), LEN_REAL).order(ByteOrder.BIG_ENDIAN).getDouble();
+        return bytesToReal(arr, offset.intValue());
     }
     
     public static long bytesToLink32(final byte arr[], final int offset) {
-        return ((long) ByteBuffer.wrap(arr, offset, LEN_UINT32).order(ByteOrder.BIG_ENDIAN).getInt()) & 0xFFFFFFFFL;
+        return bytesToINT32(arr, offset) & 0xFFFFFFFFL;
     }
     
     public static long bytesToLink32(final byte arr[], final long offset) {
-        return ((long) ByteBuffer.wrap(arr, (int) offset, LEN_UINT32).order(ByteOrder.BIG_ENDIAN).getInt()) & 0xFFFFFFFFL;
+        return bytesToLink32(arr, (int) offset);
     }
     
     public static BigInteger bytesToLink64(final byte arr[], final int offset) {
-        return new BigInteger(1, ByteBuffer.wrap(arr, offset, LEN_LINK64).array());
+        return unsigned(bytesToINT64(arr, offset));
     }
 
     public static String bytesToANSI(final byte arr[], final int offset, final int len) {
@@ -0,0 +1,254 @@
+package com.exceeddata.ac.common.util.binary;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.exceeddata.ac.common.exception.operation.ParameterValueException;
+import com.exceeddata.ac.common.message.MessageContent;
+
+/**
+ * Extracts signals packed at arbitrary bit positions of CAN/LIN frame payloads.
+ *
+ * Signals are added with their start bit and length in DBC conventions: for Intel (little endian) byte order the
+ * start bit is the least significant bit, for Motorola (big endian) byte order the start bit is the most significant
+ * bit, where bit <code>n</code> is bit <code>n % 8</code> of byte <code>n / 8</code>. Each signal is compiled into
+ * a plan of byte positions and shifts plus a mask, so extraction is a few shifts and ors without allocation.
+ *
+ * Signals are unsigned, signed (two's complement) or IEEE-754 floats of 32 or 64 bits, up to 64 bits long, with a
+ * factor and offset for the physical value. An extractor is not modified while extracting and can be shared across
+ * threads once all signals are added.
+ */
+public final class BitFieldExtractor implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final byte UNSIGNED = 0;
+    public static final byte SIGNED = 1;
+    public static final byte FLOAT = 2;
+
+    private int size = 0;
+    private int steps = 0;
+    private int[] firstSteps = new int[8];
+    private int[] stepBytes = new int[16];
+    private int[] stepShifts = new int[16];
+    private long[] masks = new long[8];
+    private int[] lengths = new int[8];
+    private byte[] types = new byte[8];
+    private int[] requiredBytes = new int[8];
+    private double[] factors = new double[8];
+    private double[] offsets = new double[8];
+
+    /**
+     * Add a signal with factor 1 and offset 0.
+     *
+     * @param startBit the start bit
+     * @param length the length in bits, 1 to 64, 32 or 64 for floats
+     * @param intel true for Intel (little endian), false for Motorola (big endian) byte order
+     * @param type UNSIGNED, SIGNED or FLOAT
+     * @return the position of the signal
+     * @throws ParameterValueException if the layout is invalid
+     */
+    public int add(final int startBit, final int length, final boolean intel, final byte type) throws ParameterValueException {
+        return add(startBit, length, intel, type, 1d, 0d);
+    }
+
+    /**
+     * Add a signal.
+     *
+     * @param startBit the start bit
+     * @param length the length in bits, 1 to 64, 32 or 64 for floats
+     * @param intel true for Intel (little endian), false for Motorola (big endian) byte order
+     * @param type UNSIGNED, SIGNED or FLOAT
+     * @param factor the factor of the physical value
+     * @param offset the offset of the physical value
+     * @return the position of the signal
+     * @throws ParameterValueException if the layout is invalid
+     */
+    public int add(final int startBit, final int length, final boolean intel, final byte type, final double factor, final double offset) throws ParameterValueException {
+        if (startBit < 0 || length < 1 || length > 64 || type == FLOAT && length != 32 && length != 64) {
+            throw new ParameterValueException("BINARY_SIGNAL_LAYOUT_INVALID: start " + startBit + " length " + length);
+        }
+
+        //the bytes of the signal in significance order, and the shift of the least significant bit in them
+        final int firstByte = startBit >> 3, count, lsbShift;
+        if (intel) {
+            lsbShift = startBit & 7;
+            count = (lsbShift + length + 7) >> 3;
+        } else {
+            final int msbBit = startBit & 7;
+            count = length > msbBit + 1 ? (length - msbBit - 1 + 7) / 8 + 1 : 1;
+            lsbShift = 8 * (count - 1) + msbBit - length + 1;
+        }
+
+        ensure(size + 1, steps + count);
+        firstSteps[size] = steps;
+        for (int j = 0; j < count; ++j) {
+            stepBytes[steps] = firstByte + j;
+            stepShifts[steps] = intel ? 8 * j - lsbShift : 8 * (count - 1 - j) - lsbShift;
+            ++steps;
+        }
+        firstSteps[size + 1] = steps;
+        masks[size] = length == 64 ? -1l : (1l << length) - 1;
+        lengths[size] = length;
+        types[size] = type;
+        requiredBytes[size] = firstByte + count;
+        factors[size] = factor;
+        offsets[size] = offset;
+        return size++;
+    }
+
+    private void ensure(final int signals, final int totalSteps) {
+        if (signals + 1 > firstSteps.length) {
+            final int capacity = Math.max(signals + 1, firstSteps.length * 2);
+            firstSteps = Arrays.copyOf(firstSteps, capacity);
+            masks = Arrays.copyOf(masks, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            types = Arrays.copyOf(types, capacity);
+            requiredBytes = Arrays.copyOf(requiredBytes, capacity);
+            factors = Arrays.copyOf(factors, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+        }
+        if (totalSteps > stepBytes.length) {
+            final int capacity = Math.max(totalSteps, stepBytes.length * 2);
+            stepBytes = Arrays.copyOf(stepBytes, capacity);
+            stepShifts = Arrays.copyOf(stepShifts, capacity);
+        }
+    }
+
+    /**
+     * Get the number of signals.
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get whether a payload of the data length contains a signal.
+     *
+     * @param dataLength the payload length in bytes
+     * @param signal the position of the signal
+     * @return true or false
+     */
+    public boolean isAvailable(final int dataLength, final int signal) {
+        return requiredBytes[signal] <= dataLength;
+    }
+
+    /**
+     * Extract the raw bits of a signal, right aligned.
+     *
+     * @param data the payload
+     * @param signal the position of the signal
+     * @return long
+     */
+    public long extractRaw(final byte[] data, final int signal) {
+        long value = 0;
+        for (int s = firstSteps[signal], e = firstSteps[signal + 1]; s < e; ++s) {
+            final long b = data[stepBytes[s]] & 0xFF;
+            final int shift = stepShifts[s];
+            value |= shift >= 0 ? b << shift : b >>> -shift;
+        }
+        return value & masks[signal];
+    }
+
+    /**
+     * Extract a signal as a long, sign extended for signed signals and as the raw bits for floats.
+     *
+     * @param data the payload
+     * @param signal the position of the signal
+     * @return long
+     */
+    public long extractLong(final byte[] data, final int signal) {
+        final long raw = extractRaw(data, signal);
+        if (types[signal] == SIGNED) {
+            final int unused = 64 - lengths[signal];
+            return (raw << unused) >> unused;
+        }
+        return raw;
+    }
+
+    /**
+     * Extract the value of a signal before the factor and offset: unsigned, signed or float.
+     * Unsigned 64 bit values above Long.MAX_VALUE are converted as unsigned.
+     *
+     * @param data the payload
+     * @param signal the position of the signal
+     * @return double
+     */
+    public double extractValue(final byte[] data, final int signal) {
+        final long value = extractLong(data, signal);
+        switch (types[signal]) {
+            case FLOAT:
+                return lengths[signal] == 32 ? Float.intBitsToFloat((int) value) : Double.longBitsToDouble(value);
+            case UNSIGNED:
+                return value >= 0 ? value : (double) (value >>> 1) * 2d + (value & 1);
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Extract the physical value of a signal, the value times the factor plus the offset.
+     *
+     * @param data the payload
+     * @param signal the position of the signal
+     * @return double
+     */
+    public double extractPhysical(final byte[] data, final int signal) {
+        return extractValue(data, signal) * factors[signal] + offsets[signal];
+    }
+
+    /**
+     * Extract the raw bits of all signals.
+     *
+     * @param data the payload
+     * @param dataLength the valid length of the payload
+     * @param raws the target with at least size() elements, 0 for signals beyond the data length
+     * @return the number of signals extracted
+     */
+    public int extractAllRaw(final byte[] data, final int dataLength, final long[] raws) {
+        int count = 0;
+        for (int i = 0; i < size; ++i) {
+            if (requiredBytes[i] <= dataLength) {
+                raws[i] = extractRaw(data, i);
+                ++count;
+            } else {
+                raws[i] = 0l;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Extract the physical values of all signals.
+     *
+     * @param data the payload
+     * @param dataLength the valid length of the payload
+     * @param values the target with at least size() elements, NaN for signals beyond the data length
+     * @return the number of signals extracted
+     */
+    public int extractAll(final byte[] data, final int dataLength, final double[] values) {
+        int count = 0;
+        for (int i = 0; i < size; ++i) {
+            if (requiredBytes[i] <= dataLength) {
+                values[i] = extractPhysical(data, i);
+                ++count;
+            } else {
+                values[i] = Double.NaN;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Extract the physical values of all signals from a message.
+     *
+     * @param content the message content
+     * @param values the target with at least size() elements, NaN for signals beyond the data length
+     * @return the number of signals extracted
+     */
+    public int extractAll(final MessageContent content, final double[] values) {
+        final byte[] data = content.getData();
+        return extractAll(data, Math.min(content.getDataLength(), data.length), values);
+    }
+}
@@ -0,0 +1,13 @@
+package com.exceeddata.ac.common.util.calc;
+
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+/**
+ * A binary calculation on two datas, an entry of a <code>XCalcDispatch</code> table.
+ *
+ */
+@FunctionalInterface
+public interface BinaryOp {
+    public TypeData apply(final TypeData d1, final TypeData d2) throws EngineException;
+}
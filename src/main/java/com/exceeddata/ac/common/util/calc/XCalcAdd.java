@@ -53,7 +53,7 @@ public final class XCalcAdd {
                         return addDoubles(d1, d2);
                     case Types.COMPLEX: {
                         final ComplexData cd2 = DataConv.toComplexData(d2);
-                        return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                        return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                     }
                     case Types.BINARY:
                     case Types.STRING: {
@@ -86,7 +86,7 @@ public final class XCalcAdd {
                             return d2;
                         } else {
                             final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                            final double ld1 = d1.toDouble();
+                            final double ld1 = d1.doubleValue();
                             final double[] arr = vd.getDoubles();
                             for (int i = 0, len = arr.length; i < len; ++i) {
                                 arr[i] = ld1 + arr[i];
@@ -114,7 +114,7 @@ public final class XCalcAdd {
                         return addDoubles(d1, d2);
                     case Types.COMPLEX: {
                         final ComplexData cd2 = DataConv.toComplexData(d2);
-                        return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                        return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                     }
                     case Types.BINARY:
                     case Types.STRING: {
@@ -128,7 +128,7 @@ public final class XCalcAdd {
                             return addDoubles(d1, d2);
                         } else {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         }
                     }
                     case Types.INSTANT:
@@ -150,7 +150,7 @@ public final class XCalcAdd {
                             return d2;
                         } else {
                             final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                            final double ld1 = d1.toDouble();
+                            final double ld1 = d1.doubleValue();
                             final double[] arr = vd.getDoubles();
                             for (int i = 0, len = arr.length; i < len; ++i) {
                                 arr[i] = ld1 + arr[i];
@@ -178,7 +178,7 @@ public final class XCalcAdd {
                         return addDecimals(d1, d2);
                     case Types.COMPLEX: {
                         final ComplexData cd2 = DataConv.toComplexData(d2);
-                        return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                        return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                     }
                     case Types.BINARY:
                     case Types.STRING: {
@@ -189,7 +189,7 @@ public final class XCalcAdd {
                             return DecimalData.nonNullValueOf(d1.toDecimal().add(d2.toDecimal()));
                         } else {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         }
                     }
                     case Types.LIST: {
@@ -208,7 +208,7 @@ public final class XCalcAdd {
                             return d2;
                         } else {
                             final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                            final double ld1 = d1.toDouble();
+                            final double ld1 = d1.doubleValue();
                             final double[] arr = vd.getDoubles();
                             for (int i = 0, len = arr.length; i < len; ++i) {
                                 arr[i] = ld1 + arr[i];
@@ -235,7 +235,7 @@ public final class XCalcAdd {
                     case Types.INSTANT:
                     case Types.DECIMAL: {
                         final ComplexData cd1 = DataConv.toComplexData(d1);
-                        return ComplexData.nonNullValueOf(cd1.getReal() + d2.toDouble(), cd1.getImaginary());
+                        return ComplexData.nonNullValueOf(cd1.getReal() + d2.doubleValue(), cd1.getImaginary());
                     }
                     case Types.COMPLEX: {
                         final ComplexData cd1 = DataConv.toComplexData(d1);
@@ -249,7 +249,7 @@ public final class XCalcAdd {
                             throw new UnsupportedDataOperationException ("DATA_ADD: " + XCalcException.getNonNumericException(d2)); 
                         } else if (XNumberUtils.isNumber(s2)) {
                             final ComplexData cd1 = DataConv.toComplexData(d1);
-                            return ComplexData.nonNullValueOf(cd1.getReal() + d2.toDouble(), cd1.getImaginary());
+                            return ComplexData.nonNullValueOf(cd1.getReal() + d2.doubleValue(), cd1.getImaginary());
                         } else {
                             final ComplexData cd1 = DataConv.toComplexData(d1);
                             final ComplexData cd2 = DataConv.toComplexData(d2);
@@ -298,7 +298,7 @@ public final class XCalcAdd {
                                 return XNumberUtils.isDigits(s1) ? addLongs(d1, d2) : addDoubles(d1, d2);
                             } else {
                                 final ComplexData cd1 = new ComplexData(d1.toString());
-                                return ComplexData.nonNullValueOf(cd1.getDouble() + d2.toDouble(), cd1.getImaginary());
+                                return ComplexData.nonNullValueOf(cd1.getDouble() + d2.doubleValue(), cd1.getImaginary());
                             }
                         }
                         case Types.FLOAT:
@@ -309,7 +309,7 @@ public final class XCalcAdd {
                                 return addDoubles(d1, d2);
                             } else {
                                 final ComplexData cd1 = new ComplexData(d1.toString());
-                                return ComplexData.nonNullValueOf(cd1.getDouble() + d2.toDouble(), cd1.getImaginary());
+                                return ComplexData.nonNullValueOf(cd1.getDouble() + d2.doubleValue(), cd1.getImaginary());
                             }
                         }
                         case Types.INSTANT:
@@ -319,7 +319,7 @@ public final class XCalcAdd {
                                 return addDecimals(d1, d2);
                             }
                             final ComplexData cd1 = new ComplexData(d1.toString());
-                            return ComplexData.nonNullValueOf(cd1.getDouble() + d2.toDouble(), cd1.getImaginary());
+                            return ComplexData.nonNullValueOf(cd1.getDouble() + d2.doubleValue(), cd1.getImaginary());
                         }
                         case Types.COMPLEX: {
                             final ComplexData cd1 = DataConv.toComplexData(d1), cd2 = DataConv.toComplexData(d2);
@@ -355,7 +355,7 @@ public final class XCalcAdd {
                             if (d1.isNumber()) {
                                 final TypeData d1n = d1.isDigits() && d2.isDigits() ? addLongs(d1, d2) : addDoubles(d1, d2);
                                 final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                                final double ld1 = d1n.toDouble();
+                                final double ld1 = d1n.doubleValue();
                                 final double[] arr = vd.getDoubles();
                                 for (int i = 0, len = arr.length; i < len; ++i) {
                                     arr[i] = ld1 + arr[i];
@@ -384,7 +384,7 @@ public final class XCalcAdd {
                     case Types.COMPLEX:
                         if (numeric) {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         } else {
                             return DateData.valueOf(d1.toDecimal().add(d2.toDecimal()).longValue());
                         }
@@ -398,7 +398,7 @@ public final class XCalcAdd {
                                 return XNumberUtils.isDigits(s2) ? addLongs(d1, d2) : addDoubles(d1, d2);
                             } else {
                                 final ComplexData cd2 = DataConv.toComplexData(d2);
-                                return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                                return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                             }
                         } else {
                             return DateData.valueOf(d1.toDecimal().add(d2.toDecimal()).longValue());
@@ -416,7 +416,7 @@ public final class XCalcAdd {
                     case Types.CALENDAR_TIMESTAMP:
                         return numeric ? addLongs(d1, d2) : new CalendarTimestampData(d1.toDecimal().add(d2.toDecimal()).longValue());
                     case Types.INSTANT:
-                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.toLong()));
+                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.longValue()));
                     default:
                         throw new UnsupportedDataOperationException ("DATA_ADD: " + XCalcException.getNonNumericException(d2));
                 }
@@ -435,7 +435,7 @@ public final class XCalcAdd {
                     case Types.COMPLEX:
                         if (numeric) {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         } else {
                             return new TimeData(d1.toDecimal().add(d2.toDecimal()).longValue());
                         }
@@ -449,7 +449,7 @@ public final class XCalcAdd {
                                 return addDecimals(d1, d2);
                             }
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         } else {
                             return new TimeData(d1.toDecimal().add(d2.toDecimal()).longValue());
                         }
@@ -462,7 +462,7 @@ public final class XCalcAdd {
                     case Types.CALENDAR_TIMESTAMP:
                         return numeric ? addLongs(d1, d2) : DataConv.toTimestampData(addLongs(d1, d2));
                     case Types.INSTANT:
-                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.toLong()));
+                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.longValue()));
                     default:
                         throw new UnsupportedDataOperationException ("DATA_ADD: " + XCalcException.getNonNumericException(d2));
                 }
@@ -484,7 +484,7 @@ public final class XCalcAdd {
                     case Types.COMPLEX:
                         if (numeric) {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         } else {
                             return TimestampData.valueOf(d1.toDecimal().add(d2.toDecimal()).longValue());
                         }
@@ -498,7 +498,7 @@ public final class XCalcAdd {
                                 return XNumberUtils.isDigits(s2) ? addLongs(d1, d2) : addDoubles(d1, d2);
                             } else {
                                 final ComplexData cd2 = DataConv.toComplexData(d2);
-                                return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                                return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                             }
                         } else {
                             return TimestampData.valueOf(d1.toDecimal().add(d2.toDecimal()).longValue());
@@ -507,7 +507,7 @@ public final class XCalcAdd {
                     case Types.DECIMAL: 
                         return numeric ? addDecimals(d1, d2) : TimestampData.valueOf(d1.toDecimal().add(d2.toDecimal()).longValue());
                     case Types.INSTANT:
-                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.toLong()));
+                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.longValue()));
                     default:
                         throw new UnsupportedDataOperationException ("DATA_ADD: " + XCalcException.getNonNumericException(d2));
                 }
@@ -526,7 +526,7 @@ public final class XCalcAdd {
                     case Types.COMPLEX:
                         if (numeric) {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         } else {
                             return new CalendarTimeData(d1.toDecimal().add(d2.toDecimal()).longValue());
                         }
@@ -540,7 +540,7 @@ public final class XCalcAdd {
                                 return XNumberUtils.isDigits(s2) ? addLongs(d1, d2) : addDoubles(d1, d2);
                             } else {
                                 final ComplexData cd2 = DataConv.toComplexData(d2);
-                                return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                                return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                             }
                         } else {
                             return new CalendarTimeData(d1.toDecimal().add(d2.toDecimal()).longValue());
@@ -549,12 +549,12 @@ public final class XCalcAdd {
                     case Types.DECIMAL: 
                         return numeric ? addDecimals(d1, d2) : new CalendarTimeData(d1.toDecimal().add(d2.toDecimal()).longValue());
                     case Types.DATE:
-                        return numeric ? LongData.nonNullValueOf(d1.toLong() + d2.toLong())  : d1;
+                        return numeric ? LongData.nonNullValueOf(d1.longValue() + d2.longValue())  : d1;
                     case Types.TIMESTAMP:
                     case Types.CALENDAR_TIMESTAMP:
                         return numeric ? addLongs(d1, d2) : DataConv.toCalendarTimestampData(addLongs(d1, d2));
                     case Types.INSTANT:
-                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.toLong()));
+                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.longValue()));
                     default:
                         throw new UnsupportedDataOperationException ("DATA_ADD: " + XCalcException.getNonNumericException(d2));
                 }
@@ -576,7 +576,7 @@ public final class XCalcAdd {
                     case Types.COMPLEX:
                         if (numeric) {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         } else {
                             return new CalendarTimestampData(d1.toDecimal().add(d2.toDecimal()).longValue());
                         }
@@ -589,13 +589,13 @@ public final class XCalcAdd {
                             return XNumberUtils.isDigits(s2) ? addLongs(d1, d2) : addDoubles(d1, d2);
                         } else {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() + cd2.getReal(), cd2.getImaginary());
+                            return ComplexData.nonNullValueOf(d1.doubleValue() + cd2.getReal(), cd2.getImaginary());
                         }
                     }
                     case Types.DECIMAL: 
                         return numeric ? addDecimals(d1, d2) : new CalendarTimestampData(d1.toDecimal().add(d2.toDecimal()).longValue());
                     case Types.INSTANT:
-                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.toLong()));
+                        return numeric ? addDecimals(d1, d2) : new InstantData(d2.toInstant().plusMillis(d1.longValue()));
                     default:
                         throw new UnsupportedDataOperationException ("DATA_ADD: " + XCalcException.getNonNumericException(d2));
                 }
@@ -606,7 +606,7 @@ public final class XCalcAdd {
                 switch (d2.getType()) {
                     case Types.INT:
                     case Types.BOOLEAN:
-                        return new InstantData(d1.toInstant().plusNanos(d2.toLong()));
+                        return new InstantData(d1.toInstant().plusNanos(d2.longValue()));
                     case Types.BINARY:
                     case Types.STRING: if (!d2.isNumber()) {  throw new UnsupportedDataOperationException ("DATA_ADD: " + XCalcException.getNonNumericException(d2)); }
                     case Types.FLOAT:
@@ -620,7 +620,7 @@ public final class XCalcAdd {
                     case Types.TIMESTAMP:
                     case Types.CALENDAR_TIME:
                     case Types.CALENDAR_TIMESTAMP:
-                        return new InstantData(d1.toInstant().plusMillis(d2.toLong()));
+                        return new InstantData(d1.toInstant().plusMillis(d2.longValue()));
                     case Types.INSTANT:
                         return new InstantData(d1.toInstant().plusSeconds(d2.toInstant().getEpochSecond()).plusNanos(d2.toInstant().getNano()));
                     default:
@@ -713,7 +713,10 @@ public final class XCalcAdd {
     }
     
     private static TypeData addLongs(final TypeData d1, final TypeData d2) throws EngineException {
-        final long val1 = d1.toLong(), val2 = d2.toLong();
+        return addLongs(d1.longValue(), d2.longValue());
+    }
+    
+    static TypeData addLongs(final long val1, final long val2) {
         final long result = val1 + val2;
         if ((result >= 0l) != (val1 >= 0l) && (result >= 0l) != (val2 >=0l)) {
             //overflow
@@ -724,7 +727,10 @@ public final class XCalcAdd {
     }
     
     private static TypeData addDoubles(final TypeData d1, final TypeData d2) throws EngineException {
-        final double val1 = d1.toDouble(), val2 = d2.toDouble();
+        return addDoubles(d1, d2, d1.doubleValue(), d2.doubleValue());
+    }
+    
+    static TypeData addDoubles(final TypeData d1, final TypeData d2, final double val1, final double val2) throws EngineException {
         final double result = val1 + val2;
         if ((result >= 0d) != (val1 >= 0d) && (result >= 0d) != (val2 >=0d)) {
             //overflow
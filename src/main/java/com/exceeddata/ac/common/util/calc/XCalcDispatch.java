@@ -0,0 +1,211 @@
+package com.exceeddata.ac.common.util.calc;
+
+import java.util.Arrays;
+
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.FloatData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.NumericData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineException;
+import com.exceeddata.ac.common.exception.data.UnsupportedDataOperationException;
+
+/**
+ * A precomputed <code>[type][type]</code> dispatch table of a binary calculation. The int, long, float, double
+ * and numeric pairs are specialized to primitive implementations, every other pair and null operands go
+ * through the general calculation such as <code>XCalcAdd.add</code>, so results are the same either way.
+ *
+ * <p>Tables are built once per operation and flags, and are shared and thread safe.</p>
+ *
+ */
+public final class XCalcDispatch {
+    private static final int TYPES = 128;
+
+    private static final byte[] DOUBLE_TYPES = {Types.INT, Types.LONG, Types.FLOAT, Types.DOUBLE, Types.NUMERIC};
+
+    private static final XCalcDispatch[] ADD = {
+            buildAdd(false, false), buildAdd(false, true), buildAdd(true, false), buildAdd(true, true)};
+    private static final XCalcDispatch[] SUBTRACT = {buildSubtract(false), buildSubtract(true)};
+    private static final XCalcDispatch[] MULTIPLY = {buildMultiply(false), buildMultiply(true)};
+    private static final XCalcDispatch[] DIVIDE = {buildDivide(false), buildDivide(true)};
+    private static final XCalcDispatch[] POWER = {buildPower(false), buildPower(true)};
+
+    private final BinaryOp general;
+    private final BinaryOp[][] ops;
+
+    private XCalcDispatch(final BinaryOp general) {
+        this.general = general;
+        this.ops = new BinaryOp[TYPES][TYPES];
+        for (final BinaryOp[] row : ops) {
+            Arrays.fill(row, general);
+        }
+    }
+
+    public static XCalcDispatch add(final boolean numeric, final boolean nullAsZero) {
+        return ADD[(numeric ? 2 : 0) + (nullAsZero ? 1 : 0)];
+    }
+
+    public static XCalcDispatch subtract(final boolean nullAsZero) {
+        return SUBTRACT[nullAsZero ? 1 : 0];
+    }
+
+    public static XCalcDispatch multiply(final boolean nullAsZero) {
+        return MULTIPLY[nullAsZero ? 1 : 0];
+    }
+
+    public static XCalcDispatch divide(final boolean nullAsZero) {
+        return DIVIDE[nullAsZero ? 1 : 0];
+    }
+
+    public static XCalcDispatch power(final boolean nullAsZero) {
+        return POWER[nullAsZero ? 1 : 0];
+    }
+
+    /**
+     * Get the operation of non-null operands of the types.
+     *
+     * @param type1 the type of the first operand
+     * @param type2 the type of the second operand
+     * @return BinaryOp
+     */
+    public BinaryOp get(final byte type1, final byte type2) {
+        return ops[type1][type2];
+    }
+
+    /**
+     * Apply the calculation to two datas.
+     *
+     * @param d1 the first operand
+     * @param d2 the second operand
+     * @return TypeData
+     * @throws EngineException if the calculation is not supported
+     */
+    public TypeData apply(final TypeData d1, final TypeData d2) throws EngineException {
+        if (d1.isNull() || d2.isNull()) {
+            return general.apply(d1, d2);
+        }
+        return ops[d1.getType()][d2.getType()].apply(d1, d2);
+    }
+
+    /**
+     * Apply the calculation row by row, <code>out[i] = a[i] op b[i]</code>. The operation is looked up
+     * only when the type pair changes from the previous row.
+     *
+     * @param a the first operands
+     * @param b the second operands
+     * @param out the results
+     * @throws EngineException if the calculation is not supported
+     */
+    public void apply(final TypeData[] a, final TypeData[] b, final TypeData[] out) throws EngineException {
+        final int len = out.length;
+        if (a.length < len || b.length < len) {
+            throw new UnsupportedDataOperationException ("DATA_CALC_LENGTH_MISMATCH: " + a.length + ", " + b.length + ", " + len);
+        }
+
+        byte t1 = -1, t2 = -1;
+        BinaryOp op = general;
+        for (int i = 0; i < len; ++i) {
+            final TypeData d1 = a[i], d2 = b[i];
+            if (d1.isNull() || d2.isNull()) {
+                out[i] = general.apply(d1, d2);
+                continue;
+            }
+            if (d1.getType() != t1 || d2.getType() != t2) {
+                t1 = d1.getType();
+                t2 = d2.getType();
+                op = ops[t1][t2];
+            }
+            out[i] = op.apply(d1, d2);
+        }
+    }
+
+    private static XCalcDispatch buildAdd(final boolean numeric, final boolean nullAsZero) {
+        final XCalcDispatch table = new XCalcDispatch((d1, d2) -> XCalcAdd.add(d1, d2, numeric, nullAsZero));
+        table.doubles((d1, d2, v1, v2) -> XCalcAdd.addDoubles(d1, d2, v1, v2));
+        table.longs(XCalcAdd::addLongs);
+        return table;
+    }
+
+    private static XCalcDispatch buildSubtract(final boolean nullAsZero) {
+        final XCalcDispatch table = new XCalcDispatch((d1, d2) -> XCalcSubtract.subtract(d1, d2, nullAsZero));
+        table.doubles((d1, d2, v1, v2) -> XCalcSubtract.subtractDoubles(d1, d2, v1, v2));
+        table.longs(XCalcSubtract::subtractLongs);
+        return table;
+    }
+
+    private static XCalcDispatch buildMultiply(final boolean nullAsZero) {
+        final XCalcDispatch table = new XCalcDispatch((d1, d2) -> XCalcMultiply.multiply(d1, d2, nullAsZero));
+        table.doubles((d1, d2, v1, v2) -> XCalcMultiply.multiplyDoubles(d1, d2, v1, v2));
+        table.longs(XCalcMultiply::multiplyLongs);
+        return table;
+    }
+
+    private static XCalcDispatch buildDivide(final boolean nullAsZero) {
+        //only whole pairs are specialized, the other pairs divide with decimals
+        final XCalcDispatch table = new XCalcDispatch((d1, d2) -> XCalcDivide.divide(d1, d2, nullAsZero));
+        table.longs(XCalcDivide::divideLongs);
+        return table;
+    }
+
+    private static XCalcDispatch buildPower(final boolean nullAsZero) {
+        final XCalcDispatch table = new XCalcDispatch((d1, d2) -> XCalcPower.power(d1, d2, nullAsZero));
+        table.doubles((d1, d2, v1, v2) -> XCalcPower.powerDoubles(v1, v2));
+        table.longs(XCalcPower::powerLongs);
+        return table;
+    }
+
+    /**
+     * Set the operation of all int, long, float, double and numeric pairs.
+     *
+     * @param op the operation on double values
+     */
+    private void doubles(final DoubleOp op) {
+        for (final byte type1 : DOUBLE_TYPES) {
+            final DoubleGetter g1 = doubleGetter(type1);
+            for (final byte type2 : DOUBLE_TYPES) {
+                final DoubleGetter g2 = doubleGetter(type2);
+                ops[type1][type2] = (d1, d2) -> op.apply(d1, d2, g1.get(d1), g2.get(d2));
+            }
+        }
+    }
+
+    /**
+     * Set the operation of the int and long pairs.
+     *
+     * @param op the operation on long values
+     */
+    private void longs(final LongOp op) {
+        ops[Types.INT][Types.INT] = (d1, d2) -> op.apply(((IntData) d1).longValue(), ((IntData) d2).longValue());
+        ops[Types.INT][Types.LONG] = (d1, d2) -> op.apply(((IntData) d1).longValue(), ((LongData) d2).longValue());
+        ops[Types.LONG][Types.INT] = (d1, d2) -> op.apply(((LongData) d1).longValue(), ((IntData) d2).longValue());
+        ops[Types.LONG][Types.LONG] = (d1, d2) -> op.apply(((LongData) d1).longValue(), ((LongData) d2).longValue());
+    }
+
+    private static DoubleGetter doubleGetter(final byte type) {
+        switch (type) {
+            case Types.INT: return d -> ((IntData) d).doubleValue();
+            case Types.LONG: return d -> ((LongData) d).doubleValue();
+            case Types.FLOAT: return d -> ((FloatData) d).doubleValue();
+            case Types.DOUBLE: return d -> ((DoubleData) d).doubleValue();
+            case Types.NUMERIC: return d -> ((NumericData) d).doubleValue();
+            default: throw new IllegalArgumentException("type " + type);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DoubleGetter {
+        double get(TypeData d);
+    }
+
+    @FunctionalInterface
+    private interface DoubleOp {
+        TypeData apply(TypeData d1, TypeData d2, double v1, double v2) throws EngineException;
+    }
+
+    @FunctionalInterface
+    private interface LongOp {
+        TypeData apply(long v1, long v2) throws EngineException;
+    }
+}
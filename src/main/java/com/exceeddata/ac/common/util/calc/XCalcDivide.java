@@ -43,9 +43,9 @@ public final class XCalcDivide {
                 switch (d2.getType()) {
                     case Types.BOOLEAN: return DataConv.toLongData(d1); //only can be one for boolean at this point
                     case Types.INT: 
-                        return d2.toInt() == 1 ? DataConv.toLongData(d1) : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
+                        return d2.intValue() == 1 ? DataConv.toLongData(d1) : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
                     case Types.LONG:
-                        return d2.toLong() == 1l ? DataConv.toLongData(d1) : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
+                        return d2.longValue() == 1l ? DataConv.toLongData(d1) : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
                     case Types.DATE:
                     case Types.TIME:
                     case Types.TIMESTAMP:
@@ -77,7 +77,7 @@ public final class XCalcDivide {
                         final char c = s2.charAt(s2.length() - 1);
                         if (c != 'i' && c != 'I') {
                             if (XNumberUtils.isDigits(s2)) {
-                                final long l = d2.toLong();
+                                final long l = d2.longValue();
                                 return l == 1l ? DataConv.toLongData(d1) : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
                             } else {
                                 return DoubleData.nonNullValueOf(divideDecimals(d1, d2).doubleValue());
@@ -104,7 +104,7 @@ public final class XCalcDivide {
                     case Types.DENSEVECTOR:
                     case Types.SPARSEVECTOR: {
                         final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
                             arr[i] = Double.compare(arr[i], 0d) == 0 ? 0d : ld1 / arr[i];
@@ -119,9 +119,9 @@ public final class XCalcDivide {
                 switch (d2.getType()) {
                     case Types.BOOLEAN: return d1; //only can be one for boolean at this point
                     case Types.INT: 
-                        return d2.toInt() == 1 ? d1 : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
+                        return d2.intValue() == 1 ? d1 : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
                     case Types.LONG:
-                        return d2.toLong() == 1l ? d1 : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
+                        return d2.longValue() == 1l ? d1 : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
                     case Types.FLOAT:
                     case Types.DOUBLE:
                     case Types.NUMERIC:
@@ -149,7 +149,7 @@ public final class XCalcDivide {
                             throw new UnsupportedDataOperationException ("DATA_DIVIDE: " + XCalcException.getNonNumericException(d2)); 
                         } else if (XNumberUtils.isNumber(s2)) {
                             if (XNumberUtils.isDigits(s2)) {
-                                final long l = d2.toLong();
+                                final long l = d2.longValue();
                                 return l == 1l ? d1 : DoubleData.nonNullValueOf(divideDecimalToWhole(d1, d2).doubleValue());
                             } else {
                                 return DoubleData.nonNullValueOf(divideDecimals(d1, d2).doubleValue());
@@ -176,7 +176,7 @@ public final class XCalcDivide {
                     case Types.DENSEVECTOR:
                     case Types.SPARSEVECTOR: {
                         final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
                             arr[i] = Double.compare(arr[i], 0d) == 0 ? 0d : ld1 / arr[i];
@@ -190,9 +190,9 @@ public final class XCalcDivide {
                 switch (d2.getType()) {
                     case Types.BOOLEAN: return d1; //only can be one for boolean at this point
                     case Types.INT: 
-                        return d2.toInt() == 1 ? d1 : DecimalData.nonNullValueOf(divideDecimalToWhole(d1, d2));
+                        return d2.intValue() == 1 ? d1 : DecimalData.nonNullValueOf(divideDecimalToWhole(d1, d2));
                     case Types.LONG:
-                        return d2.toLong() == 1l ? d1 : DecimalData.nonNullValueOf(divideDecimalToWhole(d1, d2));
+                        return d2.longValue() == 1l ? d1 : DecimalData.nonNullValueOf(divideDecimalToWhole(d1, d2));
                     case Types.FLOAT:
                     case Types.DOUBLE:
                     case Types.NUMERIC:
@@ -242,7 +242,7 @@ public final class XCalcDivide {
                     case Types.DENSEVECTOR:
                     case Types.SPARSEVECTOR: {
                         final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
                             arr[i] = Double.compare(arr[i], 0d) == 0 ? 0d : ld1 / arr[i];
@@ -267,7 +267,7 @@ public final class XCalcDivide {
                     case Types.INSTANT:
                     case Types.DECIMAL: {
                         final ComplexData cd1 = DataConv.toComplexData(d1);
-                        final double val2 = d2.toDouble();
+                        final double val2 = d2.doubleValue();
                         return ComplexData.nonNullValueOf(cd1.getReal() / val2, cd1.getImaginary() / val2);
                     }
                     case Types.COMPLEX: {
@@ -285,7 +285,7 @@ public final class XCalcDivide {
                             throw new UnsupportedDataOperationException ("DATA_DIVIDE: " + XCalcException.getNonNumericException(d2)); 
                         } else if (XNumberUtils.isNumber(s2)) {
                             final ComplexData cd1 = DataConv.toComplexData(d1);
-                            final double val2 = d2.toDouble();
+                            final double val2 = d2.doubleValue();
                             return ComplexData.nonNullValueOf(cd1.getReal() / val2, cd1.getImaginary() / val2);
                         } else {
                             final ComplexData cd1 = DataConv.toComplexData(d1), cd2 = DataConv.toComplexData(d2);
@@ -379,7 +379,7 @@ public final class XCalcDivide {
                     case Types.CALENDAR_TIME:
                     case Types.CALENDAR_TIMESTAMP: {
                         final DenseVectorData vd = DataConv.toDenseVectorData(d1);
-                        final double ld2 = d2.toDouble();
+                        final double ld2 = d2.doubleValue();
                         if (Double.compare(ld2, 0d) == 0) {
                             return new DenseVectorData(new double[vd.size()]);
                         }
@@ -396,7 +396,7 @@ public final class XCalcDivide {
                             return d1;
                         }
                         final DenseVectorData vd = DataConv.toDenseVectorData(d1);
-                        final double ld2 = d2n.toDouble();
+                        final double ld2 = d2n.doubleValue();
                         if (Double.compare(ld2, 0d) == 0) {
                             return new DenseVectorData(new double[vd.size()]);
                         }
@@ -416,7 +416,7 @@ public final class XCalcDivide {
                                 return d1;
                             }
                             final DenseVectorData vd = DataConv.toDenseVectorData(d1);
-                            final double ld2 = d2n.toDouble();
+                            final double ld2 = d2n.doubleValue();
                             if (Double.compare(ld2, 0d) == 0) {
                                 return new DenseVectorData(new double[vd.size()]);
                             }
@@ -466,7 +466,7 @@ public final class XCalcDivide {
                         } else {
                             final SparseVectorData sd = DataConv.toSparseVectorData(d1);
                             final double[] nonzeros = sd.getNonzeros();
-                            final double d2d = d2n.toDouble();
+                            final double d2d = d2n.doubleValue();
                             final int len = nonzeros.length;
                             for (int i = 0; i < len; ++i) {
                                 try {
@@ -490,7 +490,7 @@ public final class XCalcDivide {
                             } else {
                                 final SparseVectorData sd = DataConv.toSparseVectorData(d1);
                                 final double[] nonzeros = sd.getNonzeros();
-                                final double d2d = d2n.toDouble();
+                                final double d2d = d2n.doubleValue();
                                 final int len = nonzeros.length;
                                 for (int i = 0; i < len; ++i) {
                                     try {
@@ -533,7 +533,7 @@ public final class XCalcDivide {
             case Types.BOOLEAN:
                 switch (d2.getType()) {
                 case Types.INT: 
-                    return IntData.nonNullValueOf(d1.toInt() % d2.toInt());
+                    return IntData.nonNullValueOf(d1.intValue() % d2.intValue());
                 case Types.LONG:
                 case Types.DATE: 
                 case Types.TIME: 
@@ -541,7 +541,7 @@ public final class XCalcDivide {
                 case Types.CALENDAR_TIME: 
                 case Types.CALENDAR_TIMESTAMP: 
                 case Types.INSTANT: 
-                    return LongData.nonNullValueOf(d1.toLong() % d2.toLong());
+                    return LongData.nonNullValueOf(d1.longValue() % d2.longValue());
                 case Types.FLOAT:
                 case Types.DOUBLE:
                 case Types.NUMERIC:
@@ -554,7 +554,7 @@ public final class XCalcDivide {
                 case Types.BINARY:
                 case Types.STRING:
                     return (d2.isDigits()) 
-                            ? LongData.nonNullValueOf(d1.toLong() % d2.toLong())
+                            ? LongData.nonNullValueOf(d1.longValue() % d2.longValue())
                             : DecimalData.nonNullValueOf(d1.toDecimal().remainder(d2.toDecimal(), MathContext.DECIMAL128));
                 default:
                     throw new UnsupportedDataOperationException ("DATA_REMAINDER: " + XCalcException.getNonNumericException(d2));
@@ -575,7 +575,7 @@ public final class XCalcDivide {
                     case Types.CALENDAR_TIME: 
                     case Types.CALENDAR_TIMESTAMP: 
                     case Types.INSTANT: 
-                        return LongData.nonNullValueOf(d1.toLong() % d2.toLong());
+                        return LongData.nonNullValueOf(d1.longValue() % d2.longValue());
                     case Types.FLOAT:
                     case Types.DOUBLE:
                     case Types.NUMERIC:
@@ -588,7 +588,7 @@ public final class XCalcDivide {
                     case Types.BINARY:
                     case Types.STRING:
                         return (d2.isDigits()) 
-                                ? LongData.nonNullValueOf(d1.toLong() % d2.toLong())
+                                ? LongData.nonNullValueOf(d1.longValue() % d2.longValue())
                                 : DecimalData.nonNullValueOf(d1.toDecimal().remainder(d2.toDecimal(), MathContext.DECIMAL128));
                     default:
                         throw new UnsupportedDataOperationException ("DATA_REMAINDER: " + XCalcException.getNonNumericException(d2));
@@ -643,7 +643,7 @@ public final class XCalcDivide {
                 }
             case Types.STRING:
                 return (d1.isDigits() && d2.isDigits())
-                        ? LongData.nonNullValueOf(d1.toLong() % d2.toLong())
+                        ? LongData.nonNullValueOf(d1.longValue() % d2.longValue())
                         : DecimalData.nonNullValueOf(d1.toDecimal().remainder(d2.toDecimal(), MathContext.DECIMAL128)); 
             case Types.LIST:
                 switch (d2.getType()) {
@@ -733,6 +733,18 @@ public final class XCalcDivide {
         }
     }
     
+    static TypeData divideLongs(final long val1, final long val2) {
+        if (val2 == 0l) {
+            return DecimalData.NULL;
+        } else if (val2 == 1l) {
+            return LongData.nonNullValueOf(val1);
+        } else if (val2 != -1l && val1 % val2 == 0l) {
+            //exact quotient, same as the decimal division
+            return DoubleData.nonNullValueOf((double) (val1 / val2));
+        }
+        return DoubleData.nonNullValueOf(BigDecimal.valueOf(val1).divide(BigDecimal.valueOf(val2), MathContext.DECIMAL128.getPrecision(), RoundingMode.HALF_UP).doubleValue());
+    }
+    
     private static BigDecimal divideDecimalToWhole(final TypeData d1, final TypeData d2) throws EngineException {
        return d1.toDecimal().divide(d2.toDecimal(), MathContext.DECIMAL128.getPrecision(), RoundingMode.HALF_UP);
     }
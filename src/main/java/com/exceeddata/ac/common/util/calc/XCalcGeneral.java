@@ -37,14 +37,14 @@ public final class XCalcGeneral {
             case Types.NUMERIC: return ((NumericData) d).abs();
             case Types.DECIMAL: return ((DecimalData) d).abs();
             case Types.COMPLEX: return ((ComplexData) d).abs();
-            case Types.BOOLEAN: return d.toBoolean() ? BooleanData.TRUE : BooleanData.FALSE;
+            case Types.BOOLEAN: return d.booleanValue() ? BooleanData.TRUE : BooleanData.FALSE;
             case Types.DATE:
             case Types.TIME:
             case Types.TIMESTAMP:
             case Types.CALENDAR_TIME:
             case Types.CALENDAR_TIMESTAMP:
             case Types.INSTANT:
-                return LongData.nonNullValueOf(Math.abs(d.toLong()));
+                return LongData.nonNullValueOf(Math.abs(d.longValue()));
             case Types.LIST: {
                     final ListData ld = (ListData) d;
                     final int size = ld.size();
@@ -322,7 +322,7 @@ public final class XCalcGeneral {
             case Types.NUMERIC: return ((NumericData) d).negate();
             case Types.DECIMAL: return ((DecimalData) d).negate();
             case Types.COMPLEX: return ((ComplexData) d).negate();
-            case Types.BOOLEAN: return d.toBoolean() ? BooleanData.FALSE : BooleanData.TRUE;
+            case Types.BOOLEAN: return d.booleanValue() ? BooleanData.FALSE : BooleanData.TRUE;
             case Types.DATE:
             case Types.TIME:
             case Types.TIMESTAMP:
@@ -405,7 +405,7 @@ public final class XCalcGeneral {
             case Types.COMPLEX: return d.compareTo(DoubleData.ZERO) < 0;
             case Types.NUMERIC: return d.compareTo(NumericData.ZERO) < 0;
             case Types.DECIMAL: return d.toDecimal().signum() < 0;
-            case Types.BOOLEAN: return !d.toBoolean();
+            case Types.BOOLEAN: return !d.booleanValue();
             case Types.STRING: 
                 try {
                     return d.toDecimal().signum() < 0;
@@ -429,7 +429,7 @@ public final class XCalcGeneral {
             case Types.COMPLEX: return d.compareTo(DoubleData.ZERO) > 0;
             case Types.NUMERIC: return d.compareTo(NumericData.ZERO) > 0;
             case Types.DECIMAL: return d.toDecimal().signum() > 0;
-            case Types.BOOLEAN: return d.toBoolean();
+            case Types.BOOLEAN: return d.booleanValue();
             case Types.STRING: 
                 try {
                     return d.toDecimal().signum() > 0;
@@ -55,7 +55,7 @@ public final class XCalcMultiply {
                     case Types.DECIMAL:
                         return multiplyDecimals(d1, d2);
                     case Types.COMPLEX: {
-                        final double val1 = d1.toDouble();
+                        final double val1 = d1.doubleValue();
                         final ComplexData cd2 = (ComplexData) d2;
                         return ComplexData.nonNullValueOf(val1 * cd2.getReal(), val1 * cd2.getImaginary());
                     }
@@ -70,7 +70,7 @@ public final class XCalcMultiply {
                         if (c != 'i' && c != 'I') {
                             return XNumberUtils.isDigits(s2) ? multiplyLongs(d1, d2) : multiplyDoubles(d1, d2);
                         } else {
-                            final double val1 = d1.toDouble();
+                            final double val1 = d1.doubleValue();
                             final ComplexData cd2 = DataConv.toComplexData(d2);
                             return ComplexData.nonNullValueOf(val1 * cd2.getReal(), val1 * cd2.getImaginary());
                         }
@@ -94,7 +94,7 @@ public final class XCalcMultiply {
                             return d2;
                         } else {
                             final DenseVectorData vd = DataConv.toDenseVectorData(d2);
-                            final double ld1 = d1.toDouble();
+                            final double ld1 = d1.doubleValue();
                             if (Double.compare(0d, ld1) == 0) {
                                 return new DenseVectorData(new double[vd.size()]);
                             }
@@ -127,7 +127,7 @@ public final class XCalcMultiply {
                     case Types.DECIMAL:
                         return multiplyDecimals(d1, d2);
                     case Types.COMPLEX: {
-                        final double val1 = d1.toDouble();
+                        final double val1 = d1.doubleValue();
                         final ComplexData cd2 = (ComplexData) d2;
                         return ComplexData.nonNullValueOf(val1 * cd2.getReal(), val1 * cd2.getImaginary());
                     }
@@ -139,7 +139,7 @@ public final class XCalcMultiply {
                         } else if (XNumberUtils.isNumber(s2)) {
                             return multiplyDoubles(d1, d2);
                         } else {
-                            final double val1 = d1.toDouble();
+                            final double val1 = d1.doubleValue();
                             final ComplexData cd2 = DataConv.toComplexData(d2);
                             return ComplexData.nonNullValueOf(val1 * cd2.getReal(), val1 * cd2.getImaginary());
                         }
@@ -156,7 +156,7 @@ public final class XCalcMultiply {
                     }
                     case Types.DENSEVECTOR:{
                         final DenseVectorData vd = (DenseVectorData) d2;
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
                             arr[i] = ld1 * arr[i];
@@ -165,7 +165,7 @@ public final class XCalcMultiply {
                     }
                     case Types.SPARSEVECTOR: {
                         final SparseVectorData vd = (SparseVectorData) d2;
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final int[] indices = vd.getIndices();
                         final double[] nonzeros = vd.getNonzeros();
                         for (int i = 0, len = nonzeros.length; i < len; ++i) {
@@ -194,7 +194,7 @@ public final class XCalcMultiply {
                     case Types.DECIMAL:
                         return multiplyDecimals(d1, d2);
                     case Types.COMPLEX: {
-                        final double val1 = d1.toDouble();
+                        final double val1 = d1.doubleValue();
                         final ComplexData cd2 = (ComplexData) d2;
                         return ComplexData.nonNullValueOf(val1 * cd2.getReal(), val1 * cd2.getImaginary());
                     }
@@ -206,7 +206,7 @@ public final class XCalcMultiply {
                         } else if (XNumberUtils.isNumber(s2)) {
                             return multiplyDecimals(d1, d2);
                         } else {
-                            final double val1 = d1.toDouble();
+                            final double val1 = d1.doubleValue();
                             final ComplexData cd2 = DataConv.toComplexData(d2);
                             return ComplexData.nonNullValueOf(val1 * cd2.getReal(), val1 * cd2.getImaginary());
                         }
@@ -345,7 +345,7 @@ public final class XCalcMultiply {
                             return XNumberUtils.isDigits(s1) ? multiplyLongs(d1, d2) : multiplyDoubles(d1, d2);
                         } else {
                             final ComplexData cd1 = new ComplexData(d1.toString());
-                            final double val2 = d2.toDouble();
+                            final double val2 = d2.doubleValue();
                             return ComplexData.nonNullValueOf(cd1.getReal() * val2, cd1.getImaginary() * val2);
                         }
                     }
@@ -357,7 +357,7 @@ public final class XCalcMultiply {
                             return multiplyDoubles(d1, d2);
                         } else {
                             final ComplexData cd1 = new ComplexData(d1.toString());
-                            final double val2 = d2.toDouble();
+                            final double val2 = d2.doubleValue();
                             return ComplexData.nonNullValueOf(cd1.getReal() * val2, cd1.getImaginary() * val2);
                         }
                     }
@@ -368,7 +368,7 @@ public final class XCalcMultiply {
                             return multiplyDecimals(d1, d2);
                         } else {
                             final ComplexData cd1 = new ComplexData(d1.toString());
-                            final double val2 = d2.toDouble();
+                            final double val2 = d2.doubleValue();
                             return ComplexData.nonNullValueOf(cd1.getReal() * val2, cd1.getImaginary() * val2);
                         }
                     }
@@ -405,7 +405,7 @@ public final class XCalcMultiply {
                         return new ListData(result);
                     }
                     case Types.DENSEVECTOR: {
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         if (Double.compare(0d, ld1) == 0) {
                             return new SparseVectorData(d2.size(), new int[0], new double[0]);
                         } else if (Double.compare(1d, ld1) == 0) {
@@ -420,7 +420,7 @@ public final class XCalcMultiply {
                         }
                     }
                     case Types.SPARSEVECTOR: {
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         if (Double.compare(0d, ld1) == 0) {
                             return new SparseVectorData(d2.size(), new int[0], new double[0]);
                         } else if (Double.compare(1d, ld1) == 0) {
@@ -630,14 +630,17 @@ public final class XCalcMultiply {
     }
     
     private static TypeData multiplyLongs (final TypeData d1, final TypeData d2) throws EngineException {
-        final long val1 = d1.toLong(), val2 = d2.toLong();
+        return multiplyLongs(d1.longValue(), d2.longValue());
+    }
+    
+    static TypeData multiplyLongs (final long val1, final long val2) throws EngineException {
         final long result = val1 * val2;
         final boolean signtest = (val1 >= 0l) == (val2 >= 0l);
         if (signtest ? result < 0 : result > 0) {
             //overflow
             final BigDecimal result2 = BigDecimal.valueOf(val1).multiply(BigDecimal.valueOf(val2));
             if (signtest ? result2.signum() < 0 : result2.signum() > 0) {
-                throw new UnsupportedDataOperationException ("DATA_MULTIPLY_OVERFLOW: " + d1 + " x " + d2);
+                throw new UnsupportedDataOperationException ("DATA_MULTIPLY_OVERFLOW: " + val1 + " x " + val2);
             }
             return DecimalData.nonNullValueOf(result2);
         } else {
@@ -646,7 +649,10 @@ public final class XCalcMultiply {
     }
     
     private static TypeData multiplyDoubles (final TypeData d1, final TypeData d2) throws EngineException {
-        final double val1 = d1.toDouble(), val2 = d2.toDouble();
+        return multiplyDoubles(d1, d2, d1.doubleValue(), d2.doubleValue());
+    }
+    
+    static TypeData multiplyDoubles (final TypeData d1, final TypeData d2, final double val1, final double val2) throws EngineException {
         final double result = val1 * val2;
         final boolean signtest = (val1 >= 0l) == (val2 >= 0l);
         if (signtest ? result < 0 : result > 0) {
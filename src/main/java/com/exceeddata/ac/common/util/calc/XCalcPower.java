@@ -55,7 +55,7 @@ public final class XCalcPower {
                     case Types.INSTANT:
                         return DecimalData.nonNullValueOf(powerDecimals(d1, d2));
                     case Types.BOOLEAN:
-                        return d2.toBoolean() ? d1 : IntData.ONE;
+                        return d2.booleanValue() ? d1 : IntData.ONE;
                     case Types.BINARY:
                     case Types.STRING: {
                         final String s2 = d2.toString();
@@ -87,7 +87,7 @@ public final class XCalcPower {
                     case Types.INSTANT:
                         return DecimalData.nonNullValueOf(powerDecimals(d1, d2)); 
                     case Types.BOOLEAN:
-                        return d2.toBoolean() ? d1 : IntData.ONE;
+                        return d2.booleanValue() ? d1 : IntData.ONE;
                     case Types.BINARY:
                     case Types.STRING: 
                         if (XNumberUtils.isNumber(d2.toString())) {
@@ -114,7 +114,7 @@ public final class XCalcPower {
                     case Types.INSTANT:
                         return DecimalData.nonNullValueOf(powerDecimals(d1, d2)); 
                     case Types.BOOLEAN:
-                        return d2.toBoolean() ? d1 : IntData.ONE;
+                        return d2.booleanValue() ? d1 : IntData.ONE;
                     case Types.BINARY:
                     case Types.STRING: 
                         if (XNumberUtils.isNumber(d2.toString())) {
@@ -138,7 +138,7 @@ public final class XCalcPower {
                     case Types.TIMESTAMP:
                     case Types.CALENDAR_TIME:
                     case Types.CALENDAR_TIMESTAMP: {
-                        final long pd2 = d2.toLong();
+                        final long pd2 = d2.longValue();
                         if (pd2 < 0l) {
                             throw new UnsupportedDataOperationException ("DATA_POWER: " + XCalcException.getNonNumericException(d2));
                         } else if (pd2 == 0l) {
@@ -303,7 +303,7 @@ public final class XCalcPower {
                     return new DenseVectorData(arr);
                 }
             default:
-                return DoubleData.nonNullValueOf(Math.log(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.log(d.doubleValue()));
         }
     }
     
@@ -342,7 +342,7 @@ public final class XCalcPower {
                     return new DenseVectorData(arr);
                 }
             default:
-                return DoubleData.nonNullValueOf(Math.log10(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.log10(d.doubleValue()));
         }
     }
     
@@ -432,7 +432,7 @@ public final class XCalcPower {
                     }
                 }
             default:
-                return DoubleData.nonNullValueOf(Math.log(a.toDouble()) / Math.log(b.toDouble()));
+                return DoubleData.nonNullValueOf(Math.log(a.doubleValue()) / Math.log(b.doubleValue()));
         }
     }
     
@@ -464,7 +464,7 @@ public final class XCalcPower {
                     return new DenseVectorData(arr);
                 }
             case Types.BOOLEAN:
-                return d.toBoolean() ? DoubleData.ONE : DoubleData.ZERO;
+                return d.booleanValue() ? DoubleData.ONE : DoubleData.ZERO;
             case Types.INT: 
             case Types.LONG: 
             case Types.DATE: 
@@ -473,7 +473,7 @@ public final class XCalcPower {
             case Types.CALENDAR_TIME: 
             case Types.CALENDAR_TIMESTAMP:
             case Types.INSTANT: {
-                final long val = d.toLong();
+                final long val = d.longValue();
                 if (val > 0l) {
                     return DoubleData.nonNullValueOf(Math.sqrt(val));
                 } else if (val == 0l) {
@@ -497,7 +497,7 @@ public final class XCalcPower {
                 return DoubleData.NULL;
             }
             default: {
-                final double dbl = d.toDouble();
+                final double dbl = d.doubleValue();
                 if(Double.compare(dbl, 0.0d) < 0 ){
                     return DoubleData.NULL;
                 }
@@ -543,7 +543,7 @@ public final class XCalcPower {
                     return new DenseVectorData(arr);
                 }
             default:
-                return DoubleData.nonNullValueOf(Math.exp(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.exp(d.doubleValue()));
         }
     }
     
@@ -582,7 +582,7 @@ public final class XCalcPower {
                     return new DenseVectorData(arr);
                 }
             default:
-                return DoubleData.nonNullValueOf(Math.expm1(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.expm1(d.doubleValue()));
         }
     }
     private static BigDecimal BigDecimalPower(final BigDecimal v1, final BigDecimal v2, final MathContext mc) {
@@ -604,6 +604,14 @@ public final class XCalcPower {
         return (long) Math.pow(d1.toDouble().doubleValue(), d2.toDouble().doubleValue());
     }
     
+    static TypeData powerLongs(final long val1, final long val2) {
+        return LongData.nonNullValueOf((long) Math.pow(val1, val2));
+    }
+    
+    static TypeData powerDoubles(final double val1, final double val2) {
+        return DoubleData.nonNullValueOf(Math.pow(val1, val2));
+    }
+    
     private static double powerDoubles(final TypeData d1, final TypeData d2) throws EngineException {
         return Math.pow(d1.toDouble().doubleValue(), d2.toDouble().doubleValue());
     }
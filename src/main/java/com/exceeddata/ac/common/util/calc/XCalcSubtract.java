@@ -55,7 +55,7 @@ public final class XCalcSubtract {
                         return subtractDoubles(d1, d2);
                     case Types.COMPLEX: {
                         final ComplexData cd2 = (ComplexData) d2;
-                        return ComplexData.nonNullValueOf(d1.toDouble() - cd2.getReal(), cd2.getImaginary() * -1d);
+                        return ComplexData.nonNullValueOf(d1.doubleValue() - cd2.getReal(), cd2.getImaginary() * -1d);
                     }
                     case Types.BINARY:
                     case Types.STRING:  {
@@ -69,7 +69,7 @@ public final class XCalcSubtract {
                             return XNumberUtils.isDigits(s2) ? subtractLongs(d1, d2) : subtractDoubles(d1, d2);
                         } else {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() - cd2.getReal(), cd2.getImaginary() * -1d);
+                            return ComplexData.nonNullValueOf(d1.doubleValue() - cd2.getReal(), cd2.getImaginary() * -1d);
                         }
                     }
                     case Types.INSTANT:
@@ -87,7 +87,7 @@ public final class XCalcSubtract {
                     }
                     case Types.DENSEVECTOR:
                     case Types.SPARSEVECTOR: {
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final DenseVectorData vd = DataConv.toDenseVectorData(d2);
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
@@ -116,7 +116,7 @@ public final class XCalcSubtract {
                         return subtractDoubles(d1, d2);
                     case Types.COMPLEX: {
                         final ComplexData cd2 = (ComplexData) d2;
-                        return ComplexData.nonNullValueOf(d1.toDouble() - cd2.getReal(), cd2.getImaginary() * -1d);
+                        return ComplexData.nonNullValueOf(d1.doubleValue() - cd2.getReal(), cd2.getImaginary() * -1d);
                     }
                     case Types.BINARY:
                     case Types.STRING:  {
@@ -127,7 +127,7 @@ public final class XCalcSubtract {
                             return subtractDoubles(d1, d2);
                         } else {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() - cd2.getReal(), cd2.getImaginary() * -1d);
+                            return ComplexData.nonNullValueOf(d1.doubleValue() - cd2.getReal(), cd2.getImaginary() * -1d);
                         }
                     }
                     case Types.INSTANT:
@@ -145,7 +145,7 @@ public final class XCalcSubtract {
                     }
                     case Types.DENSEVECTOR:
                     case Types.SPARSEVECTOR: {
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final DenseVectorData vd = DataConv.toDenseVectorData(d2);
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
@@ -174,7 +174,7 @@ public final class XCalcSubtract {
                         return subtractDecimals(d1, d2);
                     case Types.COMPLEX: {
                         final ComplexData cd2 = (ComplexData) d2;
-                        return ComplexData.nonNullValueOf(d1.toDouble() - cd2.getReal(), cd2.getImaginary() * -1d);
+                        return ComplexData.nonNullValueOf(d1.doubleValue() - cd2.getReal(), cd2.getImaginary() * -1d);
                     }
                     case Types.BINARY:
                     case Types.STRING:  {
@@ -185,7 +185,7 @@ public final class XCalcSubtract {
                             return subtractDecimals(d1, d2);
                         } else {
                             final ComplexData cd2 = DataConv.toComplexData(d2);
-                            return ComplexData.nonNullValueOf(d1.toDouble() - cd2.getReal(), cd2.getImaginary() * -1d);
+                            return ComplexData.nonNullValueOf(d1.doubleValue() - cd2.getReal(), cd2.getImaginary() * -1d);
                         }
                     }
                     case Types.LIST: {
@@ -200,7 +200,7 @@ public final class XCalcSubtract {
                     }
                     case Types.DENSEVECTOR:
                     case Types.SPARSEVECTOR: {
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final DenseVectorData vd = DataConv.toDenseVectorData(d2);
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
@@ -228,7 +228,7 @@ public final class XCalcSubtract {
                     case Types.INSTANT: 
                     case Types.DECIMAL: {
                         final ComplexData cd1 = (ComplexData) d1;
-                        return ComplexData.nonNullValueOf(cd1.getReal() - d2.toDouble(), cd1.getImaginary());
+                        return ComplexData.nonNullValueOf(cd1.getReal() - d2.doubleValue(), cd1.getImaginary());
                     }
                     case Types.COMPLEX: {
                         final ComplexData cd1 = (ComplexData) d1, cd2 = (ComplexData) d2;
@@ -241,7 +241,7 @@ public final class XCalcSubtract {
                             throw new UnsupportedDataOperationException ("DATA_SUBTRACT: " + XCalcException.getNonNumericException(d2)); 
                         } else if (XNumberUtils.isNumber(s2)) {
                             final ComplexData cd1 = (ComplexData) d1;
-                            return ComplexData.nonNullValueOf(cd1.getReal() - d2.toDouble(), cd1.getImaginary());
+                            return ComplexData.nonNullValueOf(cd1.getReal() - d2.doubleValue(), cd1.getImaginary());
                         } else {
                             final ComplexData cd1 = (ComplexData) d1, cd2 = DataConv.toComplexData(d2);
                             return ComplexData.nonNullValueOf(cd1.getReal() - cd2.getReal(), cd1.getImaginary() - cd2.getImaginary());
@@ -258,7 +258,7 @@ public final class XCalcSubtract {
                     }
                     case Types.DENSEVECTOR:
                     case Types.SPARSEVECTOR: {
-                        final double ld1 = d1.toDouble();
+                        final double ld1 = d1.doubleValue();
                         final DenseVectorData vd = DataConv.toDenseVectorData(d2);
                         final double[] arr = vd.getDoubles();
                         for (int i = 0, len = arr.length; i < len; ++i) {
@@ -281,7 +281,7 @@ public final class XCalcSubtract {
                     case Types.NUMERIC: 
                     case Types.DECIMAL: 
                     case Types.COMPLEX: {
-                        final long val1 = d1.toLong(), val2 = d2.toLong();
+                        final long val1 = d1.longValue(), val2 = d2.longValue();
                         final long result = val1 - val2;
                         if ((val1 >= 0l) != (val2 >= 0l) && (result >= 0l) != (val1 >=0l)) {
                             //overflow
@@ -310,7 +310,7 @@ public final class XCalcSubtract {
                     case Types.NUMERIC: 
                     case Types.DECIMAL: 
                     case Types.COMPLEX: {
-                        final long val1 = d1.toLong(), val2 = d2.toLong();
+                        final long val1 = d1.longValue(), val2 = d2.longValue();
                         final long result = val1 - val2;
                         if ((val1 >= 0l) != (val2 >= 0l) && (result >= 0l) != (val1 >=0l)) {
                             //overflow
@@ -337,7 +337,7 @@ public final class XCalcSubtract {
                     case Types.NUMERIC: 
                     case Types.DECIMAL: 
                     case Types.COMPLEX: {
-                        final long val1 = d1.toLong(), val2 = d2.toLong();
+                        final long val1 = d1.longValue(), val2 = d2.longValue();
                         final long result = val1 - val2;
                         if ((val1 >= 0l) != (val2 >= 0l) && (result >= 0l) != (val1 >=0l)) {
                             //overflow
@@ -369,7 +369,7 @@ public final class XCalcSubtract {
                     case Types.LONG: 
                     case Types.COMPLEX: {
                         final Calendar ts = DataConv.toCalendarTimeData(d1).getCalendar();
-                        final long val1 = d1.toLong(), val2 = d2.toLong();
+                        final long val1 = d1.longValue(), val2 = d2.longValue();
                         final long result = val1 - val2, millis;
                         if ((val1 >= 0l) != (val2 >= 0l) && (result >= 0l) != (val1 >=0l)) {
                             //overflow
@@ -403,7 +403,7 @@ public final class XCalcSubtract {
                     case Types.CALENDAR_TIME: 
                     case Types.COMPLEX: {
                         final Calendar ts = DataConv.toCalendarTimestampData(d1).getCalendar();
-                        final long val1 = d1.toLong(), val2 = d2.toLong();
+                        final long val1 = d1.longValue(), val2 = d2.longValue();
                         final long result = val1 - val2, millis;
                         if ((val1 >= 0l) != (val2 >= 0l) && (result >= 0l) != (val1 >=0l)) {
                             //overflow
@@ -428,7 +428,7 @@ public final class XCalcSubtract {
                 switch (d2.getType()) {
                     case Types.INT:
                     case Types.BOOLEAN: 
-                        return new InstantData(d1.toInstant().minusNanos(d2.toLong()));
+                        return new InstantData(d1.toInstant().minusNanos(d2.longValue()));
                     case Types.BINARY:
                     case Types.STRING: if (!d2.isNumber()) { throw new UnsupportedDataOperationException ("DATA_SUBTRACT: " + XCalcException.getNonNumericException(d2)); }
                     case Types.LONG:
@@ -439,7 +439,7 @@ public final class XCalcSubtract {
                     case Types.COMPLEX:
                     case Types.TIME:
                     case Types.CALENDAR_TIME:
-                        return new InstantData(d1.toInstant().minusMillis(d2.toLong()));
+                        return new InstantData(d1.toInstant().minusMillis(d2.longValue()));
                     case Types.DATE:
                     case Types.TIMESTAMP:
                     case Types.CALENDAR_TIMESTAMP: 
@@ -463,7 +463,7 @@ public final class XCalcSubtract {
                                 return XNumberUtils.isDigits(s1) && XNumberUtils.isDigits(s2) ? subtractLongs(d1, d2) : subtractDoubles(d1, d2);
                             } else {
                                 final ComplexData cd1 = new ComplexData(s1);
-                                return ComplexData.nonNullValueOf(cd1.getDouble() - d2.toDouble(), cd1.getImaginary() * -1d);
+                                return ComplexData.nonNullValueOf(cd1.getDouble() - d2.doubleValue(), cd1.getImaginary() * -1d);
                             }
                         }
                     }
@@ -478,7 +478,7 @@ public final class XCalcSubtract {
                                 return XNumberUtils.isDigits(s1) ? subtractLongs(d1, d2) : subtractDoubles(d1, d2);
                             } else {
                                 final ComplexData cd1 = new ComplexData(s1);
-                                return ComplexData.nonNullValueOf(cd1.getDouble() - d2.toDouble(), cd1.getImaginary() * -1d);
+                                return ComplexData.nonNullValueOf(cd1.getDouble() - d2.doubleValue(), cd1.getImaginary() * -1d);
                             }
                         }
                     case Types.FLOAT:
@@ -492,7 +492,7 @@ public final class XCalcSubtract {
                                 return subtractDoubles(d1, d2);
                             } else {
                                 final ComplexData cd1 = new ComplexData(s1);
-                                return ComplexData.nonNullValueOf(cd1.getDouble() - d2.toDouble(), cd1.getImaginary() * -1d);
+                                return ComplexData.nonNullValueOf(cd1.getDouble() - d2.doubleValue(), cd1.getImaginary() * -1d);
                             }
                         }
                     case Types.DECIMAL:
@@ -504,7 +504,7 @@ public final class XCalcSubtract {
                                 return subtractDecimals(d1, d2);
                             }
                             final ComplexData cd1 = new ComplexData(s1);
-                            return ComplexData.nonNullValueOf(cd1.getDouble() - d2.toDouble(), cd1.getImaginary() * -1d);
+                            return ComplexData.nonNullValueOf(cd1.getDouble() - d2.doubleValue(), cd1.getImaginary() * -1d);
                         }
                     case Types.COMPLEX:
                         if (!XComplexUtils.isComplexNumber(d1.toString())) {
@@ -558,7 +558,7 @@ public final class XCalcSubtract {
                         if (d1.isNumber()) {
                             final TypeData d1n = d1.isDigits() && d2.isDigits() ? subtractLongs(d1, d2) : subtractDoubles(d1, d2);
                             final DenseVectorData vd2 = DataConv.toDenseVectorData(d2);
-                            final double ld1 = d1n.toDouble();
+                            final double ld1 = d1n.doubleValue();
                             final double[] arr = vd2.getDoubles();
                             for (int i = 0, len = arr.length; i < len; ++i) {
                                 arr[i] = ld1 - arr[i];
@@ -656,7 +656,10 @@ public final class XCalcSubtract {
     }
     
     private static TypeData subtractLongs(final TypeData d1, final TypeData d2) throws EngineException {
-        final long val1 = d1.toLong(), val2 = d2.toLong();
+        return subtractLongs(d1.longValue(), d2.longValue());
+    }
+    
+    static TypeData subtractLongs(final long val1, final long val2) {
         final long result = val1 - val2;
         if ((val1 >= 0l) != (val2 >= 0l) && (result >= 0l) != (val1 >=0l)) {
             //overflow
@@ -667,7 +670,10 @@ public final class XCalcSubtract {
     }
     
     private static TypeData subtractDoubles(final TypeData d1, final TypeData d2) throws EngineException {
-        final double val1 = d1.toDouble(), val2 = d2.toDouble();
+        return subtractDoubles(d1, d2, d1.doubleValue(), d2.doubleValue());
+    }
+    
+    static TypeData subtractDoubles(final TypeData d1, final TypeData d2, final double val1, final double val2) throws EngineException {
         final double result = val1 - val2;
         if ((val1 >= 0d) != (val2 >= 0d) && (result >= 0d) != (val1 >=0d)) {
             //overflow
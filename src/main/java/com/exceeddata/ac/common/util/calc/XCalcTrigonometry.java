@@ -57,7 +57,7 @@ public final class XCalcTrigonometry {
                 return new DenseVectorData(arr);
             }
             default:
-                return new DoubleData(Math.sin(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.sin(d.doubleValue()));
         }
     }
     
@@ -96,7 +96,7 @@ public final class XCalcTrigonometry {
                 return new DenseVectorData(arr);
             }
             default:
-                return new DoubleData(Math.cos(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.cos(d.doubleValue()));
         }
     }
     
@@ -135,7 +135,7 @@ public final class XCalcTrigonometry {
                 return new DenseVectorData(arr);
             }
             default:
-                return new DoubleData(Math.tan(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.tan(d.doubleValue()));
         }
     }
     protected static TypeData asin(final TypeData d, final Integer borderScale) throws EngineException {
@@ -180,13 +180,13 @@ public final class XCalcTrigonometry {
                 if (v > 1d) {
                     return borderScale == null 
                             ? DoubleData.NULL 
-                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) > 0 ? DoubleData.NULL : new DoubleData(Math.asin(1d));
+                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) > 0 ? DoubleData.NULL : DoubleData.nonNullValueOf(Math.asin(1d));
                 } else if (v < -1d) {
                     return borderScale == null 
                             ? DoubleData.NULL 
-                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_NEG_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) < 0 ? DoubleData.NULL : new DoubleData(Math.asin(-1d));
+                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_NEG_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) < 0 ? DoubleData.NULL : DoubleData.nonNullValueOf(Math.asin(-1d));
                 } else {
-                    return new DoubleData(Math.asin(v));
+                    return DoubleData.nonNullValueOf(Math.asin(v));
                 }
             }
         }
@@ -234,13 +234,13 @@ public final class XCalcTrigonometry {
                 if (v > 1d) {
                     return borderScale == null 
                             ? DoubleData.NULL 
-                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) > 0 ? DoubleData.NULL : new DoubleData(Math.acos(1d));
+                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) > 0 ? DoubleData.NULL : DoubleData.nonNullValueOf(Math.acos(1d));
                 } else if (v < -1d) {
                     return borderScale == null 
                             ? DoubleData.NULL 
-                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_NEG_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) < 0 ? DoubleData.NULL : new DoubleData(Math.acos(-1d));
+                            : (new BigDecimal(String.valueOf(v))).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(DECIMAL_NEG_ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) < 0 ? DoubleData.NULL : DoubleData.nonNullValueOf(Math.acos(-1d));
                 } else {
-                    return new DoubleData(Math.acos(v));
+                    return DoubleData.nonNullValueOf(Math.acos(v));
                 }
             }
         }
@@ -277,7 +277,7 @@ public final class XCalcTrigonometry {
             default:{
                 final Double v = d.toDouble();
                 final double t = Math.atan(v);
-                return t != Double.NaN ?  new DoubleData(t) : DoubleData.NULL;
+                return t != Double.NaN ?  DoubleData.nonNullValueOf(t) : DoubleData.NULL;
             }
         }
     }
@@ -339,8 +339,8 @@ public final class XCalcTrigonometry {
                     return new DenseVectorData(result);
                 }
             default:{
-                final double t = Math.atan2(y.toDouble(), x.toDouble());
-                return t != Double.NaN ?  new DoubleData(t) : DoubleData.NULL;
+                final double t = Math.atan2(y.doubleValue(), x.doubleValue());
+                return t != Double.NaN ?  DoubleData.nonNullValueOf(t) : DoubleData.NULL;
             }
         }
     }
@@ -373,7 +373,7 @@ public final class XCalcTrigonometry {
                 return new DenseVectorData(arr);
             }
             default:
-                return new DoubleData(Math.sinh(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.sinh(d.doubleValue()));
         }
     }
     
@@ -405,7 +405,7 @@ public final class XCalcTrigonometry {
                 return new DenseVectorData(arr);
             }
             default:
-                return new DoubleData(Math.cosh(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.cosh(d.doubleValue()));
         }
     }
     
@@ -437,7 +437,7 @@ public final class XCalcTrigonometry {
                 return new DenseVectorData(arr);
             }
             default:
-                return new DoubleData(Math.tanh(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.tanh(d.doubleValue()));
         }
     }
     
@@ -469,7 +469,7 @@ public final class XCalcTrigonometry {
                 return new DenseVectorData(arr);
             }
             default:
-                return new DoubleData(Math.cbrt(d.toDouble()));
+                return DoubleData.nonNullValueOf(Math.cbrt(d.doubleValue()));
         }
     }
 }
@@ -0,0 +1,366 @@
+package com.exceeddata.ac.common.util.calc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.exceeddata.ac.common.exception.EngineException;
+import com.exceeddata.ac.common.exception.data.UnsupportedDataOperationException;
+
+/**
+ * Column calculations on primitive arrays with null bitmaps, the column counterpart of the scalar
+ * <code>XCalc*</code> calculations with the same null rules.
+ *
+ * <p>A null bitmap holds one bit per row, set if the row is null, in the layout of <code>RecordBatch</code>.
+ * Input bitmaps may be null when a column has no nulls, the output bitmap is always written. Values of null
+ * rows are undefined on input and 0 on output. The values are first calculated in a plain loop over all rows,
+ * which HotSpot can unroll and vectorize, then the null rows are fixed up word by word.</p>
+ *
+ * <p>Double columns are calculated in double precision: unlike the scalar calculations, overflows are not
+ * widened to decimals and divisions do not go through <code>BigDecimal</code>. Long columns throw an
+ * overflow exception instead of widening.</p>
+ *
+ */
+public final class XCalcVector {
+    private XCalcVector() {}
+
+    private static final int ADD = 0;
+    private static final int SUBTRACT = 1;
+    private static final int MULTIPLY = 2;
+    private static final int DIVIDE = 3;
+    private static final int POWER = 4;
+
+    /**
+     * Get the number of bitmap words of a length.
+     *
+     * @param length the number of rows
+     * @return int
+     */
+    public static int words(final int length) {
+        return (length + 63) >>> 6;
+    }
+
+    public static void add(final double[] a, final long[] an, final double[] b, final long[] bn, final double[] out, final long[] on, final int length, final boolean nullAsZero) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = a[i] + b[i];
+        }
+        binaryNulls(ADD, a, an, b, bn, out, on, length, nullAsZero);
+    }
+
+    public static void subtract(final double[] a, final long[] an, final double[] b, final long[] bn, final double[] out, final long[] on, final int length, final boolean nullAsZero) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = a[i] - b[i];
+        }
+        binaryNulls(SUBTRACT, a, an, b, bn, out, on, length, nullAsZero);
+    }
+
+    public static void multiply(final double[] a, final long[] an, final double[] b, final long[] bn, final double[] out, final long[] on, final int length, final boolean nullAsZero) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = a[i] * b[i];
+        }
+        binaryNulls(MULTIPLY, a, an, b, bn, out, on, length, nullAsZero);
+    }
+
+    /**
+     * Divide row by row, division by zero is null.
+     */
+    public static void divide(final double[] a, final long[] an, final double[] b, final long[] bn, final double[] out, final long[] on, final int length, final boolean nullAsZero) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = a[i] / b[i];
+        }
+        binaryNulls(DIVIDE, a, an, b, bn, out, on, length, nullAsZero);
+    }
+
+    public static void power(final double[] a, final long[] an, final double[] b, final long[] bn, final double[] out, final long[] on, final int length, final boolean nullAsZero) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.pow(a[i], b[i]);
+        }
+        binaryNulls(POWER, a, an, b, bn, out, on, length, nullAsZero);
+    }
+
+    /**
+     * Add long columns.
+     *
+     * @throws EngineException if a non-null row overflows
+     */
+    public static void add(final long[] a, final long[] an, final long[] b, final long[] bn, final long[] out, final long[] on, final int length, final boolean nullAsZero) throws EngineException {
+        long overflow = 0l;
+        for (int i = 0; i < length; ++i) {
+            final long x = a[i], y = b[i], r = x + y;
+            overflow |= (x ^ r) & (y ^ r);
+            out[i] = r;
+        }
+        longNulls(ADD, a, an, b, bn, out, on, length, nullAsZero, overflow < 0l);
+    }
+
+    /**
+     * Subtract long columns.
+     *
+     * @throws EngineException if a non-null row overflows
+     */
+    public static void subtract(final long[] a, final long[] an, final long[] b, final long[] bn, final long[] out, final long[] on, final int length, final boolean nullAsZero) throws EngineException {
+        long overflow = 0l;
+        for (int i = 0; i < length; ++i) {
+            final long x = a[i], y = b[i], r = x - y;
+            overflow |= (x ^ y) & (x ^ r);
+            out[i] = r;
+        }
+        longNulls(SUBTRACT, a, an, b, bn, out, on, length, nullAsZero, overflow < 0l);
+    }
+
+    /**
+     * Multiply long columns.
+     *
+     * @throws EngineException if a non-null row overflows
+     */
+    public static void multiply(final long[] a, final long[] an, final long[] b, final long[] bn, final long[] out, final long[] on, final int length, final boolean nullAsZero) throws EngineException {
+        long magnitude = 0l;
+        for (int i = 0; i < length; ++i) {
+            final long x = a[i], y = b[i];
+            //products of values within 31 bits can not overflow, larger ones are checked exactly later
+            magnitude |= Math.abs(x) | Math.abs(y);
+            out[i] = x * y;
+        }
+        longNulls(MULTIPLY, a, an, b, bn, out, on, length, nullAsZero, (magnitude >>> 31) != 0l);
+    }
+
+    public static void sin(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.sin(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    public static void cos(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.cos(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    public static void tan(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.tan(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    /**
+     * Arc sine row by row, values outside [-1, 1] are null unless they round into the range with the border scale.
+     */
+    public static void asin(final double[] a, final long[] an, final double[] out, final long[] on, final int length, final Integer borderScale) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.asin(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+        border(a, out, on, length, borderScale, true);
+    }
+
+    /**
+     * Arc cosine row by row, values outside [-1, 1] are null unless they round into the range with the border scale.
+     */
+    public static void acos(final double[] a, final long[] an, final double[] out, final long[] on, final int length, final Integer borderScale) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.acos(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+        border(a, out, on, length, borderScale, false);
+    }
+
+    public static void atan(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.atan(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    public static void atan2(final double[] y, final long[] yn, final double[] x, final long[] xn, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.atan2(y[i], x[i]);
+        }
+        for (int w = 0, words = words(length); w < words; ++w) {
+            on[w] = ((yn == null ? 0l : yn[w]) | (xn == null ? 0l : xn[w])) & mask(w, length);
+        }
+        zeroNulls(out, on, length);
+    }
+
+    public static void sinh(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.sinh(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    public static void cosh(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.cosh(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    public static void tanh(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.tanh(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    public static void cbrt(final double[] a, final long[] an, final double[] out, final long[] on, final int length) {
+        for (int i = 0; i < length; ++i) {
+            out[i] = Math.cbrt(a[i]);
+        }
+        unaryNulls(an, out, on, length);
+    }
+
+    private static long mask(final int word, final int length) {
+        final int rest = length - (word << 6);
+        return rest >= 64 ? -1l : (1l << rest) - 1l;
+    }
+
+    private static boolean isSet(final long[] bitmap, final int row) {
+        return bitmap != null && (bitmap[row >>> 6] & (1l << row)) != 0l;
+    }
+
+    private static void unaryNulls(final long[] an, final double[] out, final long[] on, final int length) {
+        for (int w = 0, words = words(length); w < words; ++w) {
+            on[w] = an == null ? 0l : an[w] & mask(w, length);
+        }
+        zeroNulls(out, on, length);
+    }
+
+    private static void zeroNulls(final double[] out, final long[] on, final int length) {
+        for (int w = 0, words = words(length); w < words; ++w) {
+            for (long bits = on[w]; bits != 0l; bits &= bits - 1l) {
+                out[(w << 6) + Long.numberOfTrailingZeros(bits)] = 0d;
+            }
+        }
+    }
+
+    /**
+     * Fix up the rows with a null operand or a zero divisor, following the scalar null rules.
+     */
+    private static void binaryNulls(final int op, final double[] a, final long[] an, final double[] b, final long[] bn, final double[] out, final long[] on, final int length, final boolean nullAsZero) {
+        for (int w = 0, words = words(length); w < words; ++w) {
+            final long mask = mask(w, length);
+            final long n1 = an == null ? 0l : an[w] & mask, n2 = bn == null ? 0l : bn[w] & mask;
+            long zeros = 0l;
+            if (op == DIVIDE) {
+                for (int j = 0, base = w << 6, end = Math.min(64, length - base); j < end; ++j) {
+                    zeros |= (b[base + j] == 0d ? 1l : 0l) << j;
+                }
+                zeros &= ~n2;
+            }
+
+            long nulls = 0l;
+            for (long bits = n1 | n2 | zeros; bits != 0l; bits &= bits - 1l) {
+                final int bit = Long.numberOfTrailingZeros(bits);
+                final long m = 1l << bit;
+                final int i = (w << 6) + bit;
+                final boolean null1 = (n1 & m) != 0l, null2 = (n2 & m) != 0l;
+                double v = 0d;
+                boolean isnull = true;
+                switch (op) {
+                    case ADD:
+                        if (nullAsZero && !(null1 && null2)) {
+                            v = null1 ? b[i] : a[i];
+                            isnull = false;
+                        }
+                        break;
+                    case SUBTRACT:
+                        if (nullAsZero && !(null1 && null2)) {
+                            v = null1 ? -b[i] : a[i];
+                            isnull = false;
+                        }
+                        break;
+                    case MULTIPLY:
+                        isnull = !nullAsZero;
+                        break;
+                    case DIVIDE:
+                        isnull = !(null1 && nullAsZero);
+                        break;
+                    default: //POWER
+                        if (nullAsZero) {
+                            v = null1 ? 0d : 1d;
+                            isnull = false;
+                        }
+                        break;
+                }
+                out[i] = v;
+                if (isnull) {
+                    nulls |= m;
+                }
+            }
+            on[w] = nulls;
+        }
+    }
+
+    /**
+     * Fix up the rows with a null operand following the scalar null rules, then check the overflow of the other rows.
+     */
+    private static void longNulls(final int op, final long[] a, final long[] an, final long[] b, final long[] bn, final long[] out, final long[] on, final int length, final boolean nullAsZero, final boolean overflow) throws EngineException {
+        for (int w = 0, words = words(length); w < words; ++w) {
+            final long mask = mask(w, length);
+            final long n1 = an == null ? 0l : an[w] & mask, n2 = bn == null ? 0l : bn[w] & mask;
+            long nulls = 0l;
+            for (long bits = n1 | n2; bits != 0l; bits &= bits - 1l) {
+                final int bit = Long.numberOfTrailingZeros(bits);
+                final long m = 1l << bit;
+                final int i = (w << 6) + bit;
+                final boolean null1 = (n1 & m) != 0l, null2 = (n2 & m) != 0l;
+                long v = 0l;
+                boolean isnull = true;
+                if (op == MULTIPLY) {
+                    isnull = !nullAsZero;
+                } else if (nullAsZero && !(null1 && null2)) {
+                    v = null1 ? (op == ADD ? b[i] : -b[i]) : a[i];
+                    isnull = false;
+                }
+                out[i] = v;
+                if (isnull) {
+                    nulls |= m;
+                }
+            }
+            on[w] = nulls;
+        }
+
+        if (overflow) {
+            //the overflow may come from undefined values of null rows, check the others
+            for (int i = 0; i < length; ++i) {
+                if (isSet(an, i) || isSet(bn, i)) {
+                    continue;
+                }
+                final long x = a[i], y = b[i];
+                final boolean failed;
+                switch (op) {
+                    case ADD: failed = ((x ^ (x + y)) & (y ^ (x + y))) < 0l; break;
+                    case SUBTRACT: failed = ((x ^ y) & (x ^ (x - y))) < 0l; break;
+                    default: failed = x != 0l && ((x * y) / x != y || (x == -1l && y == Long.MIN_VALUE)); break;
+                }
+                if (failed) {
+                    final String name = op == ADD ? "DATA_ADD_OVERFLOW: " : op == SUBTRACT ? "DATA_SUBTRACT_OVERFLOW: " : "DATA_MULTIPLY_OVERFLOW: ";
+                    throw new UnsupportedDataOperationException (name + x + (op == ADD ? " + " : op == SUBTRACT ? " - " : " x ") + y);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply the border rules of asin and acos to the non-null rows outside [-1, 1].
+     */
+    private static void border(final double[] a, final double[] out, final long[] on, final int length, final Integer borderScale, final boolean sine) {
+        for (int i = 0; i < length; ++i) {
+            final double v = a[i];
+            if ((v > 1d || v < -1d) && !isSet(on, i)) {
+                final boolean inRange = borderScale != null && (v > 1d
+                        ? new BigDecimal(String.valueOf(v)).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(BigDecimal.ONE.setScale(borderScale, RoundingMode.HALF_EVEN)) <= 0
+                        : new BigDecimal(String.valueOf(v)).setScale(borderScale, RoundingMode.HALF_EVEN).compareTo(BigDecimal.ONE.negate().setScale(borderScale, RoundingMode.HALF_EVEN)) >= 0);
+                if (inRange) {
+                    final double edge = v > 1d ? 1d : -1d;
+                    out[i] = sine ? Math.asin(edge) : Math.acos(edge);
+                } else {
+                    out[i] = 0d;
+                    on[i >>> 6] |= 1l << i;
+                }
+            }
+        }
+    }
+}
@@ -31,7 +31,7 @@ public final class XCalculationUtils {
     }
     
     public static TypeData power(final TypeData d1, final TypeData d2, final boolean nullAsZero) throws EngineException {
-        return XCalcPower.power(d1, d2, nullAsZero);
+        return XCalcDispatch.power(nullAsZero).apply(d1, d2);
     }
     
     public static TypeData exp(final TypeData d) throws EngineException {
@@ -102,19 +102,19 @@ public final class XCalculationUtils {
     }
     
     public static TypeData add(final TypeData d1, final TypeData d2, final boolean numeric, final boolean nullAsZero) throws EngineException {
-        return XCalcAdd.add(d1, d2, numeric, nullAsZero);
+        return XCalcDispatch.add(numeric, nullAsZero).apply(d1, d2);
     }
     
     public static TypeData subtract(final TypeData d1, final TypeData d2, final boolean nullAsZero) throws EngineException {
-        return XCalcSubtract.subtract(d1, d2, nullAsZero);
+        return XCalcDispatch.subtract(nullAsZero).apply(d1, d2);
     }
     
     public static TypeData multiply(final TypeData d1, final TypeData d2, final boolean nullAsZero) throws EngineException {
-        return XCalcMultiply.multiply(d1, d2, nullAsZero);
+        return XCalcDispatch.multiply(nullAsZero).apply(d1, d2);
     }
     
     public static TypeData divide(final TypeData d1, final TypeData d2, final boolean nullAsZero) throws EngineException {
-        return XCalcDivide.divide(d1, d2, nullAsZero);
+        return XCalcDispatch.divide(nullAsZero).apply(d1, d2);
     }
     
     public static TypeData remainder(final TypeData d1, final TypeData d2, final boolean nullAsZero) throws EngineException {
@@ -201,6 +201,77 @@ public class BigEndianSeekableBytesReader implements BinarySeekableReader {
         return bytes;
     }
     
+    /** {@inheritDoc} */
+    @Override
+    public void readBytes(final byte[] dst, final int offset, final int len) throws IOException {
+        if (position + len > data.length) {
+            throw new BinaryEOFException();
+        }
+
+        System.arraycopy(data, position, dst, offset, len);
+        position += len;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readINT16s(final short[] dst, final int offset, final int count) throws IOException {
+        final int len = count * BinaryBigEndianUtils.LEN_INT16;
+        if (position + len > data.length) {
+            throw new BinaryEOFException();
+        }
+
+        BinaryBigEndianUtils.bytesToINT16s(data, position, dst, offset, count);
+        position += len;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readINT32s(final int[] dst, final int offset, final int count) throws IOException {
+        final int len = count * BinaryBigEndianUtils.LEN_INT32;
+        if (position + len > data.length) {
+            throw new BinaryEOFException();
+        }
+
+        BinaryBigEndianUtils.bytesToINT32s(data, position, dst, offset, count);
+        position += len;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readINT64s(final long[] dst, final int offset, final int count) throws IOException {
+        final int len = count * BinaryBigEndianUtils.LEN_INT64;
+        if (position + len > data.length) {
+            throw new BinaryEOFException();
+        }
+
+        BinaryBigEndianUtils.bytesToINT64s(data, position, dst, offset, count);
+        position += len;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readFloats(final float[] dst, final int offset, final int count) throws IOException {
+        final int len = count * BinaryBigEndianUtils.LEN_FLOAT;
+        if (position + len > data.length) {
+            throw new BinaryEOFException();
+        }
+
+        BinaryBigEndianUtils.bytesToFloats(data, position, dst, offset, count);
+        position += len;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readDoubles(final double[] dst, final int offset, final int count) throws IOException {
+        final int len = count * BinaryBigEndianUtils.LEN_REAL;
+        if (position + len > data.length) {
+            throw new BinaryEOFException();
+        }
+
+        BinaryBigEndianUtils.bytesToReals(data, position, dst, offset, count);
+        position += len;
+    }
+    
     /** {@inheritDoc} */
     @Override
     public void seek(final long pos) throws IOException {
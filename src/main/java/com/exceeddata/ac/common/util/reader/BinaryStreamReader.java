@@ -116,6 +116,88 @@ public interface BinaryStreamReader extends Serializable {
      */
     public byte[] readBytes(int len) throws IOException;
     
+    /**
+     * Read bytes into an array.
+     * 
+     * @param dst the target array
+     * @param offset the offset in the target array
+     * @param len the length of bytes
+     * @throws IOException if EOF (insufficient number of bytes to be read) or I/O error
+     */
+    public default void readBytes(final byte[] dst, final int offset, final int len) throws IOException {
+        System.arraycopy(readBytes(len), 0, dst, offset, len);
+    }
+    
+    /**
+     * Read consecutive signed shorts / int16 into an array, implementations decode them in bulk.
+     * 
+     * @param dst the target array
+     * @param offset the offset in the target array
+     * @param count the number of values
+     * @throws IOException if EOF (insufficient number of bytes to be read) or I/O error
+     */
+    public default void readINT16s(final short[] dst, final int offset, final int count) throws IOException {
+        for (int i = offset, end = offset + count; i < end; ++i) {
+            dst[i] = readINT16();
+        }
+    }
+    
+    /**
+     * Read consecutive signed ints / int32 into an array, implementations decode them in bulk.
+     * 
+     * @param dst the target array
+     * @param offset the offset in the target array
+     * @param count the number of values
+     * @throws IOException if EOF (insufficient number of bytes to be read) or I/O error
+     */
+    public default void readINT32s(final int[] dst, final int offset, final int count) throws IOException {
+        for (int i = offset, end = offset + count; i < end; ++i) {
+            dst[i] = readINT32();
+        }
+    }
+    
+    /**
+     * Read consecutive signed longs / int64 into an array, implementations decode them in bulk.
+     * 
+     * @param dst the target array
+     * @param offset the offset in the target array
+     * @param count the number of values
+     * @throws IOException if EOF (insufficient number of bytes to be read) or I/O error
+     */
+    public default void readINT64s(final long[] dst, final int offset, final int count) throws IOException {
+        for (int i = offset, end = offset + count; i < end; ++i) {
+            dst[i] = readINT64();
+        }
+    }
+    
+    /**
+     * Read consecutive floats into an array, implementations decode them in bulk.
+     * 
+     * @param dst the target array
+     * @param offset the offset in the target array
+     * @param count the number of values
+     * @throws IOException if EOF (insufficient number of bytes to be read) or I/O error
+     */
+    public default void readFloats(final float[] dst, final int offset, final int count) throws IOException {
+        for (int i = offset, end = offset + count; i < end; ++i) {
+            dst[i] = readFloat();
+        }
+    }
+    
+    /**
+     * Read consecutive doubles into an array, implementations decode them in bulk.
+     * 
+     * @param dst the target array
+     * @param offset the offset in the target array
+     * @param count the number of values
+     * @throws IOException if EOF (insufficient number of bytes to be read) or I/O error
+     */
+    public default void readDoubles(final double[] dst, final int offset, final int count) throws IOException {
+        for (int i = offset, end = offset + count; i < end; ++i) {
+            dst[i] = readDouble();
+        }
+    }
+    
     /**
      * Get the current size of the bytes read.
      * 
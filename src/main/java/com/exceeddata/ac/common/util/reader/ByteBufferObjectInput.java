@@ -0,0 +1,243 @@
+package com.exceeddata.ac.common.util.reader;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.nio.ByteBuffer;
+
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+
+/**
+ * An <code>ObjectInput</code> reading the big endian <code>DataInput</code> format directly from a
+ * <code>ByteBuffer</code>, such as a <code>MappedByteBuffer</code>. Reads advance the buffer position,
+ * the byte order of the buffer is ignored. Object reading is not supported.
+ *
+ */
+public final class ByteBufferObjectInput implements ObjectInput {
+    private ByteBuffer buffer = null;
+
+    public ByteBufferObjectInput(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Get the underlying buffer.
+     *
+     * @return ByteBuffer
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Reset the underlying buffer.
+     *
+     * @param buffer the buffer
+     * @return ByteBufferObjectInput
+     */
+    public ByteBufferObjectInput setBuffer(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        return this;
+    }
+
+    /**
+     * Get the position of the underlying buffer.
+     *
+     * @return int
+     */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Set the position of the underlying buffer.
+     *
+     * @param position the position
+     * @return ByteBufferObjectInput
+     */
+    public ByteBufferObjectInput position(final int position) {
+        buffer.position(position);
+        return this;
+    }
+
+    private void require(final int len) throws IOException {
+        if (buffer.remaining() < len) {
+            throw new BinaryEOFException();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readFully(final byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readFully(final byte[] b, final int off, final int len) throws IOException {
+        require(len);
+        buffer.get(b, off, len);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int skipBytes(final int n) {
+        final int skip = Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + skip);
+        return skip;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean readBoolean() throws IOException {
+        require(1);
+        return buffer.get() != 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte readByte() throws IOException {
+        require(1);
+        return buffer.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readUnsignedByte() throws IOException {
+        require(1);
+        return buffer.get() & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public short readShort() throws IOException {
+        require(2);
+        final int pos = buffer.position();
+        final short v = (short) (((buffer.get(pos) & 0xFF) << 8) | (buffer.get(pos + 1) & 0xFF));
+        buffer.position(pos + 2);
+        return v;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public char readChar() throws IOException {
+        return (char) readShort();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readInt() throws IOException {
+        require(4);
+        final int pos = buffer.position();
+        final int v = ((buffer.get(pos) & 0xFF) << 24)
+                    | ((buffer.get(pos + 1) & 0xFF) << 16)
+                    | ((buffer.get(pos + 2) & 0xFF) << 8)
+                    | (buffer.get(pos + 3) & 0xFF);
+        buffer.position(pos + 4);
+        return v;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readLong() throws IOException {
+        final long high = readInt() & 0xFFFFFFFFl;
+        final long low = readInt() & 0xFFFFFFFFl;
+        return (high << 32) | low;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readLine() throws IOException {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            final int c = buffer.get() & 0xFF;
+            if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                break;
+            }
+            sb.append((char) c);
+        }
+        return sb.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object readObject() throws IOException {
+        throw new IOException("READ_OBJECT_UNSUPPORTED");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b) {
+        return read(b, 0, b.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        if (len == 0) {
+            return 0;
+        }
+        final int n = Math.min(len, buffer.remaining());
+        if (n == 0) {
+            return -1;
+        }
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) {
+        return skipBytes((int) Math.min(n, Integer.MAX_VALUE));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+    }
+}
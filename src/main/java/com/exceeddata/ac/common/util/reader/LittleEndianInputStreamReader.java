@@ -5,25 +5,51 @@ import java.io.InputStream;
 import java.math.BigInteger;
 
 import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+import com.exceeddata.ac.common.exception.binary.BinaryMarkException;
 import com.exceeddata.ac.common.util.binary.BinaryLittleEndianUtils;
 
 /**
  * Little Endian Input Stream (not seekable) reader
  *
+ * Bytes are read ahead from the stream into a refillable buffer, so primitives are decoded from the buffer without a
+ * call to the stream each, and short reads of network or decompression streams are looped until enough bytes arrive.
+ * The buffer also backs <code>peekBytes</code> and <code>mark</code> / <code>reset</code>.
  */
 public class LittleEndianInputStreamReader implements BinaryStreamReader {
     private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MIN_BUFFER_SIZE = 16;
     
     protected InputStream stream = null;
-    protected byte[] data = new byte[1024]; //max bytes data, bigger than this we use dynamic allocation.
+    protected byte[] buffer = null;
+    protected int position = 0; //the next byte to read in the buffer
+    protected int limit = 0; //the end of the bytes read ahead in the buffer
+    protected int markPosition = -1;
+    protected int markLimit = 0;
     protected long sizeRead = 0l;
     
     public LittleEndianInputStreamReader(final InputStream stream) {
+        this(stream, DEFAULT_BUFFER_SIZE);
+    }
+    
+    /**
+     * Construct a reader with a read-ahead buffer.
+     * 
+     * @param stream the input stream
+     * @param bufferSize the size of the read-ahead buffer, the default size if not positive
+     */
+    public LittleEndianInputStreamReader(final InputStream stream, final int bufferSize) {
         this.stream = stream;
+        this.buffer = new byte[bufferSize > 0 ? Math.max(bufferSize, MIN_BUFFER_SIZE) : DEFAULT_BUFFER_SIZE];
     }
     
     public LittleEndianInputStreamReader(LittleEndianInputStreamReader reader) {
         this.stream = reader.stream;
+        this.buffer = reader.buffer.clone();
+        this.position = reader.position;
+        this.limit = reader.limit;
+        this.markPosition = reader.markPosition;
+        this.markLimit = reader.markLimit;
         this.sizeRead = reader.sizeRead;
     }
     
@@ -34,134 +60,267 @@ public class LittleEndianInputStreamReader implements BinaryStreamReader {
 
     @Override
     public String readANSI(final int len) throws IOException {
-        final byte[] data = len <= 1024 ? this.data : new byte[len];
-        if (stream.read(data, 0, len) != len) {
-            throw new BinaryEOFException();
+        if (len <= buffer.length) {
+            final int offset = take(len);
+            return BinaryLittleEndianUtils.bytesToANSI(buffer, offset, len);
         }
-        sizeRead += len;
+        final byte[] data = new byte[len];
+        read(data, 0, len);
         
         return BinaryLittleEndianUtils.bytesToANSI(data, 0, len);
     }
 
     @Override
     public boolean readBool() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_BOOL) != BinaryLittleEndianUtils.LEN_BOOL) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_BOOL;
-        
-        return BinaryLittleEndianUtils.bytesToBool(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_BOOL);
+        return BinaryLittleEndianUtils.bytesToBool(buffer, offset);
     }
 
     @Override
     public short readINT8() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_INT8) != BinaryLittleEndianUtils.LEN_INT8) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_INT8;
-        
-        return BinaryLittleEndianUtils.bytesToINT8(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_INT8);
+        return BinaryLittleEndianUtils.bytesToINT8(buffer, offset);
     }
 
     @Override
     public short readINT16() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_INT16) != BinaryLittleEndianUtils.LEN_INT16) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_INT16;
-        
-        return BinaryLittleEndianUtils.bytesToINT16(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_INT16);
+        return BinaryLittleEndianUtils.bytesToINT16(buffer, offset);
     }
 
     @Override
     public int readINT32() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_INT32) != BinaryLittleEndianUtils.LEN_INT32) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_INT32;
-        
-        return BinaryLittleEndianUtils.bytesToINT32(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_INT32);
+        return BinaryLittleEndianUtils.bytesToINT32(buffer, offset);
     }
 
     @Override
     public long readINT64() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_INT64) != BinaryLittleEndianUtils.LEN_INT64) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_INT64;
-        
-        return BinaryLittleEndianUtils.bytesToINT64(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_INT64);
+        return BinaryLittleEndianUtils.bytesToINT64(buffer, offset);
     }
 
     @Override
     public short readUINT8() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_UINT8) != BinaryLittleEndianUtils.LEN_UINT8) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_UINT8;
-        
-        return BinaryLittleEndianUtils.bytesToUINT8(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_UINT8);
+        return BinaryLittleEndianUtils.bytesToUINT8(buffer, offset);
     }
 
     @Override
     public int readUINT16() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_UINT16) != BinaryLittleEndianUtils.LEN_UINT16) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_UINT16;
-        
-        return BinaryLittleEndianUtils.bytesToUINT16(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_UINT16);
+        return BinaryLittleEndianUtils.bytesToUINT16(buffer, offset);
     }
 
     @Override
     public long readUINT32() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_UINT32) != BinaryLittleEndianUtils.LEN_UINT32) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_UINT32;
-        
-        return BinaryLittleEndianUtils.bytesToUINT32(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_UINT32);
+        return BinaryLittleEndianUtils.bytesToUINT32(buffer, offset);
     }
 
     @Override
     public BigInteger readUINT64() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_UINT64) != BinaryLittleEndianUtils.LEN_UINT64) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_UINT64;
-        
-        return BinaryLittleEndianUtils.bytesToUINT64(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_UINT64);
+        return BinaryLittleEndianUtils.bytesToUINT64(buffer, offset);
     }
 
     @Override
     public double readDouble() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_REAL) != BinaryLittleEndianUtils.LEN_REAL) {
-            throw new BinaryEOFException();
-        }
-        sizeRead += BinaryLittleEndianUtils.LEN_REAL;
-        
-        return BinaryLittleEndianUtils.bytesToReal(data, 0);
+        final int offset = take(BinaryLittleEndianUtils.LEN_REAL);
+        return BinaryLittleEndianUtils.bytesToReal(buffer, offset);
     }
 
     @Override
     public float readFloat() throws IOException {
-        if (stream.read(data, 0, BinaryLittleEndianUtils.LEN_FLOAT) != BinaryLittleEndianUtils.LEN_FLOAT) {
-            throw new BinaryEOFException();
+        final int offset = take(BinaryLittleEndianUtils.LEN_FLOAT);
+        return BinaryLittleEndianUtils.bytesToFloat(buffer, offset);
+    }
+
+    @Override
+    public byte[] readBytes(int len) throws IOException {
+        if (len <= buffer.length) {
+            final int offset = take(len);
+            return BinaryLittleEndianUtils.bytes(buffer, offset, len);
         }
-        sizeRead += BinaryLittleEndianUtils.LEN_FLOAT;
+        final byte[] bytes = new byte[len];
+        read(bytes, 0, len);
         
-        return BinaryLittleEndianUtils.bytesToFloat(data, 0);
+        return bytes;
+    }
+    
+    @Override
+    public void readBytes(final byte[] dst, final int offset, final int len) throws IOException {
+        read(dst, offset, len);
     }
 
     @Override
-    public byte[] readBytes(int len) throws IOException {
-        final byte[] data = len <= 1024 ? this.data : new byte[len];
-        if (stream.read(data, 0, len)  != len) {
-            throw new BinaryEOFException();
+    public void readINT16s(final short[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            if (limit - position < BinaryLittleEndianUtils.LEN_INT16) {
+                fill(BinaryLittleEndianUtils.LEN_INT16);
+            }
+            n = Math.min(count - done, (limit - position) / BinaryLittleEndianUtils.LEN_INT16);
+            final int from = take(n * BinaryLittleEndianUtils.LEN_INT16);
+            BinaryLittleEndianUtils.bytesToINT16s(buffer, from, dst, offset + done, n);
         }
+    }
+
+    @Override
+    public void readINT32s(final int[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            if (limit - position < BinaryLittleEndianUtils.LEN_INT32) {
+                fill(BinaryLittleEndianUtils.LEN_INT32);
+            }
+            n = Math.min(count - done, (limit - position) / BinaryLittleEndianUtils.LEN_INT32);
+            final int from = take(n * BinaryLittleEndianUtils.LEN_INT32);
+            BinaryLittleEndianUtils.bytesToINT32s(buffer, from, dst, offset + done, n);
+        }
+    }
+
+    @Override
+    public void readINT64s(final long[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            if (limit - position < BinaryLittleEndianUtils.LEN_INT64) {
+                fill(BinaryLittleEndianUtils.LEN_INT64);
+            }
+            n = Math.min(count - done, (limit - position) / BinaryLittleEndianUtils.LEN_INT64);
+            final int from = take(n * BinaryLittleEndianUtils.LEN_INT64);
+            BinaryLittleEndianUtils.bytesToINT64s(buffer, from, dst, offset + done, n);
+        }
+    }
+
+    @Override
+    public void readFloats(final float[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            if (limit - position < BinaryLittleEndianUtils.LEN_FLOAT) {
+                fill(BinaryLittleEndianUtils.LEN_FLOAT);
+            }
+            n = Math.min(count - done, (limit - position) / BinaryLittleEndianUtils.LEN_FLOAT);
+            final int from = take(n * BinaryLittleEndianUtils.LEN_FLOAT);
+            BinaryLittleEndianUtils.bytesToFloats(buffer, from, dst, offset + done, n);
+        }
+    }
+
+    @Override
+    public void readDoubles(final double[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            if (limit - position < BinaryLittleEndianUtils.LEN_REAL) {
+                fill(BinaryLittleEndianUtils.LEN_REAL);
+            }
+            n = Math.min(count - done, (limit - position) / BinaryLittleEndianUtils.LEN_REAL);
+            final int from = take(n * BinaryLittleEndianUtils.LEN_REAL);
+            BinaryLittleEndianUtils.bytesToReals(buffer, from, dst, offset + done, n);
+        }
+    }
+
+    /**
+     * Get the next bytes without consuming them.
+     * 
+     * @param len the length of bytes
+     * @return byte array
+     * @throws IOException if EOF (insufficient number of bytes to be read) or I/O error
+     */
+    public byte[] peekBytes(final int len) throws IOException {
+        final int offset = fill(len);
+        return BinaryLittleEndianUtils.bytes(buffer, offset, len);
+    }
+    
+    /**
+     * Mark the current position, reset() returns to it while at most readLimit bytes are read after the mark.
+     * 
+     * @param readLimit the maximum bytes to read before reset
+     */
+    public void mark(final int readLimit) {
+        markPosition = position;
+        markLimit = Math.max(readLimit, 0);
+    }
+    
+    /**
+     * Return to the marked position.
+     * 
+     * @throws IOException if there is no mark or more than the read limit is read after it
+     */
+    public void reset() throws IOException {
+        if (markPosition < 0 || position - markPosition > markLimit) {
+            throw new BinaryMarkException();
+        }
+        sizeRead -= position - markPosition;
+        position = markPosition;
+    }
+    
+    /**
+     * Consume len bytes from the buffer.
+     * 
+     * @return the offset of the bytes in the buffer
+     */
+    private int take(final int len) throws IOException {
+        final int offset = limit - position >= len ? position : fill(len);
+        position += len;
         sizeRead += len;
+        return offset;
+    }
+    
+    /**
+     * Read ahead until at least len bytes are in the buffer, keeping the bytes from a valid mark.
+     * 
+     * @return the offset of the bytes in the buffer
+     */
+    private int fill(final int len) throws IOException {
+        if (markPosition >= 0 && position - markPosition > markLimit) {
+            markPosition = -1;
+        }
+        if (limit - position >= len) {
+            return position;
+        } else if (stream == null) {
+            throw new BinaryEOFException();
+        }
         
-        return BinaryLittleEndianUtils.bytes(data, 0, len);
+        final int start = markPosition >= 0 ? markPosition : position, required = position - start + len;
+        final byte[] target = required > buffer.length ? new byte[Math.max(required, buffer.length * 2)] : buffer;
+        if (start > 0 || target != buffer) {
+            System.arraycopy(buffer, start, target, 0, limit - start);
+            buffer = target;
+            limit -= start;
+            position -= start;
+            if (markPosition >= 0) {
+                markPosition -= start;
+            }
+        }
+        while (limit - position < len) {
+            final int read = stream.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                throw new BinaryEOFException();
+            }
+            limit += read;
+        }
+        return position;
+    }
+    
+    private void read(final byte[] data, final int offset, final int len) throws IOException {
+        if (markPosition >= 0 && position - markPosition > markLimit) {
+            markPosition = -1;
+        }
+        int done = Math.min(len, limit - position);
+        System.arraycopy(buffer, position, data, offset, done);
+        position += done;
+        sizeRead += done;
+        if (markPosition < 0 && len - done >= buffer.length && stream != null) {
+            //large reads go to the stream directly
+            position = limit = 0;
+            for (int read; done < len; done += read) {
+                read = stream.read(data, offset + done, len - done);
+                if (read < 0) {
+                    throw new BinaryEOFException();
+                }
+                sizeRead += read;
+            }
+            return;
+        }
+        for (int n; done < len; done += n) {
+            n = Math.min(len - done, buffer.length);
+            final int from = take(n);
+            System.arraycopy(buffer, from, data, offset + done, n);
+        }
     }
     
     @Override
@@ -14,9 +14,11 @@ import com.exceeddata.ac.common.util.binary.BinaryLittleEndianUtils;
  */
 public class LittleEndianSeekableFileReader implements BinarySeekableReader {
     private static final long serialVersionUID = 1L;
+    private static final int BULK_SIZE = 8192;
     
     protected RandomAccessFile seekable = null;
     protected byte[] data = new byte[1024]; //max bytes data, bigger than this we use dynamic allocation.
+    protected byte[] bulk = null; //lazily allocated chunk for the bulk array reads.
     
     public LittleEndianSeekableFileReader(final RandomAccessFile seekable) {
         this.seekable = seekable;
@@ -125,8 +127,74 @@ public class LittleEndianSeekableFileReader implements BinarySeekableReader {
         return BinaryLittleEndianUtils.bytes(data, 0, len);
     }
     
+    @Override
+    public void readBytes(final byte[] dst, final int offset, final int len) throws IOException {
+        read(dst, offset, len);
+    }
+
+    @Override
+    public void readINT16s(final short[] dst, final int offset, final int count) throws IOException {
+        final byte[] bulk = bulk();
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.min(count - done, bulk.length / BinaryLittleEndianUtils.LEN_INT16);
+            read(bulk, 0, n * BinaryLittleEndianUtils.LEN_INT16);
+            BinaryLittleEndianUtils.bytesToINT16s(bulk, 0, dst, offset + done, n);
+        }
+    }
+
+    @Override
+    public void readINT32s(final int[] dst, final int offset, final int count) throws IOException {
+        final byte[] bulk = bulk();
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.min(count - done, bulk.length / BinaryLittleEndianUtils.LEN_INT32);
+            read(bulk, 0, n * BinaryLittleEndianUtils.LEN_INT32);
+            BinaryLittleEndianUtils.bytesToINT32s(bulk, 0, dst, offset + done, n);
+        }
+    }
+
+    @Override
+    public void readINT64s(final long[] dst, final int offset, final int count) throws IOException {
+        final byte[] bulk = bulk();
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.min(count - done, bulk.length / BinaryLittleEndianUtils.LEN_INT64);
+            read(bulk, 0, n * BinaryLittleEndianUtils.LEN_INT64);
+            BinaryLittleEndianUtils.bytesToINT64s(bulk, 0, dst, offset + done, n);
+        }
+    }
+
+    @Override
+    public void readFloats(final float[] dst, final int offset, final int count) throws IOException {
+        final byte[] bulk = bulk();
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.min(count - done, bulk.length / BinaryLittleEndianUtils.LEN_FLOAT);
+            read(bulk, 0, n * BinaryLittleEndianUtils.LEN_FLOAT);
+            BinaryLittleEndianUtils.bytesToFloats(bulk, 0, dst, offset + done, n);
+        }
+    }
+
+    @Override
+    public void readDoubles(final double[] dst, final int offset, final int count) throws IOException {
+        final byte[] bulk = bulk();
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.min(count - done, bulk.length / BinaryLittleEndianUtils.LEN_REAL);
+            read(bulk, 0, n * BinaryLittleEndianUtils.LEN_REAL);
+            BinaryLittleEndianUtils.bytesToReals(bulk, 0, dst, offset + done, n);
+        }
+    }
+
+    private byte[] bulk() {
+        if (bulk == null) {
+            bulk = new byte[BULK_SIZE];
+        }
+        return bulk;
+    }
+    
     private void read(final byte[] data, final int len) throws IOException {
-        int remaining = len, read = -1, offset = 0;
+        read(data, 0, len);
+    }
+    
+    private void read(final byte[] data, final int off, final int len) throws IOException {
+        int remaining = len, read = -1, offset = off;
         do {
             read = seekable.read(data, offset, remaining);
             if (read < 0) {
@@ -0,0 +1,325 @@
+package com.exceeddata.ac.common.util.reader;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+import com.exceeddata.ac.common.util.binary.BinaryLittleEndianUtils;
+
+/**
+ * Memory Mapped Seekable File Reader, for little or big endian.
+ *
+ * The file is mapped read-only in windows of up to the window size, the whole file when it fits, so primitives are
+ * read from the mapped buffer without a system call and seek within a window only moves the position. A new window is
+ * mapped at the read position when a read crosses the end of the current window. Like RandomAccessFile, seek past the
+ * end of the file is allowed and the next read fails.
+ *
+ */
+public class MappedSeekableFileReader implements BinarySeekableReader {
+    private static final long serialVersionUID = 1L;
+    private static final long DEFAULT_WINDOW_SIZE = Integer.MAX_VALUE;
+    private static final long MIN_WINDOW_SIZE = 8; //the widest primitive read must fit in a window
+    private static final BigInteger UINT64_OFFSET = BigInteger.ONE.shiftLeft(64);
+
+    protected RandomAccessFile seekable = null;
+    protected FileChannel channel = null;
+    protected ByteOrder order = null;
+    protected long length = 0;
+    protected long windowSize = DEFAULT_WINDOW_SIZE;
+    protected MappedByteBuffer buffer = null;
+    protected long windowStart = 0;
+    protected byte[] data = new byte[1024]; //max bytes data, bigger than this we use dynamic allocation.
+
+    public MappedSeekableFileReader(final RandomAccessFile seekable, final ByteOrder order) throws IOException {
+        this(seekable, order, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Construct a reader at the current position of the file.
+     *
+     * @param seekable the file
+     * @param order the byte order
+     * @param windowSize the maximum bytes to map at a time, at least 8 and at most Integer.MAX_VALUE
+     * @throws IOException if the file can not be mapped
+     */
+    public MappedSeekableFileReader(final RandomAccessFile seekable, final ByteOrder order, final long windowSize) throws IOException {
+        this.seekable = seekable;
+        this.channel = seekable.getChannel();
+        this.order = order;
+        this.length = channel.size();
+        this.windowSize = windowSize > 0 && windowSize < DEFAULT_WINDOW_SIZE ? Math.max(windowSize, MIN_WINDOW_SIZE) : DEFAULT_WINDOW_SIZE;
+        map(seekable.getFilePointer());
+    }
+
+    public MappedSeekableFileReader(final MappedSeekableFileReader reader) {
+        this.seekable = reader.seekable;
+        this.channel = reader.channel;
+        this.order = reader.order;
+        this.length = reader.length;
+        this.windowSize = reader.windowSize;
+        this.windowStart = reader.windowStart;
+        this.buffer = (MappedByteBuffer) reader.buffer.duplicate().order(reader.order);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedSeekableFileReader clone() {
+        return new MappedSeekableFileReader(this);
+    }
+
+    /**
+     * Get the byte order of the reader.
+     *
+     * @return ByteOrder
+     */
+    public ByteOrder getOrder() {
+        return order;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readANSI(final int len) throws IOException {
+        final byte[] data = len <= 1024 ? this.data : new byte[len];
+        read(data, len);
+        return BinaryLittleEndianUtils.bytesToANSI(data, 0, len);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean readBool() throws IOException {
+        return ensure(1).get() != 0x00;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public short readINT8() throws IOException {
+        return ensure(1).get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public short readINT16() throws IOException {
+        return ensure(2).getShort();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readINT32() throws IOException {
+        return ensure(4).getInt();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readINT64() throws IOException {
+        return ensure(8).getLong();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public short readUINT8() throws IOException {
+        return (short) (ensure(1).get() & 0xFF);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readUINT16() throws IOException {
+        return ensure(2).getShort() & 0xFFFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readUINT32() throws IOException {
+        return ensure(4).getInt() & 0xFFFFFFFFl;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigInteger readUINT64() throws IOException {
+        final long value = ensure(8).getLong();
+        return value >= 0 ? BigInteger.valueOf(value) : BigInteger.valueOf(value).add(UINT64_OFFSET);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double readDouble() throws IOException {
+        return ensure(8).getDouble();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public float readFloat() throws IOException {
+        return ensure(4).getFloat();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte[] readBytes(final int len) throws IOException {
+        final byte[] bytes = new byte[len];
+        read(bytes, len);
+        return bytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readBytes(final byte[] dst, final int offset, final int len) throws IOException {
+        read(dst, offset, len);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readINT16s(final short[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.max(Math.min(count - done, buffer.remaining() / 2), 1);
+            ensure(n * 2).asShortBuffer().get(dst, offset + done, n);
+            buffer.position(buffer.position() + n * 2);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readINT32s(final int[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.max(Math.min(count - done, buffer.remaining() / 4), 1);
+            ensure(n * 4).asIntBuffer().get(dst, offset + done, n);
+            buffer.position(buffer.position() + n * 4);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readINT64s(final long[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.max(Math.min(count - done, buffer.remaining() / 8), 1);
+            ensure(n * 8).asLongBuffer().get(dst, offset + done, n);
+            buffer.position(buffer.position() + n * 8);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readFloats(final float[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.max(Math.min(count - done, buffer.remaining() / 4), 1);
+            ensure(n * 4).asFloatBuffer().get(dst, offset + done, n);
+            buffer.position(buffer.position() + n * 4);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readDoubles(final double[] dst, final int offset, final int count) throws IOException {
+        for (int done = 0, n; done < count; done += n) {
+            n = Math.max(Math.min(count - done, buffer.remaining() / 8), 1);
+            ensure(n * 8).asDoubleBuffer().get(dst, offset + done, n);
+            buffer.position(buffer.position() + n * 8);
+        }
+    }
+
+    private void read(final byte[] data, final int len) throws IOException {
+        read(data, 0, len);
+    }
+
+    private void read(final byte[] data, final int off, final int len) throws IOException {
+        if (len <= windowSize) {
+            ensure(len).get(data, off, len);
+            return;
+        }
+
+        //larger than a window, read from the channel directly
+        final long pos = getPos();
+        if (len < 0 || pos + len > length) {
+            throw new BinaryEOFException();
+        }
+        final ByteBuffer target = ByteBuffer.wrap(data, off, len);
+        long offset = pos;
+        while (target.hasRemaining()) {
+            final int read = channel.read(target, offset);
+            if (read < 0) {
+                throw new BinaryEOFException();
+            }
+            offset += read;
+        }
+        seek(pos + len);
+    }
+
+    /**
+     * Ensure that len bytes can be read from the buffer, mapping a window at the position if needed.
+     */
+    private ByteBuffer ensure(final int len) throws IOException {
+        if (buffer.remaining() >= len) {
+            return buffer;
+        }
+        final long pos = getPos();
+        if (len < 0 || pos + len > length) {
+            throw new BinaryEOFException();
+        }
+        map(pos);
+        return buffer;
+    }
+
+    private void map(final long pos) throws IOException {
+        if (pos < 0) {
+            throw new BinaryEOFException();
+        }
+        //past the end of the file the window is empty, so the next read fails
+        final long start = Math.min(pos, length);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, length - start));
+        buffer.order(order);
+        windowStart = pos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void seek(final long pos) throws IOException {
+        final long offset = pos - windowStart;
+        if (offset >= 0 && offset <= buffer.limit()) {
+            buffer.position((int) offset);
+        } else {
+            map(pos);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void skipBytes(final int len) throws IOException {
+        final long pos = getPos() + len;
+        if (len < 0 || pos > length) {
+            throw new BinaryEOFException();
+        }
+        seek(pos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getPos() throws IOException {
+        return windowStart + buffer.position();
+    }
+
+    /**
+     * Get the length of the file.
+     *
+     * @return long
+     */
+    public long length() {
+        return length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close()  {
+        buffer = null;
+        channel = null;
+        if (seekable != null) {
+            try {
+                seekable.close();
+            } catch (IOException e) {
+            }
+            seekable = null;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.exceeddata.ac.common.util.writer;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * An <code>ObjectOutput</code> writing the big endian <code>DataOutput</code> format into a growable
+ * byte array, without the stream header and block framing of <code>ObjectOutputStream</code>.
+ * Object writing is not supported.
+ *
+ */
+public final class BytesObjectOutput implements ObjectOutput {
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private byte[] buffer = null;
+    private int position = 0;
+
+    public BytesObjectOutput() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BytesObjectOutput(final int capacity) {
+        this.buffer = new byte[capacity > 0 ? capacity : DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Get the number of bytes written.
+     *
+     * @return int
+     */
+    public int size() {
+        return position;
+    }
+
+    /**
+     * Discard all written bytes while retaining the allocated buffer.
+     */
+    public void clear() {
+        position = 0;
+    }
+
+    /**
+     * Return unsafe reference to the buffer, valid bytes range from 0 to size().
+     *
+     * @return byte[]
+     */
+    public byte[] unsafeBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Return a copy of the written bytes.
+     *
+     * @return byte[]
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Write all written bytes to a ByteBuffer.
+     *
+     * @param out the target buffer
+     */
+    public void writeTo(final ByteBuffer out) {
+        out.put(buffer, 0, position);
+    }
+
+    /**
+     * Write all written bytes to an OutputStream.
+     *
+     * @param out the target stream
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        out.write(buffer, 0, position);
+    }
+
+    /**
+     * Ensure there is room for additional bytes.
+     *
+     * @param len the additional number of bytes
+     */
+    public void ensureRemaining(final int len) {
+        if (position + len > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + len));
+        }
+    }
+
+    /**
+     * Write an unsigned variable-length int, 7 bits per byte.
+     *
+     * @param v the value
+     */
+    public void writeVarInt(int v) {
+        ensureRemaining(5);
+        while ((v & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[position++] = (byte) v;
+    }
+
+    /**
+     * Write an unsigned variable-length long, 7 bits per byte.
+     *
+     * @param v the value
+     */
+    public void writeVarLong(long v) {
+        ensureRemaining(10);
+        while ((v & ~0x7Fl) != 0) {
+            buffer[position++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[position++] = (byte) v;
+    }
+
+    /**
+     * Write a little endian int.
+     *
+     * @param v the value
+     */
+    public void writeIntLE(final int v) {
+        ensureRemaining(4);
+        buffer[position++] = (byte) v;
+        buffer[position++] = (byte) (v >>> 8);
+        buffer[position++] = (byte) (v >>> 16);
+        buffer[position++] = (byte) (v >>> 24);
+    }
+
+    /**
+     * Write a little endian long.
+     *
+     * @param v the value
+     */
+    public void writeLongLE(final long v) {
+        writeIntLE((int) v);
+        writeIntLE((int) (v >>> 32));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) {
+        ensureRemaining(1);
+        buffer[position++] = (byte) b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b) {
+        write(b, 0, b.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        ensureRemaining(len);
+        System.arraycopy(b, off, buffer, position, len);
+        position += len;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBoolean(final boolean v) {
+        write(v ? 1 : 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeByte(final int v) {
+        write(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeShort(final int v) {
+        ensureRemaining(2);
+        buffer[position++] = (byte) (v >>> 8);
+        buffer[position++] = (byte) v;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeChar(final int v) {
+        writeShort(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeInt(final int v) {
+        ensureRemaining(4);
+        buffer[position++] = (byte) (v >>> 24);
+        buffer[position++] = (byte) (v >>> 16);
+        buffer[position++] = (byte) (v >>> 8);
+        buffer[position++] = (byte) v;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeLong(final long v) {
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeFloat(final float v) {
+        writeInt(Float.floatToIntBits(v));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeDouble(final double v) {
+        writeLong(Double.doubleToLongBits(v));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBytes(final String s) {
+        final int len = s.length();
+        ensureRemaining(len);
+        for (int i = 0; i < len; ++i) {
+            buffer[position++] = (byte) s.charAt(i);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeChars(final String s) {
+        final int len = s.length();
+        for (int i = 0; i < len; ++i) {
+            writeChar(s.charAt(i));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeUTF(final String s) throws IOException {
+        final int len = s.length();
+        int utflen = 0;
+        for (int i = 0; i < len; ++i) {
+            final char c = s.charAt(i);
+            utflen += c >= 0x0001 && c <= 0x007F ? 1 : c > 0x07FF ? 3 : 2;
+        }
+        if (utflen > 65535) {
+            throw new UTFDataFormatException("WRITE_UTF_STRING_TOO_LONG");
+        }
+
+        writeShort(utflen);
+        ensureRemaining(utflen);
+        for (int i = 0; i < len; ++i) {
+            final char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                buffer[position++] = (byte) c;
+            } else if (c > 0x07FF) {
+                buffer[position++] = (byte) (0xE0 | ((c >> 12) & 0x0F));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                buffer[position++] = (byte) (0xC0 | ((c >> 6) & 0x1F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeObject(final Object obj) throws IOException {
+        throw new IOException("WRITE_OBJECT_UNSUPPORTED");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+    }
+}
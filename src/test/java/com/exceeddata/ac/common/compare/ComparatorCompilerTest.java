@@ -0,0 +1,85 @@
+package com.exceeddata.ac.common.compare;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Desc;
+import com.exceeddata.ac.common.data.template.PrimitiveDescType;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DataCompare;
+import com.exceeddata.ac.common.data.typedata.DecimalData;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.StringData;
+import com.exceeddata.ac.common.data.typedata.TimestampData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+
+public class ComparatorCompilerTest {
+    private static Template newTemplate() {
+        return new Template()
+                .put("device", new Desc("device", new PrimitiveDescType(Types.STRING)))
+                .put("time", new Desc("time", new PrimitiveDescType(Types.TIMESTAMP)))
+                .put("speed", new Desc("speed", new PrimitiveDescType(Types.DOUBLE)));
+    }
+
+    @Test
+    public void testSameTypeCompare() {
+        final TypeData[] datas = {IntData.valueOf(3), IntData.NULL, LongData.valueOf(-2l), LongData.NULL,
+                DoubleData.valueOf(2.5d), DoubleData.NULL, StringData.valueOf("b"), StringData.NULL,
+                TimestampData.valueOf(7l), TimestampData.NULL, DecimalData.valueOf(BigDecimal.TEN), DecimalData.NULL};
+        for (final TypeData x : datas) {
+            for (final TypeData y : datas) {
+                assertEquals(x + " " + y, Integer.signum(x.compareTo(y)), Integer.signum(DataCompare.compare(x, y)));
+            }
+        }
+    }
+
+    @Test
+    public void testCompiled() {
+        final Random random = new Random(3);
+        final List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 500; ++i) {
+            final Record record = new Record();
+            record.add("device", random.nextInt(10) == 0 ? StringData.NULL : StringData.valueOf("d" + random.nextInt(5)));
+            record.add("time", random.nextInt(10) == 0 ? TimestampData.NULL : TimestampData.valueOf(random.nextInt(50)));
+            if (random.nextInt(10) != 0) {
+                //missing or of another type sometimes
+                record.add("speed", random.nextInt(10) == 0 ? IntData.valueOf(random.nextInt(5)) : DoubleData.valueOf(random.nextInt(20) / 4d));
+            }
+            records.add(record);
+        }
+
+        final String[] names = {"device", "time", "speed"};
+        final ComparatorEnum[] orders = {ComparatorEnum.ASCENDING, ComparatorEnum.DESCENDING};
+        final Comparator<Record> general = new RecordFieldArrayComparator(names, orders, ComparatorEnum.ASCENDING);
+        final Comparator<Record> compiled = new RecordFieldArrayComparator(newTemplate(), names, orders, ComparatorEnum.ASCENDING);
+        for (final Record r1 : records.subList(0, 100)) {
+            for (final Record r2 : records) {
+                assertEquals(Integer.signum(general.compare(r1, r2)), Integer.signum(compiled.compare(r1, r2)));
+            }
+        }
+
+        final List<Record> sorted1 = new ArrayList<>(records), sorted2 = new ArrayList<>(records);
+        Collections.sort(sorted1, general);
+        Collections.sort(sorted2, ComparatorCompiler.compile(newTemplate(), names, orders, ComparatorEnum.ASCENDING));
+        for (int i = 0; i < sorted1.size(); ++i) {
+            assertEquals(0, general.compare(sorted1.get(i), sorted2.get(i)));
+        }
+
+        final Comparator<Record> single = new RecordFieldComparator(newTemplate(), "time", ComparatorEnum.DESCENDING);
+        for (final Record r2 : records) {
+            assertEquals(Integer.signum(r2.get("time").compareTo(records.get(0).get("time"))), Integer.signum(single.compare(records.get(0), r2)));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.exceeddata.ac.common.compare;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Desc;
+import com.exceeddata.ac.common.data.template.PrimitiveDescType;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.StringData;
+import com.exceeddata.ac.common.data.typedata.TimestampData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+
+public class RecordSortKeyEncoderTest {
+    private static final String[] STRINGS = {"", "a", "a\0", "a\0b", "ab", "b", "\u007f", "\u0080", "ÿ", "㿿", "䀀", "￿", "dé"};
+
+    @Test
+    public void testEncode() throws EngineDataException {
+        final Template template = new Template()
+                .put("device", new Desc("device", new PrimitiveDescType(Types.STRING)))
+                .put("time", new Desc("time", new PrimitiveDescType(Types.TIMESTAMP)))
+                .put("speed", new Desc("speed", new PrimitiveDescType(Types.DOUBLE)));
+        final double[] speeds = {-1e300, -2.5d, -0d, 0d, 1.5d, Double.MAX_VALUE, Double.POSITIVE_INFINITY};
+
+        final Random random = new Random(5);
+        final List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 400; ++i) {
+            final Record record = new Record();
+            record.add("device", random.nextInt(10) == 0 ? StringData.NULL : StringData.valueOf(STRINGS[random.nextInt(STRINGS.length)]));
+            record.add("time", random.nextInt(10) == 0 ? TimestampData.NULL : TimestampData.valueOf(random.nextInt(50) - 25l));
+            if (random.nextInt(10) != 0) {
+                //missing sometimes
+                record.add("speed", random.nextInt(10) == 0 ? DoubleData.NULL : DoubleData.valueOf(speeds[random.nextInt(speeds.length)]));
+            }
+            records.add(record);
+        }
+
+        final String[] names = {"device", "time", "speed"};
+        for (final ComparatorEnum[] orders : new ComparatorEnum[][] {null, {ComparatorEnum.DESCENDING, ComparatorEnum.ASCENDING, ComparatorEnum.DESCENDING}}) {
+            final Comparator<Record> comparator = new RecordFieldArrayComparator(names, orders, ComparatorEnum.ASCENDING);
+            final RecordSortKeyEncoder encoder = new RecordSortKeyEncoder(template, names, orders, ComparatorEnum.ASCENDING);
+            final List<byte[]> keys = new ArrayList<>();
+            for (final Record record : records) {
+                keys.add(encoder.encode(record));
+            }
+            for (int i = 0; i < 100; ++i) {
+                for (int j = 0; j < records.size(); ++j) {
+                    assertEquals(records.get(i) + " " + records.get(j),
+                            Integer.signum(comparator.compare(records.get(i), records.get(j))),
+                            Integer.signum(RecordSortKeyEncoder.compare(keys.get(i), keys.get(j))));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStrings() throws EngineDataException {
+        final RecordSortKeyEncoder encoder = new RecordSortKeyEncoder(null, new String[] {"s"});
+        for (final String x : STRINGS) {
+            for (final String y : STRINGS) {
+                final byte[] a = encoder.encode(new Record().add("s", StringData.valueOf(x)));
+                final byte[] b = encoder.encode(new Record().add("s", StringData.valueOf(y)));
+                assertEquals(x + " " + y, Integer.signum(x.compareTo(y)), Integer.signum(RecordSortKeyEncoder.compare(a, b)));
+            }
+        }
+        assertTrue(RecordSortKeyEncoder.compare(new byte[] {1, 2}, new byte[] {1, 2, 0}) < 0);
+        assertTrue(RecordSortKeyEncoder.compare(new byte[] {(byte) 0x80}, 0, 1, new byte[] {0, 0x7F}, 1, 1) > 0);
+    }
+}
@@ -14,8 +14,10 @@ import java.util.List;
 
 import org.junit.Test;
 
+import com.exceeddata.ac.common.data.record.FieldAccessor;
 import com.exceeddata.ac.common.data.record.Record;
 import com.exceeddata.ac.common.data.record.RecordBuilder;
+import com.exceeddata.ac.common.data.record.RecordSchema;
 import com.exceeddata.ac.common.data.typedata.BooleanData;
 import com.exceeddata.ac.common.data.typedata.DecimalData;
 import com.exceeddata.ac.common.data.typedata.DoubleData;
@@ -549,6 +551,53 @@ public class RecordTest {
         }
     }
     
+    @Test
+    public void schemaTest() throws EngineException {
+        final RecordSchema schema = RecordSchema.of("a", "b", "c");
+        assertEquals(true, schema.isFrozen());
+        assertEquals(schema, RecordSchema.of(new String[] {"a", "b", "c"}));
+
+        final Record r1 = new Record(schema).setAt(0, IntData.valueOf(1));
+        final Record r2 = new Record(schema).setAt(1, IntData.valueOf(2));
+        assertEquals(schema, r1.schema());
+        assertEquals(1, r1.get("a").toInt().intValue());
+        assertEquals(true, r1.get("b").isNull());
+        assertEquals(2, r2.get("b").toInt().intValue());
+
+        //copy on write
+        r1.add("d", IntData.valueOf(4));
+        r2.remove("a");
+        assertEquals(3, schema.size());
+        assertEquals(4, r1.size());
+        assertEquals(4, r1.get("d").toInt().intValue());
+        assertEquals(2, r2.size());
+        assertEquals(2, r2.get("b").toInt().intValue());
+        assertEquals(true, new Record(schema).get("d").isNull());
+        assertEquals(0, new Record(schema).indexOf("a"));
+    }
+
+    @Test
+    public void accessorTest() throws EngineException {
+        final RecordSchema schema = RecordSchema.of("time", "speed");
+        final Record r1 = new Record(schema).setAt(1, IntData.valueOf(10));
+        final Record r2 = new Record(schema).setAt(1, IntData.valueOf(20));
+        final Record r3 = new Record().add("speed", IntData.valueOf(30)).add("time", IntData.ZERO);
+
+        final FieldAccessor speed = r1.accessor("speed");
+        assertEquals(1, speed.indexOf(r1));
+        assertEquals(10, speed.get(r1).toInt().intValue());
+        assertEquals(20, speed.get(r2).toInt().intValue());
+        assertEquals(30, speed.get(r3).toInt().intValue());
+        assertEquals(0, speed.indexOf(r3));
+        assertEquals(20, speed.get(r2).toInt().intValue());
+
+        final FieldAccessor gear = FieldAccessor.of("gear");
+        assertEquals(true, gear.get(r1).isNull());
+        gear.set(r1, IntData.ONE);
+        assertEquals(1, gear.get(r1).toInt().intValue());
+        assertEquals(true, gear.get(r2).isNull());
+    }
+
     @Test
     public void testExternalizable() throws IOException, ClassNotFoundException, EngineException {
         final Record record = new Record().add("a", BooleanData.TRUE).add("b", IntData.valueOf(100));
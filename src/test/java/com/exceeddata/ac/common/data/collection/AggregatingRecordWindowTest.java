@@ -0,0 +1,69 @@
+package com.exceeddata.ac.common.data.collection;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+
+public class AggregatingRecordWindowTest {
+
+    @Test
+    public void testSliding() throws EngineDataException {
+        final int capacity = 17;
+        final AggregatingRecordWindow window = new AggregatingRecordWindow(capacity, "speed", "rpm");
+        final int speed = window.indexOf("speed"), rpm = window.indexOf("rpm");
+        assertEquals(-1, window.indexOf("other"));
+        assertEquals(Double.NaN, window.min(speed), 0d);
+
+        final Random random = new Random(13);
+        for (int i = 0; i < 500; ++i) {
+            final Record record = new Record().add("speed", random.nextInt(8) == 0 ? DoubleData.NULL : DoubleData.valueOf(random.nextGaussian() * 1e6));
+            if (random.nextInt(5) != 0) {
+                record.add("rpm", IntData.valueOf(random.nextInt(100)));
+            }
+            final Record first = window.isFull() ? window.peek() : null;
+            assertEquals(first, window.add(record));
+            assertEquals(record, window.peekLast());
+            if (i % 7 == 0 && window.size() > 1) {
+                window.poll();
+            }
+
+            check(window, speed);
+            check(window, rpm);
+        }
+
+        final AggregatingRecordWindow copy = window.copy();
+        window.clear();
+        assertEquals(0, window.count(speed));
+        assertEquals(0d, window.sum(speed), 0d);
+        check(copy, speed);
+    }
+
+    private static void check(final AggregatingRecordWindow window, final int field) throws EngineDataException {
+        final String name = field == 0 ? "speed" : "rpm";
+        double sum = 0d, min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        for (int i = 0; i < window.size(); ++i) {
+            final Record record = window.get(i);
+            if (record.get(name).isNull()) {
+                continue;
+            }
+            final double value = record.get(name).doubleValue();
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            ++count;
+        }
+        assertEquals(count, window.count(field));
+        assertEquals(sum, window.sum(field), 1e-6);
+        assertEquals(count == 0 ? Double.NaN : min, window.min(field), 0d);
+        assertEquals(count == 0 ? Double.NaN : max, window.max(field), 0d);
+        assertEquals(count == 0 ? Double.NaN : sum / count, window.mean(field), 1e-6);
+    }
+}
@@ -0,0 +1,92 @@
+package com.exceeddata.ac.common.data.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.typedata.IntData;
+
+public class ConcurrentRecordQueueTest {
+
+    @Test
+    public void testSingleThread() {
+        final ConcurrentRecordQueue queue = new ConcurrentRecordQueue(3);
+        assertEquals(4, queue.capacity());
+        for (int i = 0; i < 4; ++i) {
+            assertEquals(true, queue.offer(new Record().add("i", IntData.valueOf(i))));
+        }
+        assertFalse(queue.offer(new Record()));
+        assertEquals(4, queue.size());
+        assertEquals(IntData.valueOf(0), queue.poll().get("i"));
+
+        final List<Record> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(IntData.valueOf(2), drained.get(1).get("i"));
+        assertEquals(1, queue.drainTo(new RecordCollection(), 10));
+        assertNull(queue.poll());
+        assertEquals(true, queue.isEmpty());
+    }
+
+    @Test
+    public void testProducers() throws Exception {
+        for (final ConcurrentRecordQueue.WaitStrategy strategy : ConcurrentRecordQueue.WaitStrategy.values()) {
+            //spinning threads starve each other on a single cpu, keep that round short
+            final int producers = 4, count = strategy == ConcurrentRecordQueue.WaitStrategy.BUSY_SPIN ? 500 : 20000;
+            final ConcurrentRecordQueue queue = new ConcurrentRecordQueue(64, strategy);
+            final CountDownLatch done = new CountDownLatch(producers);
+            final List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; ++p) {
+                final int producer = p;
+                final Thread thread = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < count; ++i) {
+                            queue.put(new Record().add("p", IntData.valueOf(producer)).add("i", IntData.valueOf(i)));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            final Thread closer = new Thread(() -> {
+                try {
+                    done.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                queue.close();
+            });
+            closer.start();
+            threads.add(closer);
+
+            //consume through RecordViewQueue, per producer order must hold
+            final RecordViewQueue view = new RecordViewQueue();
+            view.updateDataIterator(queue.iterator());
+            final int[] next = new int[producers];
+            int total = 0;
+            while (view.hasNextIterator()) {
+                final Record record = view.poll();
+                final int p = record.get("p").intValue(), i = record.get("i").intValue();
+                assertEquals(next[p]++, i);
+                ++total;
+            }
+            assertEquals(producers * count, total);
+            for (final Thread thread : threads) {
+                thread.join(10000);
+                assertFalse(strategy + " thread still running", thread.isAlive());
+            }
+            assertNull(queue.take());
+            assertFalse(queue.put(new Record()));
+        }
+    }
+}
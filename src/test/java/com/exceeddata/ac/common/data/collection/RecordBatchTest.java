@@ -0,0 +1,70 @@
+package com.exceeddata.ac.common.data.collection;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Desc;
+import com.exceeddata.ac.common.data.template.PrimitiveDescType;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.StringData;
+import com.exceeddata.ac.common.data.typedata.TimestampData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+public class RecordBatchTest {
+    private static Template newTemplate() {
+        return new Template()
+                .put("time", new Desc("time", new PrimitiveDescType(Types.TIMESTAMP)))
+                .put("speed", new Desc("speed", new PrimitiveDescType(Types.DOUBLE)))
+                .put("gear", new Desc("gear", new PrimitiveDescType(Types.INT)))
+                .put("name", new Desc("name", new PrimitiveDescType(Types.STRING)));
+    }
+
+    @Test
+    public void testAddGet() throws EngineException {
+        final RecordBatch batch = new RecordBatch(newTemplate(), 2);
+        for (int i = 0; i < 100; ++i) {
+            final Record record = new Record()
+                    .add("time", TimestampData.valueOf(1000l * i))
+                    .add("speed", DoubleData.valueOf(i * 0.5d))
+                    .add("name", StringData.valueOf("n" + i));
+            if (i % 2 == 0) {
+                record.add("gear", IntData.valueOf(i));
+            }
+            batch.add(record);
+        }
+
+        assertEquals(100, batch.size());
+        assertEquals(99000l, batch.getLong(99, 0));
+        assertEquals(49.5d, batch.getDouble(99, 1), 0d);
+        assertEquals(true, batch.isNull(99, 2));
+        assertEquals(false, batch.isNull(98, 2));
+        assertEquals(98, batch.getInt(98, 2));
+
+        final Record r = batch.get(98);
+        assertEquals(4, r.size());
+        assertEquals("n98", r.get("name").toString());
+        assertEquals(Integer.valueOf(98), r.get("gear").toInt());
+        assertEquals(true, batch.get(99).get("gear").isNull());
+        assertEquals(100, batch.toCollection().size());
+    }
+
+    @Test
+    public void testReuse() throws EngineException {
+        final RecordBatch batch = new RecordBatch(newTemplate());
+        final int row = batch.addRow();
+        batch.setLong(row, 0, 5l).setDouble(row, 1, 1.5d);
+
+        final Record record = batch.fill(row, batch.newRecord());
+        assertEquals(Long.valueOf(5l), record.get("time").toLong());
+        assertEquals(Double.valueOf(1.5d), record.get("speed").toDouble());
+        assertEquals(true, record.get("name").isNull());
+
+        batch.clear();
+        assertEquals(0, batch.size());
+    }
+}
@@ -2,9 +2,12 @@ package com.exceeddata.ac.common.data.collection;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.stream.Collectors;
+
 import org.junit.Test;
 
 import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.typedata.IntData;
 import com.exceeddata.ac.common.data.typedata.StringData;
 
 public class RecordCollectionTest {
@@ -102,4 +105,29 @@ public class RecordCollectionTest {
         assertEquals(d.peek(6).dataAt(0).toString(), "h");
         assertEquals(d.peek(7).dataAt(0).toString(), "i");
     }
+    
+    @Test
+    public void testParallel() {
+        final RecordCollection d = new RecordCollection(100);
+        for (int i = 0; i < 100; ++i) {
+            d.add(new Record().add("f1", IntData.valueOf((i * 37) % 100)));
+        }
+        for (int i = 0; i < 30; ++i) {
+            d.poll();
+        }
+        for (int i = 0; i < 30; ++i) {
+            d.add(new Record().add("f1", IntData.valueOf(100 + i)));
+        }
+        
+        //wraps around the end of the array
+        assertEquals(100, d.spliterator().estimateSize());
+        assertEquals(100l, d.parallelStream().count());
+        assertEquals(d.stream().mapToInt(r -> r.dataAt(0).hashCode()).sum(), d.parallelStream().mapToInt(r -> r.dataAt(0).hashCode()).sum());
+        assertEquals(d.getAll(), d.parallelStream().collect(Collectors.toList()));
+        
+        d.parallelSort((r1, r2) -> r2.compareTo(r1));
+        for (int i = 1; i < d.size(); ++i) {
+            assertEquals(d.get(i - 1).compareTo(d.get(i)) > 0, true);
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.exceeddata.ac.common.data.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.compare.ComparatorEnum;
+import com.exceeddata.ac.common.compare.RecordFieldArrayComparator;
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.StringData;
+
+public class RecordExternalSorterTest {
+
+    @Test
+    public void testSort() throws IOException {
+        final Comparator<Record> comparator = new RecordFieldArrayComparator(new String[] {"device", "time"}, null, ComparatorEnum.ASCENDING);
+        final Random random = new Random(11);
+        for (final int count : new int[] {0, 1, 50, 1000, 3001}) {
+            final List<Record> records = new ArrayList<>();
+            for (int i = 0; i < count; ++i) {
+                records.add(new Record()
+                        .add("device", StringData.valueOf("d" + random.nextInt(7)))
+                        .add("time", LongData.valueOf(random.nextInt(100000)))
+                        .add("speed", random.nextInt(10) == 0 ? DoubleData.NULL : DoubleData.valueOf(random.nextDouble())));
+            }
+            final List<Record> expected = new ArrayList<>(records);
+            Collections.sort(expected, comparator);
+
+            for (final long budget : new long[] {1l << 30, 5000l, 100l}) {
+                try (final RecordExternalSorter sorter = new RecordExternalSorter(comparator, budget, null)) {
+                    sorter.addAll(records);
+                    assertEquals(count, sorter.size());
+                    final Iterator<Record> iterator = sorter.iterator();
+                    for (int i = 0; i < count; ++i) {
+                        final Record record = iterator.next();
+                        assertEquals(0, comparator.compare(expected.get(i), record));
+                        assertEquals(3, record.size());
+                    }
+                    assertFalse(iterator.hasNext());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMergePasses() throws IOException {
+        //equal keys keep the order they were added through several merge passes
+        final Comparator<Record> comparator = new RecordFieldArrayComparator(new String[] {"device"}, null, ComparatorEnum.ASCENDING);
+        final Random random = new Random(13);
+        final List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 500; ++i) {
+            records.add(new Record().add("device", StringData.valueOf("d" + random.nextInt(5))).add("seq", LongData.valueOf(i)));
+        }
+        final List<Record> expected = new ArrayList<>(records);
+        Collections.sort(expected, comparator);
+
+        try (final RecordExternalSorter sorter = new RecordExternalSorter(comparator, 600l, null, 3)) {
+            sorter.addAll(records);
+            assertEquals(true, sorter.runs() > 27);
+            final Iterator<Record> iterator = sorter.iterator();
+            assertEquals(true, sorter.runs() <= 3);
+            for (final Record record : expected) {
+                assertEquals(record, iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+}
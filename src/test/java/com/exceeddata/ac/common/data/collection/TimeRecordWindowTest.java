@@ -0,0 +1,150 @@
+package com.exceeddata.ac.common.data.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.typedata.InstantData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.TimestampData;
+import com.exceeddata.ac.common.exception.EngineDataException;
+import com.exceeddata.ac.common.exception.EngineException;
+import com.exceeddata.ac.common.exception.operation.ParameterValueException;
+import com.exceeddata.ac.common.message.MessageConstants;
+
+public class TimeRecordWindowTest {
+    private static final String TIME = MessageConstants.TIME;
+
+    private static List<Record> newRecords() {
+        final Random random = new Random(17);
+        final List<Record> records = new ArrayList<>();
+        long time = -500l;
+        for (int i = 0; i < 300; ++i) {
+            time += random.nextInt(8) == 0 ? random.nextInt(400) : random.nextInt(20);
+            records.add(new Record().add(TIME, TimestampData.valueOf(time)).add("i", IntData.valueOf(i)));
+        }
+        return records;
+    }
+
+    private static long time(final Record record) throws EngineDataException {
+        return record.get(TIME).longValue();
+    }
+
+    @Test
+    public void testSliding() throws EngineException {
+        final TimeRecordWindow window = new TimeRecordWindow(TIME, 100l);
+        for (final Record record : newRecords()) {
+            window.add(record);
+            final long last = time(record);
+            assertEquals(record, window.peekLast());
+            assertEquals(true, time(window.peek()) > last - 100l);
+            for (int i = 0; i < window.size(); ++i) {
+                assertEquals(true, time(window.get(i)) > last - 100l);
+            }
+        }
+
+        final TimeRecordWindow instants = new TimeRecordWindow(TIME, 1000l);
+        instants.add(new Record().add(TIME, InstantData.valueOf(java.time.Instant.ofEpochMilli(5000l))));
+        assertEquals(1, instants.add(new Record().add(TIME, InstantData.valueOf(java.time.Instant.ofEpochMilli(6000l)))));
+        try {
+            instants.add(new Record());
+            fail();
+        } catch (EngineDataException e) {
+            assertEquals("DATA_TIME_NULL: " + TIME, e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSession() throws EngineException {
+        final SessionRecordWindow window = new SessionRecordWindow(TIME, 50l);
+        final List<Record> records = newRecords();
+        final List<RecordCollection> sessions = new ArrayList<>();
+        for (final Record record : records) {
+            final RecordCollection session = window.add(record);
+            if (session != null) {
+                sessions.add(session);
+            }
+        }
+        sessions.add(window.flush());
+
+        int n = 0;
+        for (final RecordCollection session : sessions) {
+            for (int i = 0; i < session.size(); ++i) {
+                final Record record = records.get(n++);
+                assertEquals(record, session.get(i));
+                if (i > 0) {
+                    assertEquals(true, time(record) - time(session.get(i - 1)) <= 50l);
+                } else if (n > 1) {
+                    assertEquals(true, time(record) - time(records.get(n - 2)) > 50l);
+                }
+            }
+        }
+        assertEquals(records.size(), n);
+        assertNull(window.add(records.get(0)));
+    }
+
+    @Test
+    public void testHopping() throws EngineException {
+        final List<Record> records = newRecords();
+        for (final long[] params : new long[][] {{100l, 100l}, {100l, 30l}, {40l, 70l}}) {
+            final long size = params[0], hop = params[1];
+            final HoppingRecordWindow window = new HoppingRecordWindow(TIME, size, hop);
+            final List<RecordCollection> windows = new ArrayList<>();
+            for (final Record record : records) {
+                windows.addAll(window.add(record));
+            }
+            windows.addAll(window.flush());
+
+            //expected non-empty windows from scanning all records
+            final List<List<Record>> expected = new ArrayList<>();
+            final long last = time(records.get(records.size() - 1));
+            for (long start = Math.floorDiv(time(records.get(0)) - size, hop) * hop; start <= last; start += hop) {
+                final List<Record> members = new ArrayList<>();
+                for (final Record record : records) {
+                    if (time(record) >= start && time(record) < start + size) {
+                        members.add(record);
+                    }
+                }
+                if (!members.isEmpty()) {
+                    expected.add(members);
+                }
+            }
+
+            assertEquals(size + "/" + hop, expected.size(), windows.size());
+            for (int i = 0; i < expected.size(); ++i) {
+                assertEquals(expected.get(i), windows.get(i).getAll());
+            }
+        }
+        assertEquals(100l, HoppingRecordWindow.tumbling(TIME, 100l).getHop());
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        for (final long[] params : new long[][] {{0l, 0l}, {0l, 10l}, {10l, 0l}, {-10l, 10l}, {10l, -5l}}) {
+            try {
+                new HoppingRecordWindow(TIME, params[0], params[1]);
+                fail("expected invalid size or hop");
+            } catch (ParameterValueException e) {
+            }
+        }
+        for (final long value : new long[] {0l, -1l}) {
+            try {
+                new TimeRecordWindow(TIME, value);
+                fail("expected invalid span");
+            } catch (ParameterValueException e) {
+            }
+            try {
+                new SessionRecordWindow(TIME, value);
+                fail("expected invalid gap");
+            } catch (ParameterValueException e) {
+            }
+        }
+    }
+}
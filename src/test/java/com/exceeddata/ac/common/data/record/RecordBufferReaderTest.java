@@ -0,0 +1,54 @@
+package com.exceeddata.ac.common.data.record;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.TypeDataBufferReader;
+import com.exceeddata.ac.common.exception.EngineException;
+import com.exceeddata.ac.common.util.writer.BytesObjectOutput;
+
+public class RecordBufferReaderTest {
+
+    @Test
+    public void testBufferReader() throws IOException, EngineException {
+        final Record record = RecordCodecTest.newRecord();
+        final Record other = new Record().add("a1", IntData.valueOf(7)).add("b2", DoubleData.valueOf(2.5d));
+        final BytesObjectOutput out = new BytesObjectOutput();
+        record.writeExternal(out);
+        final int offset = out.size();
+        other.writeExternal(out);
+        record.writeExternal(out);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        final RecordBufferReader reader = new RecordBufferReader(buffer);
+        assertEquals(record, reader.read());
+        assertEquals(other, reader.read());
+        assertEquals(record, reader.read());
+        assertEquals(false, reader.hasRemaining());
+        assertEquals(other, reader.read(offset));
+
+        reader.position(0);
+        final Record first = reader.next();
+        assertEquals(record, first);
+        final Record kept = reader.detach(first);
+        assertEquals(other, reader.next());
+        final Record third = reader.next();
+        assertEquals(record, third);
+        assertEquals(record, kept);
+        assertEquals(third, reader.next(0));
+        assertEquals(100000, third.get("a5").toInt().intValue());
+
+        //decoded names are not interned
+        assertNotSame(RecordSchema.of(other.names()), reader.next(offset).unsafeSchema());
+
+        assertEquals(2.5d, TypeDataBufferReader.readTypeData(ByteBuffer.wrap(new byte[] {0, 64, 4, 0, 0, 0, 0, 0, 0}), Types.DOUBLE).toDouble().doubleValue(), 0d);
+    }
+}
@@ -0,0 +1,95 @@
+package com.exceeddata.ac.common.data.record;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.typedata.BinaryData;
+import com.exceeddata.ac.common.data.typedata.BooleanData;
+import com.exceeddata.ac.common.data.typedata.DateData;
+import com.exceeddata.ac.common.data.typedata.DecimalData;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.FloatData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.ListData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.StringData;
+import com.exceeddata.ac.common.data.typedata.TimestampData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+public class RecordCodecTest {
+
+    static Record newRecord() throws EngineException {
+        final Record record = new Record();
+        record.add("a1", BooleanData.NULL);
+        record.add("a2", BooleanData.TRUE);
+        record.add("a3", IntData.NULL);
+        record.add("a4", IntData.valueOf(-300));
+        record.add("a5", IntData.valueOf(100000));
+        record.add("a6", LongData.valueOf(10000000000l));
+        record.add("a7", FloatData.valueOf(100f));
+        record.add("a8", DoubleData.valueOf(-2.5d));
+        record.add("a9", DecimalData.valueOf(new BigDecimal("0.13828")));
+        record.add("a10", StringData.EMPTY);
+        record.add("a11", StringData.valueOf("coolé"));
+        record.add("a12", BinaryData.valueOf("cool"));
+        record.add("a13", DateData.valueOf("2017-10-15"));
+        record.add("a14", TimestampData.valueOf("2017-10-15 11:20:31.281"));
+        record.add("a15", new ListData(new ArrayList<>(Arrays.asList(new TypeData[] {DoubleData.valueOf(1d), DoubleData.valueOf(0d)}))));
+        return record;
+    }
+
+    @Test
+    public void testCodec() throws IOException, EngineException {
+        final Record record = newRecord();
+        final Record other = new Record().add("b1", IntData.valueOf(-5)).add("b2", StringData.valueOf("x"));
+        final RecordCodec codec = new RecordCodec();
+        codec.encode(record).encode(record.dataCopy()).encode(other).encode(record);
+
+        final List<Record> records = RecordCodec.decodeAll(codec.toByteArray());
+        assertEquals(4, records.size());
+        assertEquals(record, records.get(0));
+        assertEquals(record, records.get(1));
+        assertEquals(other, records.get(2));
+        assertEquals(record, records.get(3));
+        assertEquals("a15", records.get(3).nameAt(14));
+        assertEquals(-5, records.get(2).get("b1").toInt().intValue());
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final ObjectOutputStream oos = new ObjectOutputStream(bos);
+        for (int i = 0; i < 4; ++i) {
+            record.writeExternal(oos);
+        }
+        oos.close();
+        assertEquals(true, codec.size() < bos.size());
+    }
+
+    @Test
+    public void testDecodedSchema() throws IOException, EngineException {
+        final RecordCodec codec = new RecordCodec();
+        codec.encode(new Record().add("c1", IntData.valueOf(1)).add("c2", IntData.valueOf(2)));
+        codec.encode(new Record().add("c1", IntData.valueOf(3)).add("c2", IntData.valueOf(4)));
+
+        final RecordCodec decoder = new RecordCodec();
+        final ByteBuffer buffer = ByteBuffer.wrap(codec.toByteArray());
+        final Record first = decoder.decode(buffer), second = decoder.decode(buffer);
+        assertEquals(4, second.get("c2").toInt().intValue());
+        assertSame(first.unsafeSchema(), second.unsafeSchema());
+        assertEquals(true, first.unsafeSchema().isFrozen());
+
+        //decoded names are not interned
+        assertNotSame(RecordSchema.of("c1", "c2"), first.unsafeSchema());
+    }
+}
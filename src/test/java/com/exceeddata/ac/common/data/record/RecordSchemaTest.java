@@ -0,0 +1,26 @@
+package com.exceeddata.ac.common.data.record;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class RecordSchemaTest {
+
+    @Test
+    public void testInternBound() {
+        final RecordSchema schema = RecordSchema.of("x", "y");
+        assertSame(schema, RecordSchema.of("x", "y"));
+
+        //one schema per query or file must not grow the intern table without bound
+        for (int i = 0; i < RecordSchema.MAX_INTERNED * 3; ++i) {
+            RecordSchema.of("x", "y" + i);
+        }
+        assertEquals(true, RecordSchema.INTERNED.size() <= RecordSchema.MAX_INTERNED);
+
+        final RecordSchema other = RecordSchema.of("x", "y");
+        assertEquals(2, other.size());
+        assertEquals(1, other.indexOf("y"));
+        assertSame(other, RecordSchema.of("x", "y"));
+    }
+}
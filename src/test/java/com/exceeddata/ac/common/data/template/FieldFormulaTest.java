@@ -0,0 +1,117 @@
+package com.exceeddata.ac.common.data.template;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.DecimalData;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+public class FieldFormulaTest {
+    @Test
+    public void testLinear() throws EngineException {
+        final FieldFormulaLinear linear = new FieldFormulaLinear(null, new BigDecimal("0.1"), new BigDecimal("-40"));
+        assertEquals(true, linear.isPrimitive());
+
+        final TypeData whole = linear.calculate(IntData.valueOf(500));
+        assertEquals(Types.LONG, whole.getType());
+        assertEquals(10l, whole.toLong().longValue());
+
+        final TypeData fraction = linear.calculate(IntData.valueOf(3));
+        assertEquals(Types.DOUBLE, fraction.getType());
+        assertEquals(-39.7d, fraction.toDouble().doubleValue(), 0d);
+        assertEquals(fraction, linear.calculate(DecimalData.valueOf(new BigDecimal(3))));
+
+        assertEquals(-39.7d, linear.calculateDouble(3d), 1e-12);
+        assertEquals(10l, linear.calculateLong(500l));
+        assertEquals(-39l, linear.calculateLong(3l));
+
+        final FieldFormulaLinear decimal = new FieldFormulaLinear(new PrimitiveDescType(Types.DECIMAL), BigDecimal.ONE, BigDecimal.ZERO);
+        assertEquals(false, decimal.isPrimitive());
+    }
+
+    @Test
+    public void testInterpolate() throws EngineException {
+        final FieldFormulaInterpolate formula = new FieldFormulaInterpolate(null, new ArrayList<>(Arrays.asList(
+                new BigDecimal(0), new BigDecimal(0),
+                new BigDecimal(10), new BigDecimal(100),
+                new BigDecimal(20), new BigDecimal(300),
+                new BigDecimal(40), new BigDecimal(500))));
+        //inner values use the segment starting at the next breakpoint, as the decimal walk always has
+        assertEquals(-50d, formula.calculateDouble(-5d), 0d);
+        assertEquals(0d, formula.calculateDouble(5d), 0d);
+        assertEquals(100d, formula.calculateDouble(10d), 0d);
+        assertEquals(250d, formula.calculateDouble(15d), 0d);
+        assertEquals(300d, formula.calculateDouble(20d), 0d);
+        assertEquals(400d, formula.calculateDouble(30d), 0d);
+        assertEquals(500d, formula.calculateDouble(40d), 0d);
+        assertEquals(600d, formula.calculateDouble(50d), 0d);
+        assertEquals(250d, formula.calculate(LongData.valueOf(15l)).toDouble().doubleValue(), 0d);
+        assertEquals(250d, formula.calculate(DecimalData.valueOf(new BigDecimal(15))).toDouble().doubleValue(), 0d);
+        assertEquals(0d, formula.calculate(DecimalData.valueOf(new BigDecimal(5))).toDouble().doubleValue(), 0d);
+    }
+    
+    @Test
+    public void testLookupTableEmpty() {
+        try {
+            new FieldFormulaDecode(null, Arrays.asList((TypeData) IntData.valueOf(1)));
+            fail("expected empty table");
+        } catch (EngineException e) {
+        }
+        try {
+            new FieldFormulaInterpolate(null, new ArrayList<>(Arrays.asList(BigDecimal.ONE)));
+            fail("expected empty table");
+        } catch (EngineException e) {
+        }
+    }
+
+    @Test
+    public void testDecode() throws EngineException {
+        final FieldFormulaDecode formula = new FieldFormulaDecode(null, Arrays.asList(
+                IntData.valueOf(0), DoubleData.valueOf(1.5d),
+                IntData.valueOf(10), DoubleData.valueOf(2.5d),
+                IntData.valueOf(20), DoubleData.valueOf(3.5d)));
+        for (int i = -5; i < 30; ++i) {
+            assertEquals(formula.calculate(DecimalData.valueOf(new BigDecimal(i))), formula.calculate(IntData.valueOf(i)));
+            assertEquals(formula.calculate(IntData.valueOf(i)).toDouble().doubleValue(), formula.calculateDouble(i), 0d);
+        }
+        assertEquals(2.5d, formula.calculateDouble(12d), 0d);
+        assertEquals(3.5d, formula.calculateDouble(16d), 0d);
+        assertEquals(true, Double.isNaN(formula.calculateDouble(Double.NaN)));
+        assertEquals(true, formula.calculate(DoubleData.valueOf(Double.NaN)).isNull());
+    }
+
+    @Test
+    public void testLookupTable() throws EngineException {
+        //uniform, non-uniform and unsorted breakpoints against the decimal path
+        final int[][] grids = {
+                {0, 4, 8, 12, 16, 20, 24, 28, 32, 36, 40, 44, 48, 52, 56, 60},
+                {0, 1, 3, 7, 8, 16, 20, 32, 40, 41, 50, 64, 80, 100, 128, 200},
+                {0, 8, 4, 16, 12, 32}};
+        for (final int[] grid : grids) {
+            final ArrayList<BigDecimal> list = new ArrayList<>();
+            for (int i = 0; i < grid.length; ++i) {
+                list.add(new BigDecimal(grid[i]));
+                list.add(new BigDecimal(grid[i] * grid[i]));
+            }
+            final FieldFormulaInterpolate interpolate = new FieldFormulaInterpolate(null, list);
+            final FieldFormulaDecode decode = new FieldFormulaDecode(null, list);
+            for (int v = -10; v < 220; ++v) {
+                final DecimalData decimal = DecimalData.valueOf(new BigDecimal(v).divide(new BigDecimal(2)));
+                final DoubleData primitive = DoubleData.valueOf(v / 2d);
+                assertEquals(interpolate.calculate(decimal).toDouble(), interpolate.calculate(primitive).toDouble(), 1e-9);
+                assertEquals(decode.calculate(decimal), decode.calculate(primitive));
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.exceeddata.ac.common.data.typedata;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class DataCacheTest {
+    @Test
+    public void testClockCache() {
+        final ClockCacheStore<Integer, String> cache = new ClockCacheStore<>(4, 1);
+        for (int i = 0; i < 4; ++i) {
+            cache.put(i, "v" + i);
+        }
+        assertEquals(4, cache.size());
+        assertEquals("v0", cache.get(0));
+        assertEquals("v1", cache.get(1));
+
+        //2 is the first unreferenced entry for the clock hand
+        cache.put(4, "v4");
+        assertEquals(4, cache.size());
+        assertEquals(null, cache.get(2));
+        assertEquals("v0", cache.get(0));
+        assertEquals("v4", cache.getOrPut(4, k -> "x"));
+        assertEquals("v5", cache.getOrPut(5, k -> "v" + k));
+        assertEquals(4, cache.hits());
+        assertEquals(2, cache.misses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(null, cache.get(0));
+    }
+
+    @Test
+    public void testClockCacheConcurrent() throws InterruptedException {
+        final ClockCacheStore<Integer, String> cache = new ClockCacheStore<>(256, 4);
+        final AtomicInteger mismatches = new AtomicInteger();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; ++t) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20000; ++i) {
+                    final int key = i % 512;
+                    if (!("v" + key).equals(cache.getOrPut(key, k -> "v" + k))) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, mismatches.get());
+        assertEquals(true, cache.size() <= cache.capacity());
+        assertEquals(80000, cache.hits() + cache.misses());
+    }
+
+    @Test
+    public void testThreadLocalLruCache() {
+        final ThreadLocalLruCacheStore<Integer, String> cache = new ThreadLocalLruCacheStore<>(2);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        assertEquals("a", cache.get(1));
+        cache.put(3, "c");
+        assertEquals(null, cache.get(2));
+        assertEquals("a", cache.get(1));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testDataCache() {
+        final StringData s1 = StringData.valueOf(new String("engine"));
+        final StringData s2 = StringData.valueOf(new String("engine"));
+        assertEquals(true, s1 == s2);
+        assertEquals(true, DateData.valueOf("2017-10-15") == DateData.valueOf("2017-10-15"));
+        assertEquals(true, DataCache.getStringStore().hits() > 0);
+
+        final DataCacheStore<String, StringData> store = DataCache.getStringStore();
+        try {
+            DataCache.setStringStore(null);
+            assertEquals(false, StringData.valueOf("engine") == StringData.valueOf("engine"));
+        } finally {
+            DataCache.setStringStore(store);
+        }
+    }
+
+    @Test
+    public void testNullString() {
+        assertEquals(true, DataCache.getOrPutStringData(null).isNull());
+        assertEquals(true, StringData.nonNullValueOf(null).isNull());
+        assertEquals(true, StringData.valueCacheOf(null).isNull());
+        assertEquals(true, StringData.valueOf((String) null) == StringData.NULL);
+        assertEquals(null, DataCache.getOrPutTimeZone(null));
+    }
+
+    @Test
+    public void testDateFormatter() {
+        assertEquals(true, DateData.valueOf("2020-03-04", DateTimeFormatter.ofPattern("yyyy/MM/dd")).isNull());
+        assertEquals(DateData.valueOf("2020-03-04", "yyyy-MM-dd"), DateData.valueOf("2020-03-04"));
+        assertEquals(false, DateData.valueOf("2020-03-04").isNull());
+        assertEquals(DateData.valueOf("2020-03-04"), DateData.valueOf("2020/03/04", DateTimeFormatter.ofPattern("yyyy/MM/dd")));
+        assertEquals(DateData.valueOf("2020-04-03"), DateData.valueOf("2020/03/04", DateTimeFormatter.ofPattern("yyyy/dd/MM")));
+    }
+
+    @Test
+    public void testInternPools() {
+        assertEquals(true, IntData.valueOf(1023) == IntData.nonNullValueOf(1023));
+        assertEquals(true, IntData.valueOf(-128) == IntData.valueOf(Integer.valueOf(-128)));
+        assertEquals(true, IntData.ZERO == IntData.valueOf(0));
+        assertEquals(false, IntData.valueOf(1024) == IntData.valueOf(1024));
+        assertEquals(1024, IntData.valueOf(1024).toInt().intValue());
+        assertEquals(true, LongData.ONE == LongData.nonNullValueOf(1l));
+        assertEquals(true, LongData.valueOf(500l) == LongData.valueOf(500l));
+        assertEquals(true, DoubleData.valueOf(42d) == DoubleData.nonNullValueOf(42d));
+        assertEquals(false, DoubleData.nonNullValueOf(-0d) == DoubleData.ZERO);
+        assertEquals(false, DoubleData.nonNullValueOf(0.5d) == DoubleData.nonNullValueOf(0.5d));
+        assertEquals(true, FloatData.valueOf("7") == FloatData.nonNullValueOf(7f));
+        assertEquals(true, BooleanData.TRUE == BooleanData.valueOf(true));
+    }
+}
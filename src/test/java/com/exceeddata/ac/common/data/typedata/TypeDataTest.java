@@ -348,4 +348,26 @@ public class TypeDataTest {
         assertEquals(1, sparse3.compareTo(sparse5));
         assertEquals(-1, sparse4.compareTo(sparse5));
     }
+    
+    @Test
+    public void testPrimitiveValues() throws EngineException {
+        final TypeData[] datas = {IntData.valueOf(7), LongData.valueOf(-7l), FloatData.valueOf(1.1f), DoubleData.valueOf(2.5d),
+                new NumericData(3.75d), BooleanData.TRUE, StringData.valueOf("12")};
+        for (final TypeData data : datas) {
+            assertEquals(data.toInt().intValue(), data.intValue());
+            assertEquals(data.toLong().longValue(), data.longValue());
+            assertEquals(data.toFloat().floatValue(), data.floatValue(), 0f);
+            assertEquals(data.toDouble().doubleValue(), data.doubleValue(), 0d);
+        }
+        assertEquals(true, BooleanData.TRUE.booleanValue());
+        assertEquals(true, IntData.valueOf(7).booleanValue());
+        
+        final TypeData[] nulls = {IntData.NULL, LongData.NULL, FloatData.NULL, DoubleData.NULL, NumericData.NULL, BooleanData.NULL, StringData.NULL};
+        for (final TypeData data : nulls) {
+            assertEquals(0, data.intValue());
+            assertEquals(0l, data.longValue());
+            assertEquals(0d, data.doubleValue(), 0d);
+            assertEquals(false, data.booleanValue());
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package com.exceeddata.ac.common.message;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.collection.RecordBatch;
+import com.exceeddata.ac.common.data.collection.RecordCollection;
+import com.exceeddata.ac.common.data.record.Record;
+import com.exceeddata.ac.common.data.template.Desc;
+import com.exceeddata.ac.common.data.template.PrimitiveDescType;
+import com.exceeddata.ac.common.data.template.Template;
+import com.exceeddata.ac.common.data.type.Types;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+public class MessageDecoderTest {
+    private static final MessageDesc DESC = () -> Instant.EPOCH;
+
+    private static final class StubMessage implements MessageContent {
+        private static final long serialVersionUID = 1L;
+        private final long id;
+        private final boolean error;
+
+        StubMessage(final long id, final boolean error) {
+            this.id = id;
+            this.error = error;
+        }
+
+        @Override public int getChannelID() { return 1; }
+        @Override public long getMessageID() { return id; }
+        @Override public boolean isError() { return error; }
+        @Override public long getNanosOffset() { return id * 1000l; }
+        @Override public int getDataLength() { return 0; }
+        @Override public MessageDirection getDirection() { return null; }
+        @Override public byte[] getData() { return new byte[0]; }
+    }
+
+    /**
+     * Decodes the message id, into "even" or "odd" by parity, and "value" as id * 10 when decoding or id when
+     * interpreting. Error messages decode to no record.
+     */
+    private static final class StubDecoder implements MessageDecoder {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public boolean getOutputOffset() {
+            return false;
+        }
+
+        @Override
+        public Record compute(final MessageDesc desc, final MessageContent message, final boolean applyFormula) {
+            return compute(desc, message, new Record(), applyFormula);
+        }
+
+        @Override
+        public Record compute(final MessageDesc desc, final MessageContent message, final Record target, final boolean applyFormula) {
+            return applyFormula ? decode(desc, message, target) : interpret(desc, message, target);
+        }
+
+        @Override
+        public Record decode(final MessageDesc desc, final MessageContent message) {
+            return decode(desc, message, new Record());
+        }
+
+        @Override
+        public Record decode(final MessageDesc desc, final MessageContent message, final Record target) {
+            return fill(message, target, 10l);
+        }
+
+        @Override
+        public Record interpret(final MessageDesc desc, final MessageContent message) {
+            return interpret(desc, message, new Record());
+        }
+
+        @Override
+        public Record interpret(final MessageDesc desc, final MessageContent message, final Record target) {
+            return fill(message, target, 1l);
+        }
+
+        private static Record fill(final MessageContent message, final Record target, final long factor) {
+            if (message.isError()) {
+                return null;
+            }
+            final long id = message.getMessageID();
+            return target.add(id % 2 == 0 ? "even" : "odd", LongData.valueOf(id)).add("value", LongData.valueOf(id * factor));
+        }
+
+        @Override
+        public void select(final Set<String> selectedAttributes) {
+        }
+    }
+
+    private static MessageContent[] newMessages() {
+        //ids 0 to 9, 3 and 6 are errors
+        final MessageContent[] messages = new MessageContent[10];
+        for (int i = 0; i < messages.length; ++i) {
+            messages[i] = new StubMessage(i, i == 3 || i == 6);
+        }
+        return messages;
+    }
+
+    private static Template newTemplate() {
+        return new Template()
+                .put("even", new Desc("even", new PrimitiveDescType(Types.LONG)))
+                .put("odd", new Desc("odd", new PrimitiveDescType(Types.LONG)))
+                .put("value", new Desc("value", new PrimitiveDescType(Types.LONG)));
+    }
+
+    @Test
+    public void testCollection() throws EngineException {
+        final StubDecoder decoder = new StubDecoder();
+        final MessageContent[] messages = newMessages();
+
+        final RecordCollection sink = new RecordCollection();
+        assertEquals(3, decoder.computeAll(DESC, messages, 2, 5, sink, true));
+        assertEquals(3, sink.size());
+        assertEquals(20l, sink.get(0).get("value").toLong().longValue());
+        assertEquals(40l, sink.get(1).get("value").toLong().longValue());
+        assertEquals(50l, sink.get(2).get("value").toLong().longValue());
+        assertEquals(true, sink.get(2).get("even").isNull());
+
+        final RecordCollection all = new RecordCollection();
+        assertEquals(8, decoder.interpretAll(DESC, messages, 0, messages.length, all));
+        assertEquals(9l, all.get(7).get("value").toLong().longValue());
+
+        final List<MessageContent> list = new ArrayList<>(Arrays.asList(messages).subList(5, 10));
+        final RecordCollection decoded = new RecordCollection();
+        assertEquals(4, decoder.decodeAll(DESC, list, decoded));
+        assertEquals(90l, decoded.get(3).get("value").toLong().longValue());
+        final RecordCollection interpreted = new RecordCollection();
+        assertEquals(4, decoder.interpretAll(DESC, list, interpreted));
+        assertEquals(9l, interpreted.get(3).get("value").toLong().longValue());
+
+        assertEquals(0, decoder.computeAll(DESC, messages, 4, 0, new RecordCollection(), true));
+    }
+
+    @Test
+    public void testBatch() throws EngineException {
+        final StubDecoder decoder = new StubDecoder();
+        final MessageContent[] messages = newMessages();
+
+        final RecordBatch batch = new RecordBatch(newTemplate());
+        assertEquals(5, decoder.decodeAll(DESC, messages, 1, 7, batch));
+        assertEquals(5, batch.size());
+        for (int row = 0; row < batch.size(); ++row) {
+            //the reused target is nullified, so only one of even and odd is set on each row
+            final long id = batch.getLong(row, 2) / 10;
+            assertEquals(id % 2 != 0, batch.isNull(row, 0));
+            assertEquals(id % 2 == 0, batch.isNull(row, 1));
+            assertEquals(id, batch.getLong(row, id % 2 == 0 ? 0 : 1));
+        }
+        assertEquals(10l, batch.getLong(0, 2));
+        assertEquals(70l, batch.getLong(4, 2));
+
+        final RecordBatch interpreted = new RecordBatch(newTemplate());
+        assertEquals(8, decoder.interpretAll(DESC, Arrays.asList(messages), interpreted));
+        assertEquals(true, interpreted.isNull(6, 1));
+        assertEquals(8l, interpreted.getLong(6, 0));
+        assertEquals(true, interpreted.isNull(7, 0));
+        assertEquals(9l, interpreted.getLong(7, 1));
+
+        final RecordBatch computed = new RecordBatch(newTemplate());
+        assertEquals(1, decoder.computeAll(DESC, messages, 6, 2, computed, false));
+        assertEquals(7l, computed.getLong(0, 2));
+        assertEquals(true, computed.isNull(0, 0));
+    }
+}
@@ -3,7 +3,10 @@ package com.exceeddata.ac.common.util.binary;
 import static org.junit.Assert.assertEquals;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -128,4 +131,27 @@ public class BinaryBigEndianUtilsTest {
         BinaryBigEndianUtils.ansiToBytes(strBytes, 0, 8, "123456789");
         assertEquals(BinaryBigEndianUtils.bytesToANSI(strBytes, 0, 8), "12345678");
     }
+
+    @Test
+    public void testOffsets() throws Exception {
+        final byte[] bytes = new byte[32];
+        new Random(29).nextBytes(bytes);
+        final ByteOrder order = ByteOrder.BIG_ENDIAN;
+        for (int offset = 0; offset <= bytes.length - 8; ++offset) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(order);
+            assertEquals(buffer.get(offset), BinaryBigEndianUtils.bytesToINT8(bytes, offset));
+            assertEquals(buffer.get(offset) & 0xFF, BinaryBigEndianUtils.bytesToUINT8int(bytes, offset));
+            assertEquals(buffer.getShort(offset), BinaryBigEndianUtils.bytesToINT16(bytes, (long) offset));
+            assertEquals(buffer.getShort(offset) & 0xFFFF, BinaryBigEndianUtils.bytesToUINT16(bytes, offset));
+            assertEquals(buffer.getInt(offset), BinaryBigEndianUtils.bytesToINT32(bytes, BigInteger.valueOf(offset)));
+            assertEquals(buffer.getInt(offset) & 0xFFFFFFFFl, BinaryBigEndianUtils.bytesToUINT32(bytes, offset));
+            assertEquals(buffer.getLong(offset), BinaryBigEndianUtils.bytesToINT64(bytes, offset));
+            assertEquals(buffer.getFloat(offset), BinaryBigEndianUtils.bytesToFloat(bytes, offset), 0f);
+            assertEquals(buffer.getDouble(offset), BinaryBigEndianUtils.bytesToReal(bytes, offset), 0d);
+            assertEquals(Long.toUnsignedString(buffer.getLong(offset)), BinaryBigEndianUtils.bytesToUINT64(bytes, offset).toString());
+            assertEquals(buffer.getLong(offset), BinaryBigEndianUtils.bytesToUINT64long(bytes, offset));
+            assertEquals(buffer.getLong(offset), BinaryBigEndianUtils.bytesToUINT64long(bytes, (long) offset));
+            assertEquals(buffer.getLong(offset), BinaryBigEndianUtils.bytesToUINT64long(bytes, BigInteger.valueOf(offset)));
+        }
+    }
 }
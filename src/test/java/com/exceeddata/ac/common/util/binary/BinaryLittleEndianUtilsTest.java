@@ -3,7 +3,10 @@ package com.exceeddata.ac.common.util.binary;
 import static org.junit.Assert.assertEquals;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -128,4 +131,27 @@ public class BinaryLittleEndianUtilsTest {
         BinaryLittleEndianUtils.ansiToBytes(strBytes, 0, 8, "123456789");
         assertEquals(BinaryLittleEndianUtils.bytesToANSI(strBytes, 0, 8), "12345678");
     }
+
+    @Test
+    public void testOffsets() throws Exception {
+        final byte[] bytes = new byte[32];
+        new Random(29).nextBytes(bytes);
+        final ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+        for (int offset = 0; offset <= bytes.length - 8; ++offset) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(order);
+            assertEquals(buffer.get(offset), BinaryLittleEndianUtils.bytesToINT8(bytes, offset));
+            assertEquals(buffer.get(offset) & 0xFF, BinaryLittleEndianUtils.bytesToUINT8int(bytes, offset));
+            assertEquals(buffer.getShort(offset), BinaryLittleEndianUtils.bytesToINT16(bytes, (long) offset));
+            assertEquals(buffer.getShort(offset) & 0xFFFF, BinaryLittleEndianUtils.bytesToUINT16(bytes, offset));
+            assertEquals(buffer.getInt(offset), BinaryLittleEndianUtils.bytesToINT32(bytes, BigInteger.valueOf(offset)));
+            assertEquals(buffer.getInt(offset) & 0xFFFFFFFFl, BinaryLittleEndianUtils.bytesToUINT32(bytes, offset));
+            assertEquals(buffer.getLong(offset), BinaryLittleEndianUtils.bytesToINT64(bytes, offset));
+            assertEquals(buffer.getFloat(offset), BinaryLittleEndianUtils.bytesToFloat(bytes, offset), 0f);
+            assertEquals(buffer.getDouble(offset), BinaryLittleEndianUtils.bytesToReal(bytes, offset), 0d);
+            assertEquals(Long.toUnsignedString(buffer.getLong(offset)), BinaryLittleEndianUtils.bytesToUINT64(bytes, offset).toString());
+            assertEquals(buffer.getLong(offset), BinaryLittleEndianUtils.bytesToUINT64long(bytes, offset));
+            assertEquals(buffer.getLong(offset), BinaryLittleEndianUtils.bytesToUINT64long(bytes, (long) offset));
+            assertEquals(buffer.getLong(offset), BinaryLittleEndianUtils.bytesToUINT64long(bytes, BigInteger.valueOf(offset)));
+        }
+    }
 }
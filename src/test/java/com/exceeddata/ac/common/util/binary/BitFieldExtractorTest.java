@@ -0,0 +1,99 @@
+package com.exceeddata.ac.common.util.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.exception.operation.ParameterValueException;
+import com.exceeddata.ac.common.message.MessagePacket;
+
+public class BitFieldExtractorTest {
+
+    private static int bit(final byte[] data, final int position) {
+        return (data[position >> 3] >> (position & 7)) & 1;
+    }
+
+    /** Walk the signal bit by bit in DBC numbering. */
+    private static long reference(final byte[] data, final int start, final int length, final boolean intel) {
+        long value = 0;
+        if (intel) {
+            for (int i = 0; i < length; ++i) {
+                value |= (long) bit(data, start + i) << i;
+            }
+        } else {
+            int position = start;
+            for (int i = length - 1; i >= 0; --i) {
+                value |= (long) bit(data, position) << i;
+                position = (position & 7) == 0 ? position + 15 : position - 1;
+            }
+        }
+        return value;
+    }
+
+    @Test
+    public void testLayouts() throws ParameterValueException {
+        final Random random = new Random(31);
+        final byte[] data = new byte[16];
+        for (int n = 0; n < 2000; ++n) {
+            random.nextBytes(data);
+            final boolean intel = random.nextBoolean();
+            final int length = 1 + random.nextInt(64);
+            final int start = intel ? random.nextInt(128 - length + 1) : 8 * random.nextInt(16 - (length + 7) / 8) + random.nextInt(8);
+            final BitFieldExtractor extractor = new BitFieldExtractor();
+            final int unsigned = extractor.add(start, length, intel, BitFieldExtractor.UNSIGNED);
+            final int signed = extractor.add(start, length, intel, BitFieldExtractor.SIGNED, 0.5d, -3d);
+
+            final long expected = reference(data, start, length, intel);
+            assertEquals(start + " " + length + " " + intel, expected, extractor.extractRaw(data, unsigned));
+            final long extended = length == 64 ? expected : (expected << (64 - length)) >> (64 - length);
+            assertEquals(extended, extractor.extractLong(data, signed));
+            assertEquals(extended * 0.5d - 3d, extractor.extractPhysical(data, signed), 1e-9 * Math.abs(extended));
+        }
+    }
+
+    @Test
+    public void testFrame() throws ParameterValueException {
+        final byte[] data = new byte[8];
+        BinaryLittleEndianUtils.floatToBytes(data, 0, 1.5f);
+        data[4] = (byte) 0x12;
+        data[5] = (byte) 0xFC;
+        data[6] = (byte) 0x80;
+
+        final BitFieldExtractor extractor = new BitFieldExtractor();
+        extractor.add(0, 32, true, BitFieldExtractor.FLOAT);
+        extractor.add(32, 12, true, BitFieldExtractor.SIGNED);
+        extractor.add(44, 4, true, BitFieldExtractor.UNSIGNED, 10d, 1d);
+        extractor.add(39, 16, false, BitFieldExtractor.UNSIGNED);
+        extractor.add(63, 8, false, BitFieldExtractor.UNSIGNED);
+        extractor.add(64, 8, true, BitFieldExtractor.UNSIGNED);
+
+        final double[] values = new double[extractor.size()];
+        final MessagePacket packet = new MessagePacket();
+        packet.setData(data);
+        packet.setDataLength(8);
+        assertEquals(5, extractor.extractAll(packet, values));
+        assertEquals(1.5d, values[0], 0d);
+        assertEquals((double) (0xC12 - 0x1000), values[1], 0d);
+        assertEquals(151d, values[2], 0d);
+        assertEquals((double) 0x12FC, values[3], 0d);
+        assertEquals(0d, values[4], 0d);
+        assertEquals(Double.NaN, values[5], 0d);
+
+        final long[] raws = new long[extractor.size()];
+        assertEquals(4, extractor.extractAllRaw(data, 6, raws));
+        assertEquals(0xC12l, raws[1]);
+
+        final BitFieldExtractor wide = new BitFieldExtractor();
+        wide.add(0, 64, true, BitFieldExtractor.UNSIGNED);
+        assertEquals(Math.pow(2, 64), wide.extractValue(new byte[] {-1, -1, -1, -1, -1, -1, -1, -1}, 0), 0d);
+        try {
+            wide.add(0, 16, true, BitFieldExtractor.FLOAT);
+            fail();
+        } catch (ParameterValueException e) {
+            assertEquals("BINARY_SIGNAL_LAYOUT_INVALID: start 0 length 16", e.getMessage());
+        }
+    }
+}
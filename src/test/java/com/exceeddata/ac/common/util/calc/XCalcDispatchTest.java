@@ -0,0 +1,84 @@
+package com.exceeddata.ac.common.util.calc;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.typedata.DecimalData;
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.FloatData;
+import com.exceeddata.ac.common.data.typedata.IntData;
+import com.exceeddata.ac.common.data.typedata.LongData;
+import com.exceeddata.ac.common.data.typedata.NumericData;
+import com.exceeddata.ac.common.data.typedata.StringData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+public class XCalcDispatchTest {
+    private final TypeData[] datas = {
+            IntData.valueOf(0), IntData.valueOf(1), IntData.valueOf(-7), IntData.valueOf(12), IntData.NULL,
+            LongData.valueOf(3l), LongData.valueOf(Long.MAX_VALUE), LongData.valueOf(Long.MIN_VALUE), LongData.valueOf(-24l), LongData.NULL,
+            FloatData.valueOf(1.1f), FloatData.valueOf(-2.5f), FloatData.NULL,
+            DoubleData.valueOf(0.3d), DoubleData.valueOf(-1e10d), DoubleData.valueOf(2d), DoubleData.NULL,
+            new NumericData(3.75d), NumericData.NULL,
+            DecimalData.valueOf(new BigDecimal("1.5")), StringData.valueOf("6")};
+
+    @Test
+    public void testSameAsGeneral() throws EngineException {
+        for (final TypeData d1 : datas) {
+            for (final TypeData d2 : datas) {
+                for (final boolean nullAsZero : new boolean[] {false, true}) {
+                    assertSame(() -> XCalcAdd.add(d1, d2, true, nullAsZero), XCalcDispatch.add(true, nullAsZero), d1, d2);
+                    assertSame(() -> XCalcSubtract.subtract(d1, d2, nullAsZero), XCalcDispatch.subtract(nullAsZero), d1, d2);
+                    assertSame(() -> XCalcMultiply.multiply(d1, d2, nullAsZero), XCalcDispatch.multiply(nullAsZero), d1, d2);
+                    assertSame(() -> XCalcDivide.divide(d1, d2, nullAsZero), XCalcDispatch.divide(nullAsZero), d1, d2);
+                    if (!(d2 instanceof LongData) || d2.isNull() || Math.abs(d2.longValue()) < 100l) {
+                        assertSame(() -> XCalcPower.power(d1, d2, nullAsZero), XCalcDispatch.power(nullAsZero), d1, d2);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testApplyArrays() throws EngineException {
+        final int len = 1000;
+        final TypeData[] a = new TypeData[len], b = new TypeData[len], out = new TypeData[len];
+        for (int i = 0; i < len; ++i) {
+            a[i] = i % 3 == 0 ? LongData.valueOf(i) : IntData.valueOf(i);
+            b[i] = i % 5 == 0 ? DoubleData.valueOf(i / 4d) : i % 7 == 0 ? IntData.NULL : IntData.valueOf(i % 11);
+        }
+        XCalcDispatch.add(true, true).apply(a, b, out);
+        for (int i = 0; i < len; ++i) {
+            assertEquals(XCalcAdd.add(a[i], b[i], true, true), out[i]);
+        }
+        XCalcDispatch.multiply(false).apply(a, b, out);
+        for (int i = 0; i < len; ++i) {
+            assertEquals(XCalcMultiply.multiply(a[i], b[i], false), out[i]);
+        }
+    }
+
+    private static void assertSame(final Calculation general, final XCalcDispatch table, final TypeData d1, final TypeData d2) throws EngineException {
+        final TypeData expected;
+        try {
+            expected = general.calculate();
+        } catch (Exception e) {
+            try {
+                table.apply(d1, d2);
+            } catch (Exception e2) {
+                assertEquals(d1 + ", " + d2, e.getMessage(), e2.getMessage());
+                return;
+            }
+            throw new AssertionError(d1 + ", " + d2 + " did not throw " + e.getMessage());
+        }
+        final TypeData actual = table.apply(d1, d2);
+        assertEquals(d1 + ", " + d2, expected.getType(), actual.getType());
+        assertEquals(d1 + ", " + d2, expected, actual);
+    }
+
+    private interface Calculation {
+        TypeData calculate() throws EngineException;
+    }
+}
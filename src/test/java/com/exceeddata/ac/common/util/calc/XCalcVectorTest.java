@@ -0,0 +1,109 @@
+package com.exceeddata.ac.common.util.calc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.data.typedata.DoubleData;
+import com.exceeddata.ac.common.data.typedata.TypeData;
+import com.exceeddata.ac.common.exception.EngineException;
+
+public class XCalcVectorTest {
+    private static final int LENGTH = 200;
+
+    private final double[] a = new double[LENGTH], b = new double[LENGTH], out = new double[LENGTH];
+    private final long[] an = new long[XCalcVector.words(LENGTH)], bn = new long[XCalcVector.words(LENGTH)], on = new long[XCalcVector.words(LENGTH)];
+
+    public XCalcVectorTest() {
+        final Random random = new Random(7);
+        for (int i = 0; i < LENGTH; ++i) {
+            a[i] = i % 13 == 0 ? 0d : random.nextInt(200) / 8d - 12d;
+            b[i] = i % 11 == 0 ? 0d : random.nextInt(200) / 8d - 12d;
+            if (i % 7 == 0) {
+                an[i >>> 6] |= 1l << i;
+                a[i] = 99d; //garbage of a null row
+            }
+            if (i % 5 == 0) {
+                bn[i >>> 6] |= 1l << i;
+            }
+        }
+    }
+
+    @Test
+    public void testBinary() throws EngineException {
+        for (final boolean nullAsZero : new boolean[] {false, true}) {
+            XCalcVector.add(a, an, b, bn, out, on, LENGTH, nullAsZero);
+            check(out, on, (d1, d2) -> XCalcAdd.add(d1, d2, true, nullAsZero));
+            XCalcVector.subtract(a, an, b, bn, out, on, LENGTH, nullAsZero);
+            check(out, on, (d1, d2) -> XCalcSubtract.subtract(d1, d2, nullAsZero));
+            XCalcVector.multiply(a, an, b, bn, out, on, LENGTH, nullAsZero);
+            check(out, on, (d1, d2) -> XCalcMultiply.multiply(d1, d2, nullAsZero));
+            XCalcVector.divide(a, an, b, bn, out, on, LENGTH, nullAsZero);
+            check(out, on, (d1, d2) -> XCalcDivide.divide(d1, d2, nullAsZero));
+            XCalcVector.power(a, an, b, bn, out, on, LENGTH, nullAsZero);
+            check(out, on, (d1, d2) -> XCalcPower.power(d1, d2, nullAsZero));
+        }
+        XCalcVector.atan2(a, an, b, bn, out, on, LENGTH);
+        check(out, on, XCalcTrigonometry::atan2);
+    }
+
+    @Test
+    public void testUnary() throws EngineException {
+        XCalcVector.sin(a, an, out, on, LENGTH);
+        check(out, on, (d1, d2) -> XCalcTrigonometry.sin(d1));
+        XCalcVector.tanh(a, an, out, on, LENGTH);
+        check(out, on, (d1, d2) -> XCalcTrigonometry.tanh(d1));
+
+        final double[] x = {0.5d, 1.00001d, -1.2d, 2d};
+        final double[] y = new double[x.length];
+        final long[] yn = new long[1];
+        XCalcVector.asin(x, null, y, yn, x.length, null);
+        assertEquals(Math.asin(0.5d), y[0], 0d);
+        assertEquals(0b1110l, yn[0]);
+        XCalcVector.acos(x, null, y, yn, x.length, 2);
+        assertEquals(Math.acos(1d), y[1], 0d);
+        assertEquals(0b1100l, yn[0]);
+    }
+
+    @Test
+    public void testLongs() throws EngineException {
+        final long[] x = {1l, 2l, Long.MAX_VALUE, 5l, 1l << 40}, y = {3l, -4l, 1l, 6l, 1l << 20}, z = new long[x.length];
+        final long[] xn = {0b00100l}, zn = new long[1];
+        XCalcVector.add(x, xn, y, null, z, zn, x.length, false);
+        assertEquals(4l, z[0]);
+        assertEquals(-2l, z[1]);
+        assertEquals(0b00100l, zn[0]);
+        XCalcVector.add(x, xn, y, null, z, zn, x.length, true);
+        assertEquals(1l, z[2]);
+        assertEquals(0l, zn[0]);
+        XCalcVector.multiply(x, xn, y, null, z, zn, x.length, false);
+        assertEquals(1l << 60, z[4]);
+
+        try {
+            XCalcVector.add(x, null, y, null, z, zn, x.length, false);
+            fail();
+        } catch (EngineException e) {
+            assertEquals("DATA_ADD_OVERFLOW: " + Long.MAX_VALUE + " + 1", e.getMessage());
+        }
+        try {
+            XCalcVector.multiply(x, null, x, null, z, zn, x.length, false);
+            fail();
+        } catch (EngineException e) {
+            assertEquals("DATA_MULTIPLY_OVERFLOW: " + Long.MAX_VALUE + " x " + Long.MAX_VALUE, e.getMessage());
+        }
+    }
+
+    private void check(final double[] values, final long[] nulls, final BinaryOp scalar) throws EngineException {
+        for (int i = 0; i < LENGTH; ++i) {
+            final TypeData d1 = (an[i >>> 6] & (1l << i)) != 0 ? DoubleData.NULL : DoubleData.valueOf(a[i]);
+            final TypeData d2 = (bn[i >>> 6] & (1l << i)) != 0 ? DoubleData.NULL : DoubleData.valueOf(b[i]);
+            final TypeData expected = scalar.apply(d1, d2);
+            final boolean isnull = (nulls[i >>> 6] & (1l << i)) != 0;
+            assertEquals(d1 + ", " + d2, expected.isNull(), isnull);
+            assertEquals(d1 + ", " + d2, expected.isNull() ? 0d : expected.doubleValue(), values[i], 1e-9 * Math.max(1d, Math.abs(values[i])));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.exceeddata.ac.common.util.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+
+public class BulkReadTest {
+    private static final int SIZE = 40000;
+
+    @Test
+    public void testSeekableReaders() throws IOException {
+        final byte[] bytes = new byte[SIZE];
+        new Random(29).nextBytes(bytes);
+        final File file = File.createTempFile("bulk", ".bin");
+        try {
+            Files.write(file.toPath(), bytes);
+            compare(new LittleEndianSeekableBytesReader(bytes), new LittleEndianSeekableBytesReader(bytes));
+            compare(new BigEndianSeekableBytesReader(bytes), new BigEndianSeekableBytesReader(bytes));
+            compare(new LittleEndianSeekableBytesReader(bytes), new LittleEndianSeekableFileReader(new RandomAccessFile(file, "r")));
+            compare(new BigEndianSeekableBytesReader(bytes), new BigEndianSeekableFileReader(new RandomAccessFile(file, "r")));
+            for (final long window : new long[] {0l, 1l, 13l, 1000l}) {
+                compare(new LittleEndianSeekableBytesReader(bytes),
+                        new MappedSeekableFileReader(new RandomAccessFile(file, "r"), ByteOrder.LITTLE_ENDIAN, window));
+                compare(new BigEndianSeekableBytesReader(bytes),
+                        new MappedSeekableFileReader(new RandomAccessFile(file, "r"), ByteOrder.BIG_ENDIAN, window));
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testStreamReaders() throws IOException {
+        final byte[] bytes = new byte[SIZE];
+        new Random(31).nextBytes(bytes);
+        compare(new LittleEndianSeekableBytesReader(bytes), new LittleEndianInputStreamReader(new ByteArrayInputStream(bytes)));
+        compare(new BigEndianSeekableBytesReader(bytes), new BigEndianInputStreamReader(new ByteArrayInputStream(bytes)));
+    }
+
+    private static void compare(final BinarySeekableReader expected, final BinarySeekableReader reader) throws IOException {
+        final short[] shorts = new short[3001];
+        final int[] ints = new int[2003];
+        final long[] longs = new long[800];
+        final float[] floats = new float[1000];
+        final double[] doubles = new double[501];
+        final byte[] data = new byte[9000];
+
+        reader.readINT16s(shorts, 1, 3000);
+        reader.readINT32s(ints, 0, 2003);
+        reader.readBytes(data, 7, 8993);
+        reader.readINT64s(longs, 0, 800);
+        reader.readFloats(floats, 0, 1000);
+        reader.readDoubles(doubles, 1, 500);
+        for (int i = 1; i < shorts.length; ++i) {
+            assertEquals(expected.readINT16(), shorts[i]);
+        }
+        for (int i = 0; i < ints.length; ++i) {
+            assertEquals(expected.readINT32(), ints[i]);
+        }
+        assertArrayEquals(expected.readBytes(8993), Arrays.copyOfRange(data, 7, 9000));
+        for (int i = 0; i < longs.length; ++i) {
+            assertEquals(expected.readINT64(), longs[i]);
+        }
+        for (int i = 0; i < floats.length; ++i) {
+            assertEquals(Float.floatToRawIntBits(expected.readFloat()), Float.floatToRawIntBits(floats[i]));
+        }
+        for (int i = 1; i < doubles.length; ++i) {
+            assertEquals(Double.doubleToRawLongBits(expected.readDouble()), Double.doubleToRawLongBits(doubles[i]));
+        }
+        assertEquals(expected.getPos(), reader.getPos());
+
+        try {
+            reader.readINT32s(ints, 0, SIZE);
+            fail("expected EOF");
+        } catch (BinaryEOFException e) {
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void compare(final BinarySeekableReader expected, final BinaryStreamReader reader) throws IOException {
+        final double[] doubles = new double[3000];
+        final short[] shorts = new short[5000];
+        final byte[] data = new byte[100];
+
+        reader.readDoubles(doubles, 0, 3000);
+        reader.readBytes(data, 0, 100);
+        reader.readINT16s(shorts, 0, 5000);
+        for (int i = 0; i < doubles.length; ++i) {
+            assertEquals(Double.doubleToRawLongBits(expected.readDouble()), Double.doubleToRawLongBits(doubles[i]));
+        }
+        assertArrayEquals(expected.readBytes(100), data);
+        for (int i = 0; i < shorts.length; ++i) {
+            assertEquals(expected.readINT16(), shorts[i]);
+        }
+        assertEquals(expected.getPos(), reader.getSizeRead());
+
+        try {
+            reader.readFloats(new float[SIZE], 0, SIZE);
+            fail("expected EOF");
+        } catch (BinaryEOFException e) {
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.exceeddata.ac.common.util.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+import com.exceeddata.ac.common.exception.binary.BinaryMarkException;
+
+public class InputStreamReaderTest {
+
+    /**
+     * A stream returning at most a few bytes per read, like a network or decompression stream.
+     */
+    private static final class TrickleInputStream extends ByteArrayInputStream {
+        private final Random random = new Random(37);
+
+        TrickleInputStream(final byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(final byte[] b, final int off, final int len) {
+            return super.read(b, off, Math.min(len, 1 + random.nextInt(3)));
+        }
+    }
+
+    @Test
+    public void testPartialReads() throws IOException {
+        final byte[] bytes = new byte[5000];
+        new Random(41).nextBytes(bytes);
+        for (final int bufferSize : new int[] {0, 16, 100}) {
+            compare(new LittleEndianSeekableBytesReader(bytes), new LittleEndianInputStreamReader(new TrickleInputStream(bytes), bufferSize));
+            compare(new BigEndianSeekableBytesReader(bytes), new BigEndianInputStreamReader(new TrickleInputStream(bytes), bufferSize));
+        }
+    }
+
+    private static void compare(final BinarySeekableReader expected, final BinaryStreamReader reader) throws IOException {
+        final Random random = new Random(43);
+        try {
+            while (expected.getPos() < 4800) {
+                switch (random.nextInt(8)) {
+                    case 0: assertEquals(expected.readINT8(), reader.readINT8()); break;
+                    case 1: assertEquals(expected.readINT16(), reader.readINT16()); break;
+                    case 2: assertEquals(expected.readINT32(), reader.readINT32()); break;
+                    case 3: assertEquals(expected.readINT64(), reader.readINT64()); break;
+                    case 4: assertEquals(expected.readUINT32(), reader.readUINT32()); break;
+                    case 5: assertEquals(expected.readUINT64(), reader.readUINT64()); break;
+                    case 6: assertEquals(expected.readDouble(), reader.readDouble(), 0d); break;
+                    default:
+                        final int len = random.nextInt(300);
+                        assertArrayEquals(expected.readBytes(len), reader.readBytes(len));
+                }
+                assertEquals(expected.getPos(), reader.getSizeRead());
+            }
+            reader.readBytes((int) (5000 - expected.getPos()));
+            reader.readBool();
+            fail("expected EOF");
+        } catch (BinaryEOFException e) {
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testPeekAndMark() throws IOException {
+        final byte[] bytes = new byte[200];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+        final LittleEndianInputStreamReader reader = new LittleEndianInputStreamReader(new TrickleInputStream(bytes), 16);
+        reader.readINT16();
+        assertArrayEquals(Arrays.copyOfRange(bytes, 2, 42), reader.peekBytes(40));
+        assertEquals(2, reader.getSizeRead());
+        assertEquals(0x0302, reader.readINT16());
+
+        reader.mark(100);
+        assertArrayEquals(Arrays.copyOfRange(bytes, 4, 94), reader.readBytes(90));
+        reader.reset();
+        assertEquals(4, reader.getSizeRead());
+        assertEquals(0x07060504, reader.readINT32());
+
+        reader.mark(4);
+        reader.readINT64();
+        try {
+            reader.readINT64();
+            reader.reset();
+            fail("expected invalid mark");
+        } catch (BinaryMarkException e) {
+        }
+        assertEquals(24, reader.readUINT8());
+        reader.close();
+    }
+
+    @Test
+    public void testLargeReads() throws IOException {
+        final byte[] bytes = new byte[100000];
+        new Random(47).nextBytes(bytes);
+        final InputStream stream = new ByteArrayInputStream(bytes);
+        final BigEndianInputStreamReader reader = new BigEndianInputStreamReader(stream, 64);
+        final BigEndianSeekableBytesReader expected = new BigEndianSeekableBytesReader(bytes);
+        assertEquals(expected.readINT32(), reader.readINT32());
+        assertArrayEquals(expected.readBytes(50000), reader.readBytes(50000));
+        final byte[] data = new byte[40000];
+        reader.readBytes(data, 0, 40000);
+        assertArrayEquals(expected.readBytes(40000), data);
+        assertEquals(expected.readINT64(), reader.readINT64());
+        assertEquals(90012, reader.getSizeRead());
+        reader.close();
+    }
+}
@@ -0,0 +1,99 @@
+package com.exceeddata.ac.common.util.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.exceeddata.ac.common.exception.binary.BinaryEOFException;
+
+public class MappedSeekableFileReaderTest {
+
+    @Test
+    public void testReads() throws IOException {
+        final byte[] bytes = new byte[3000];
+        new Random(19).nextBytes(bytes);
+        bytes[100] = 'a';
+        bytes[101] = 'b';
+        bytes[102] = 0;
+        final File file = File.createTempFile("mapped", ".bin");
+        try {
+            Files.write(file.toPath(), bytes);
+            for (final long window : new long[] {0l, 1l, 7l, 13l, 64l}) {
+                compare(new LittleEndianSeekableFileReader(new RandomAccessFile(file, "r")),
+                        new MappedSeekableFileReader(new RandomAccessFile(file, "r"), ByteOrder.LITTLE_ENDIAN, window));
+                compare(new BigEndianSeekableFileReader(new RandomAccessFile(file, "r")),
+                        new MappedSeekableFileReader(new RandomAccessFile(file, "r"), ByteOrder.BIG_ENDIAN, window));
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static void compare(final BinarySeekableReader expected, final MappedSeekableFileReader reader) throws IOException {
+        try {
+            final Random random = new Random(23);
+            for (int n = 0; n < 2000; ++n) {
+                final long pos = random.nextInt(2900);
+                expected.seek(pos);
+                reader.seek(pos);
+                switch (random.nextInt(14)) {
+                    case 0: assertEquals(expected.readBool(), reader.readBool()); break;
+                    case 1: assertEquals(expected.readINT8(), reader.readINT8()); break;
+                    case 2: assertEquals(expected.readINT16(), reader.readINT16()); break;
+                    case 3: assertEquals(expected.readINT32(), reader.readINT32()); break;
+                    case 4: assertEquals(expected.readINT64(), reader.readINT64()); break;
+                    case 5: assertEquals(expected.readUINT8(), reader.readUINT8()); break;
+                    case 6: assertEquals(expected.readUINT16(), reader.readUINT16()); break;
+                    case 7: assertEquals(expected.readUINT32(), reader.readUINT32()); break;
+                    case 8: assertEquals(expected.readUINT64(), reader.readUINT64()); break;
+                    case 9: assertEquals(expected.readDouble(), reader.readDouble(), 0d); break;
+                    case 10: assertEquals(expected.readFloat(), reader.readFloat(), 0f); break;
+                    case 11: assertArrayEquals(expected.readBytes(50), reader.readBytes(50)); break;
+                    case 12: assertEquals(expected.readANSI(7), reader.readANSI(7)); break;
+                    default:
+                        expected.skipBytes(20);
+                        reader.skipBytes(20);
+                }
+                assertEquals(expected.getPos(), reader.getPos());
+            }
+
+            reader.seek(98);
+            reader.skipBytes(2);
+            assertEquals("ab", reader.readANSI(4));
+            reader.seek(2996);
+            assertEquals(2996, reader.getPos());
+            try {
+                reader.readINT64();
+                fail();
+            } catch (BinaryEOFException e) {
+                assertEquals(2996, reader.getPos());
+            }
+
+            //seek past the end is allowed like RandomAccessFile, the read fails
+            expected.seek(3010);
+            reader.seek(3010);
+            assertEquals(expected.getPos(), reader.getPos());
+            try {
+                reader.readINT8();
+                fail();
+            } catch (BinaryEOFException e) {
+                assertEquals(3010, reader.getPos());
+            }
+            reader.seek(10);
+            expected.seek(10);
+            assertEquals(expected.readINT64(), reader.readINT64());
+        } finally {
+            expected.close();
+            reader.close();
+        }
+    }
+}